@@ -4,12 +4,26 @@ import com.elice.tripnote.domain.admin.service.AdminService;
 import com.elice.tripnote.domain.member.entity.MemberResponseDTO;
 import com.elice.tripnote.domain.member.repository.MemberRepository;
 import com.elice.tripnote.domain.member.service.MemberService;
+import com.elice.tripnote.domain.spot.naver.NaverSearchCache;
+import com.elice.tripnote.domain.spot.dto.SpotImportResultDTO;
+import com.elice.tripnote.domain.spot.naver.dto.NaverCacheStats;
+import com.elice.tripnote.domain.spot.service.SpotImportService;
+import com.elice.tripnote.global.exception.CustomException;
+import com.elice.tripnote.global.exception.ErrorCode;
 import com.elice.tripnote.global.annotation.AdminRole;
+import com.elice.tripnote.global.entity.HttpClientStatsDTO;
 import com.elice.tripnote.global.entity.PageRequestDTO;
+import com.elice.tripnote.global.interceptor.HttpClientMetricsInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -18,6 +32,9 @@ public class    AdminController implements SwaggerAdminController{
 
     private final AdminService adminService;
     private final MemberRepository memberRepository;
+    private final NaverSearchCache naverSearchCache;
+    private final HttpClientMetricsInterceptor httpClientMetricsInterceptor;
+    private final SpotImportService spotImportService;
 
     // 멤버 전체 조회
     //@Override
@@ -43,4 +60,37 @@ public class    AdminController implements SwaggerAdminController{
         adminService.restoreMember(email);
         return ResponseEntity.ok().build();
     }
+
+    // 네이버 검색 캐시 적중률/지연 시간 조회
+    @Override
+    @AdminRole
+    @GetMapping("/naver-cache")
+    public ResponseEntity<NaverCacheStats> getNaverCacheStats() {
+        return ResponseEntity.ok(naverSearchCache.getStats());
+    }
+
+    // 외부 API(네이버, 카카오) 호스트별 호출 통계와 커넥션 풀 상태 조회
+    @Override
+    @AdminRole
+    @GetMapping("/http-clients")
+    public ResponseEntity<List<HttpClientStatsDTO>> getHttpClientStats() {
+        return ResponseEntity.ok(httpClientMetricsInterceptor.getStats());
+    }
+
+    // 여행지 CSV/JSON 파일 가져오기 (format이 없으면 파일 확장자로 정한다)
+    @Override
+    @AdminRole
+    @PostMapping("/spots/import")
+    public ResponseEntity<SpotImportResultDTO> importSpots(@RequestParam("file") MultipartFile file,
+                                                           @RequestParam(name = "format", required = false) String format) {
+        String filename = file.getOriginalFilename();
+        if (format == null && filename != null && filename.contains(".")) {
+            format = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        }
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(spotImportService.importSpots(input, format));
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INVALID_IMPORT_FILE);
+        }
+    }
 }
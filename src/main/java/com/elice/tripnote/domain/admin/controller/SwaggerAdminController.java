@@ -1,6 +1,9 @@
 package com.elice.tripnote.domain.admin.controller;
 
 import com.elice.tripnote.domain.member.entity.MemberResponseDTO;
+import com.elice.tripnote.domain.spot.dto.SpotImportResultDTO;
+import com.elice.tripnote.domain.spot.naver.dto.NaverCacheStats;
+import com.elice.tripnote.global.entity.HttpClientStatsDTO;
 import com.elice.tripnote.global.entity.PageRequestDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,7 +16,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
 
 @Tag(name = "Admin API", description = "관리자 API입니다.")
 public interface SwaggerAdminController {
@@ -50,5 +57,31 @@ public interface SwaggerAdminController {
     @DeleteMapping("/restore-member")
     ResponseEntity<Void> restoreMember(@RequestParam String email);
 
+    @Operation(summary = "네이버 검색 캐시 통계", description = "네이버 지역/이미지 검색 캐시의 적중률과 API 호출 시간을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "캐시 통계 조회에 성공하였습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = NaverCacheStats.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자입니다. (토큰 값이 제대로 전달되었는지 확인이 필요합니다.)"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한이 없습니다.")
+    })
+    @GetMapping("/naver-cache")
+    ResponseEntity<NaverCacheStats> getNaverCacheStats();
 
+    @Operation(summary = "외부 API 호출 통계", description = "네이버/카카오 등 외부 호스트별 응답 시간 분포, 오류 수, 커넥션 풀 상태를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "호출 통계 조회에 성공하였습니다.", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자입니다. (토큰 값이 제대로 전달되었는지 확인이 필요합니다.)"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한이 없습니다.")
+    })
+    @GetMapping("/http-clients")
+    ResponseEntity<List<HttpClientStatsDTO>> getHttpClientStats();
+
+    @Operation(summary = "여행지 가져오기", description = "CSV/JSON 파일의 여행지를 (지역, 이름) 기준으로 추가하거나 수정합니다. CSV는 location, region, address, lat, lng, imageUrl 헤더가 필요합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "여행지 가져오기에 성공하였습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SpotImportResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "가져올 수 없는 파일입니다."),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자입니다. (토큰 값이 제대로 전달되었는지 확인이 필요합니다.)"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한이 없습니다.")
+    })
+    @PostMapping("/spots/import")
+    ResponseEntity<SpotImportResultDTO> importSpots(@RequestParam("file") MultipartFile file, @RequestParam(name = "format", required = false) String format);
 }
@@ -5,13 +5,13 @@ import com.elice.tripnote.domain.comment.entity.CommentResponseDTO;
 import com.elice.tripnote.domain.comment.entity.QComment;
 import com.elice.tripnote.domain.member.entity.QMember;
 import com.elice.tripnote.global.entity.PageRequestDTO;
+import com.elice.tripnote.global.util.CountCache;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
@@ -23,6 +23,7 @@ public class CustomCommentRepositoryImpl implements CustomCommentRepository{
 
     private final EntityManager em;
     private final JPAQueryFactory query;
+    private final CountCache countCache;
 
 
     private final QComment comment = QComment.comment;
@@ -64,12 +65,6 @@ public class CustomCommentRepositoryImpl implements CustomCommentRepository{
         OrderSpecifier<?> orderSpecifier = getOrderSpecifier(pageRequestDTO.getOrder(), pageRequestDTO.isAsc());
 
 
-        Long totalCount = query
-                .select(comment.count())
-                .from(comment)
-                .where(comment.post.id.eq(postId)
-                        .and(comment.isDeleted.isFalse()))
-                .fetchFirst();
 
 
         List<CommentResponseDTO> commentResponseDTOs = query
@@ -90,7 +85,12 @@ public class CustomCommentRepositoryImpl implements CustomCommentRepository{
                 .limit(pageRequest.getPageSize())
                 .fetch();
 
-        return new PageImpl<>(commentResponseDTOs, pageRequest, totalCount);
+        return countCache.page(commentResponseDTOs, pageRequest, CountCache.COMMENT, "post:" + postId, () -> query
+                .select(comment.count())
+                .from(comment)
+                .where(comment.post.id.eq(postId)
+                        .and(comment.isDeleted.isFalse()))
+                .fetchFirst());
     }
 
 
@@ -102,12 +102,6 @@ public class CustomCommentRepositoryImpl implements CustomCommentRepository{
 
         Long memberId = commentId != null? query.select(member.id).from(member).join(member.comments, comment).where(comment.id.eq(commentId)).fetchFirst() : null;
 
-        Long totalCount =query
-                .select(comment.count())
-                .from(comment)
-                .join(comment.member, member)
-                .where(memberId != null ? member.id.eq(memberId) : null)
-                .fetchFirst();
 
 
         List<CommentResponseDTO> commentResponseDTOs = query
@@ -127,7 +121,12 @@ public class CustomCommentRepositoryImpl implements CustomCommentRepository{
                 .limit(pageRequest.getPageSize())
                 .fetch();
 
-        return new PageImpl<>(commentResponseDTOs, pageRequest, totalCount);
+        return countCache.page(commentResponseDTOs, pageRequest, CountCache.COMMENT, "admin:" + memberId, () -> query
+                .select(comment.count())
+                .from(comment)
+                .join(comment.member, member)
+                .where(memberId != null ? member.id.eq(memberId) : null)
+                .fetchFirst());
     }
 
     public Page<CommentResponseDTO> customFindComments(String nickname, PageRequestDTO pageRequestDTO){
@@ -136,18 +135,9 @@ public class CustomCommentRepositoryImpl implements CustomCommentRepository{
         OrderSpecifier<?> orderSpecifier = getOrderSpecifier(pageRequestDTO.getOrder(), pageRequestDTO.isAsc());
 
 
-        Long memberId = query.select(member.id).from(member).where(member.nickname.eq(nickname)).fetchFirst();
+        Long foundId = query.select(member.id).from(member).where(member.nickname.eq(nickname)).fetchFirst();
+        Long memberId = foundId != null ? foundId : -1L;
 
-        if(memberId == null){
-            memberId = -1L;
-        }
-
-        Long totalCount =query
-                .select(comment.count())
-                .from(comment)
-                .join(comment.member, member)
-                .where(member.id.eq(memberId))
-                .fetchFirst();
 
 
         List<CommentResponseDTO> commentResponseDTOs = query
@@ -167,7 +157,12 @@ public class CustomCommentRepositoryImpl implements CustomCommentRepository{
                 .limit(pageRequest.getPageSize())
                 .fetch();
 
-        return new PageImpl<>(commentResponseDTOs, pageRequest, totalCount);
+        return countCache.page(commentResponseDTOs, pageRequest, CountCache.COMMENT, "admin:" + memberId, () -> query
+                .select(comment.count())
+                .from(comment)
+                .join(comment.member, member)
+                .where(member.id.eq(memberId))
+                .fetchFirst());
     }
 
 
@@ -13,6 +13,7 @@ import com.elice.tripnote.domain.post.repository.PostRepository;
 import com.elice.tripnote.global.entity.PageRequestDTO;
 import com.elice.tripnote.global.exception.CustomException;
 import com.elice.tripnote.global.exception.ErrorCode;
+import com.elice.tripnote.global.util.CountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -29,6 +30,7 @@ public class CommentService {
     private final ReportCommentRepository reportCommentRepository;
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
+    private final CountCache countCache;
 
 
     // 게시글에서 게시글에 해당하는 댓글을 페이지 형태로 불러올 때 사용하는 메서드. 삭제되지 않은 댓글만 불러옵니다.
@@ -100,6 +102,7 @@ public class CommentService {
         commentRepository.save(comment);
         post.getComments().add(comment);
         member.getComments().add(comment);
+        countCache.invalidate(CountCache.COMMENT);
 
 
         return getComment(comment.getId());
@@ -170,6 +173,7 @@ public class CommentService {
 
         comment.delete();
         commentRepository.save(comment);
+        countCache.invalidate(CountCache.COMMENT);
 
     }
 
@@ -183,6 +187,7 @@ public class CommentService {
         comment.delete();
 
         commentRepository.save(comment);
+        countCache.invalidate(CountCache.COMMENT);
 
     }
 
@@ -192,6 +197,7 @@ public class CommentService {
     public void deleteCommentsByPostId(Long postId) {
 
         commentRepository.customDeleteCommentsByPostId(postId);
+        countCache.invalidate(CountCache.COMMENT);
     }
 
 
@@ -4,6 +4,7 @@ import com.elice.tripnote.domain.hashtag.entity.HashtagDTO;
 import com.elice.tripnote.domain.hashtag.entity.HashtagResponseDTO;
 import com.elice.tripnote.domain.hashtag.entity.QHashtag;
 import com.elice.tripnote.global.entity.PageRequestDTO;
+import com.elice.tripnote.global.util.CountCache;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -21,6 +22,7 @@ import java.util.List;
 public class HashtagCustomRepositoryImpl implements HashtagCustomRepository {
 
     private final JPAQueryFactory query;
+    private final CountCache countCache;
 
     private final QHashtag hashtag = new QHashtag("hashtag");
 
@@ -56,13 +58,12 @@ public class HashtagCustomRepositoryImpl implements HashtagCustomRepository {
                 .limit(pageRequest.getPageSize())
                 .fetch();
 
-        long totalCount = query
-                .select(hashtag.count())
-                .from(hashtag)
-                .fetchFirst();
 
 
-        return new PageImpl<>(hashtagDTOS, pageRequest, totalCount);
+        return countCache.page(hashtagDTOS, pageRequest, CountCache.HASHTAG, "all", () -> query
+                .select(hashtag.count())
+                .from(hashtag)
+                .fetchFirst());
     }
 
     private OrderSpecifier<?> getOrderSpecifier(String order, boolean asc) {   //정렬 방식 정하기
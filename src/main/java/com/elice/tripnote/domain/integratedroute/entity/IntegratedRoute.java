@@ -15,7 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "integrated_route")
+@Table(name = "integrated_route", uniqueConstraints = {@UniqueConstraint(name = "uk_integrated_route_fingerprint", columnNames = {"fingerprint"})})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class IntegratedRoute {
@@ -27,6 +27,10 @@ public class IntegratedRoute {
     @Column(name = "integrated_routes", nullable = false)
     String integratedRoutes;
 
+    // 여행지 id 순서로 만든 16바이트 지문 (RouteFingerprint)
+    @Column(name = "fingerprint", columnDefinition = "BINARY(16)")
+    byte[] fingerprint;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "region", nullable = true)
     Region region;
@@ -35,6 +39,10 @@ public class IntegratedRoute {
     @Column(nullable = false)
     RouteStatus routeStatus;
 
+    // 좋아요/북마크와 여행지 순서를 대표하는 경로 id
+    @Column(name = "representative_route_id")
+    Long representativeRouteId;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "integratedRoute")
     @JsonIgnore
     List<UUIDHashtag> uuidHashtags = new ArrayList<>();
@@ -58,5 +66,17 @@ public class IntegratedRoute {
         this.likeBookmarkPeriods = likeBookmarkPeriods;
     }
 
+    public void assignFingerprint(byte[] fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public void updateRepresentativeRoute(Long routeId) {
+        this.representativeRouteId = routeId;
+    }
+
+    public void updateStatus(RouteStatus status) {
+        this.routeStatus = status;
+    }
+
 
 }
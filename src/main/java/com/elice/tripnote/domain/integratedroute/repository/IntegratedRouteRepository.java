@@ -1,12 +1,21 @@
 package com.elice.tripnote.domain.integratedroute.repository;
 
 import com.elice.tripnote.domain.integratedroute.entity.IntegratedRoute;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 
 public interface IntegratedRouteRepository extends JpaRepository<IntegratedRoute, Long>, CustomIntegratedRouteRepository{
-    Optional<IntegratedRoute> findByIntegratedRoutes(String integratedRoutes);
+    Optional<IntegratedRoute> findByFingerprint(byte[] fingerprint);
+
+    // 잠금 조회 (다른 트랜잭션에서 방금 커밋된 행도 읽는다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ir FROM IntegratedRoute ir WHERE ir.fingerprint = :fingerprint")
+    Optional<IntegratedRoute> findLockedByFingerprint(@Param("fingerprint") byte[] fingerprint);
 }
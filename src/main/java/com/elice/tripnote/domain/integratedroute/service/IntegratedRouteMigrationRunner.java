@@ -0,0 +1,309 @@
+package com.elice.tripnote.domain.integratedroute.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 서버가 뜰 때 integrated_route의 비어 있는 값을 채운다.
+ * - representative_route_id: 가장 먼저 만들어진 경로
+ * - fingerprint: 경로마다 실제 여행지 순서로 지문을 다시 계산한다. (integrated_routes 문자열도 같이 바꾼다)
+ *   예전 방식의 uuid 충돌로 여행지 순서가 다른 경로들이 한 통합 경로에 섞여 있으면 여행지 순서별로 나누고,
+ *   같은 여행지 순서가 두 통합 경로로 나뉘어 있으면 지문이 겹치므로 뒤의 통합 경로를 앞의 통합 경로로 합친다.
+ * 이미 채워진 행과 경로(여행지)가 없는 행은 건너뛰므로 여러 번 실행해도 된다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class IntegratedRouteMigrationRunner implements ApplicationRunner {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${tripnote.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tripnote.migration.batch-size:500}")
+    private int batchSize;
+
+    // 여행지 순서가 같은 경로들 (경로 id 오름차순)
+    private record Group(byte[] fingerprint, List<Long> routeIds) {
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) return;
+        backfillRepresentativeRoutes();
+        backfillFingerprints();
+    }
+
+    private void backfillRepresentativeRoutes() {
+        int updated = jdbcTemplate.update(
+                "UPDATE integrated_route SET representative_route_id = " +
+                        "(SELECT MIN(r.id) FROM route r WHERE r.integrated_route_id = integrated_route.id) " +
+                        "WHERE representative_route_id IS NULL");
+        if (updated > 0) log.info("통합 경로 {}개의 대표 경로를 채웠습니다.", updated);
+    }
+
+    private void backfillFingerprints() {
+        long lastId = 0;
+        int migrated = 0;
+        int split = 0;
+        while (true) {
+            // 여행지가 있는 경로가 하나도 없는 (경로가 모두 지워진) 통합 경로는 지문을 만들 수 없으므로 건너뛴다.
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT ir.id FROM integrated_route ir WHERE ir.fingerprint IS NULL AND ir.id > ? " +
+                            "AND EXISTS (SELECT 1 FROM route r JOIN route_spot rs ON rs.route_id = r.id WHERE r.integrated_route_id = ir.id) " +
+                            "ORDER BY ir.id LIMIT ?",
+                    Long.class, lastId, batchSize);
+            if (ids.isEmpty()) break;
+            lastId = ids.get(ids.size() - 1);
+
+            Map<Long, Long> representativeRouteIds = new HashMap<>();
+            namedParameterJdbcTemplate.query(
+                    "SELECT id, representative_route_id FROM integrated_route WHERE id IN (:ids)",
+                    Map.of("ids", ids),
+                    (RowCallbackHandler) rs -> representativeRouteIds.put(rs.getLong(1), rs.getObject(2, Long.class)));
+
+            // 여행지 순서가 하나뿐이고 대표 경로가 그 순서이면 지문만 채우고, 아니면 나눈다.
+            List<Object[]> updates = new ArrayList<>();
+            Map<Long, List<Group>> splits = new LinkedHashMap<>();
+            loadGroups(ids).forEach((integratedRouteId, groups) -> {
+                Long representativeRouteId = representativeRouteIds.get(integratedRouteId);
+                if (groups.size() == 1 && groups.get(0).routeIds().contains(representativeRouteId)) {
+                    byte[] fingerprint = groups.get(0).fingerprint();
+                    updates.add(new Object[]{fingerprint, RouteFingerprint.toUuid(fingerprint).toString(), integratedRouteId});
+                } else {
+                    splits.put(integratedRouteId, groups);
+                }
+            });
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_FINGERPRINT, updates));
+                migrated += updates.size();
+            } catch (DataAccessException e) {
+                // 배치 중 한 행이라도 지문이 겹치면 배치 전체가 롤백되므로 한 행씩 다시 반영한다.
+                log.warn("통합 경로 {}~{}번 지문을 한 행씩 다시 반영합니다.", ids.get(0), lastId);
+                for (Object[] update : updates) {
+                    if (updateOne(update)) migrated++;
+                }
+            }
+
+            for (Map.Entry<Long, List<Group>> entry : splits.entrySet()) {
+                Long integratedRouteId = entry.getKey();
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            split(integratedRouteId, representativeRouteIds.get(integratedRouteId), entry.getValue()));
+                    split++;
+                } catch (DataAccessException e) {
+                    log.error("통합 경로 {}번을 여행지 순서별로 나누는 중 오류 발생", integratedRouteId, e);
+                }
+            }
+        }
+        if (migrated > 0) log.info("통합 경로 {}개의 지문을 채웠습니다.", migrated);
+        if (split > 0) log.info("여행지 순서가 섞여 있던 통합 경로 {}개를 여행지 순서별로 나눴습니다.", split);
+    }
+
+    // 통합 경로별로 소속 경로를 실제 여행지 순서(지문)로 묶는다. (여행지가 없는 경로는 빠진다)
+    private Map<Long, List<Group>> loadGroups(List<Long> ids) {
+        Map<Long, Map<Long, List<Long>>> spotIdsByRoute = new LinkedHashMap<>();
+        namedParameterJdbcTemplate.query(
+                "SELECT r.integrated_route_id, r.id, rs.spot_id FROM route r " +
+                        "JOIN route_spot rs ON rs.route_id = r.id " +
+                        "WHERE r.integrated_route_id IN (:ids) " +
+                        "ORDER BY r.integrated_route_id, r.id, rs.sequence",
+                Map.of("ids", ids),
+                (RowCallbackHandler) rs -> spotIdsByRoute
+                        .computeIfAbsent(rs.getLong(1), id -> new LinkedHashMap<>())
+                        .computeIfAbsent(rs.getLong(2), id -> new ArrayList<>())
+                        .add(rs.getLong(3)));
+
+        Map<Long, List<Group>> groupsByIntegratedRoute = new LinkedHashMap<>();
+        spotIdsByRoute.forEach((integratedRouteId, routes) -> {
+            Map<UUID, Group> groups = new LinkedHashMap<>();
+            routes.forEach((routeId, spotIds) -> {
+                byte[] fingerprint = RouteFingerprint.of(spotIds);
+                groups.computeIfAbsent(RouteFingerprint.toUuid(fingerprint), key -> new Group(fingerprint, new ArrayList<>()))
+                        .routeIds().add(routeId);
+            });
+            groupsByIntegratedRoute.put(integratedRouteId, new ArrayList<>(groups.values()));
+        });
+        return groupsByIntegratedRoute;
+    }
+
+    private static final String UPDATE_FINGERPRINT = "UPDATE integrated_route SET fingerprint = ?, integrated_routes = ? WHERE id = ?";
+
+    // 한 행의 지문 반영, 이미 같은 지문의 통합 경로가 있으면 그 통합 경로로 합친다.
+    private boolean updateOne(Object[] update) {
+        byte[] fingerprint = (byte[]) update[0];
+        Long integratedRouteId = (Long) update[2];
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(UPDATE_FINGERPRINT, update));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            Long existing = findByFingerprint(fingerprint, integratedRouteId);
+            if (existing == null) {
+                log.error("통합 경로 {}번 지문 반영 중 오류 발생", integratedRouteId, e);
+                return false;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> merge(integratedRouteId, existing));
+                log.info("통합 경로 {}번을 같은 여행지 순서의 통합 경로 {}번으로 합쳤습니다.", integratedRouteId, existing);
+            } catch (DataAccessException mergeError) {
+                log.error("통합 경로 {}번을 {}번으로 합치는 중 오류 발생", integratedRouteId, existing, mergeError);
+            }
+            return false;
+        } catch (DataAccessException e) {
+            log.error("통합 경로 {}번 지문 반영 중 오류 발생", integratedRouteId, e);
+            return false;
+        }
+    }
+
+    /**
+     * 여행지 순서가 다른 경로들이 섞인 통합 경로를 여행지 순서별로 나눈다.
+     * 대표 경로가 있는 묶음(대표 경로에 여행지가 없으면 첫 묶음)은 이 통합 경로에 남고,
+     * 나머지 묶음은 같은 지문의 통합 경로가 있으면 그리로, 없으면 새 통합 경로를 만들어 옮긴다.
+     * 옮기는 경로에 달린 좋아요/북마크는 옮겨 간 통합 경로의 대표 경로로 모으고, 해시태그는 복사한다.
+     * 기간별 좋아요/북마크는 통합 경로 단위의 합계라 나눌 수 없으므로 남는 통합 경로에 둔다.
+     */
+    private void split(Long integratedRouteId, Long representativeRouteId, List<Group> groups) {
+        Group kept = groups.stream()
+                .filter(group -> group.routeIds().contains(representativeRouteId))
+                .findFirst()
+                .orElse(groups.get(0));
+        String region = jdbcTemplate.queryForObject("SELECT region FROM integrated_route WHERE id = ?", String.class, integratedRouteId);
+
+        for (Group group : groups) {
+            if (group == kept) continue;
+            Long target = findByFingerprint(group.fingerprint(), integratedRouteId);
+            if (target == null) target = insertIntegratedRoute(group, region);
+            copyHashtags(integratedRouteId, target);
+            moveRoutes(group.routeIds(), target);
+            log.info("통합 경로 {}번의 경로 {}를 통합 경로 {}번으로 옮겼습니다.", integratedRouteId, group.routeIds(), target);
+        }
+
+        // 대표 경로에 여행지가 없었으면 남는 묶음의 첫 경로를 대표 경로로 하고 좋아요/북마크를 옮긴다.
+        if (!kept.routeIds().contains(representativeRouteId)) {
+            Long newRepresentativeRouteId = kept.routeIds().get(0);
+            jdbcTemplate.update("UPDATE integrated_route SET representative_route_id = ? WHERE id = ?", newRepresentativeRouteId, integratedRouteId);
+            if (representativeRouteId != null) moveMarks(representativeRouteId, newRepresentativeRouteId);
+        }
+        refreshStatus(integratedRouteId);
+
+        Long existing = findByFingerprint(kept.fingerprint(), integratedRouteId);
+        if (existing != null) merge(integratedRouteId, existing);
+        else jdbcTemplate.update(UPDATE_FINGERPRINT, kept.fingerprint(), RouteFingerprint.toUuid(kept.fingerprint()).toString(), integratedRouteId);
+    }
+
+    // 묶음의 지문으로 새 통합 경로를 만든다. (상태는 경로를 옮긴 뒤 정한다)
+    private Long insertIntegratedRoute(Group group, String region) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO integrated_route (integrated_routes, fingerprint, region, route_status, representative_route_id) " +
+                            "VALUES (?, ?, ?, 'DELETE', ?)", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, RouteFingerprint.toUuid(group.fingerprint()).toString());
+            ps.setBytes(2, group.fingerprint());
+            ps.setString(3, region);
+            ps.setLong(4, group.routeIds().get(0));
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    // 경로들을 target 통합 경로로 옮기고, 경로에 달린 좋아요/북마크를 target의 대표 경로로 모은다.
+    private void moveRoutes(List<Long> routeIds, Long target) {
+        namedParameterJdbcTemplate.update("UPDATE route SET integrated_route_id = :target WHERE id IN (:routeIds)",
+                Map.of("target", target, "routeIds", routeIds));
+        Long targetRouteId = jdbcTemplate.queryForObject(
+                "SELECT representative_route_id FROM integrated_route WHERE id = ?", Long.class, target);
+        if (targetRouteId == null) {
+            targetRouteId = routeIds.get(0);
+            jdbcTemplate.update("UPDATE integrated_route SET representative_route_id = ? WHERE id = ?", targetRouteId, target);
+        }
+        for (Long routeId : routeIds) {
+            if (!routeId.equals(targetRouteId)) moveMarks(routeId, targetRouteId);
+        }
+        refreshStatus(target);
+    }
+
+    /**
+     * source 통합 경로의 경로, 해시태그, 기간별 좋아요/북마크, 좋아요/북마크를 target으로 옮긴다.
+     * source는 경로가 없는 삭제 상태가 되고, 대표 경로가 없으므로 다음 실행 때 다시 검사하지 않는다.
+     */
+    private void merge(Long source, Long target) {
+        Long sourceRouteId = jdbcTemplate.queryForObject(
+                "SELECT representative_route_id FROM integrated_route WHERE id = ?", Long.class, source);
+        Long targetRouteId = jdbcTemplate.queryForObject(
+                "SELECT representative_route_id FROM integrated_route WHERE id = ?", Long.class, target);
+
+        jdbcTemplate.update("UPDATE route SET integrated_route_id = ? WHERE integrated_route_id = ?", target, source);
+        if (targetRouteId == null) {
+            jdbcTemplate.update("UPDATE integrated_route SET representative_route_id = ? WHERE id = ?", sourceRouteId, target);
+        } else if (sourceRouteId != null) {
+            moveMarks(sourceRouteId, targetRouteId);
+        }
+        jdbcTemplate.update("UPDATE integrated_route SET route_status = 'PUBLIC' WHERE id = ? " +
+                "AND EXISTS (SELECT 1 FROM route r WHERE r.integrated_route_id = ? AND r.route_status = 'PUBLIC')", target, target);
+
+        copyHashtags(source, target);
+        jdbcTemplate.update("DELETE FROM uuid_hashtag WHERE integerated_route_id = ?", source);
+        // 진행 중인 기간은 마감해서 옮긴다. (target에도 진행 중인 기간이 있을 수 있으므로)
+        jdbcTemplate.update("UPDATE like_bookmark_period SET integerated_route_id = ?, open_route_id = NULL, " +
+                "end_at = COALESCE(end_at, CURRENT_TIMESTAMP) WHERE integerated_route_id = ?", target, source);
+
+        jdbcTemplate.update("UPDATE integrated_route SET route_status = 'DELETE', representative_route_id = NULL WHERE id = ?", source);
+    }
+
+    // 좋아요/북마크는 대표 경로에 저장되므로 다른 경로로 옮긴다. (두 경로에 모두 누른 회원은 하나만 남긴다)
+    private void moveMarks(Long fromRouteId, Long toRouteId) {
+        for (String table : List.of("like_post", "bookmark")) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE route_id = ? AND member_id IN " +
+                    "(SELECT member_id FROM (SELECT member_id FROM " + table + " WHERE route_id = ?) targets)", fromRouteId, toRouteId);
+            jdbcTemplate.update("UPDATE " + table + " SET route_id = ? WHERE route_id = ?", toRouteId, fromRouteId);
+        }
+    }
+
+    // source의 해시태그 중 target에 없는 것을 target에 추가한다.
+    private void copyHashtags(Long source, Long target) {
+        jdbcTemplate.update("INSERT INTO uuid_hashtag (integerated_route_id, hashtag_id) " +
+                        "SELECT ?, hashtag_id FROM uuid_hashtag WHERE integerated_route_id = ? " +
+                        "AND hashtag_id NOT IN (SELECT hashtag_id FROM (SELECT hashtag_id FROM uuid_hashtag WHERE integerated_route_id = ?) targets)",
+                target, source, target);
+    }
+
+    // 공개된 경로가 있으면 공개, 없으면 삭제 상태
+    private void refreshStatus(Long integratedRouteId) {
+        jdbcTemplate.update("UPDATE integrated_route SET route_status = CASE WHEN EXISTS " +
+                        "(SELECT 1 FROM route r WHERE r.integrated_route_id = ? AND r.route_status = 'PUBLIC') " +
+                        "THEN 'PUBLIC' ELSE 'DELETE' END WHERE id = ?",
+                integratedRouteId, integratedRouteId);
+    }
+
+    // 지문이 같은 다른 통합 경로 id, 없으면 null
+    private Long findByFingerprint(byte[] fingerprint, Long excludedId) {
+        List<Long> existing = jdbcTemplate.queryForList(
+                "SELECT id FROM integrated_route WHERE fingerprint = ? AND id <> ?", Long.class, fingerprint, excludedId);
+        return existing.isEmpty() ? null : existing.get(0);
+    }
+}
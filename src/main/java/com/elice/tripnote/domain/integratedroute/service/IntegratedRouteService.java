@@ -1,7 +1,58 @@
 package com.elice.tripnote.domain.integratedroute.service;
 
+import com.elice.tripnote.domain.integratedroute.entity.IntegratedRoute;
+import com.elice.tripnote.domain.integratedroute.repository.IntegratedRouteRepository;
+import com.elice.tripnote.global.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class IntegratedRouteService {
+    private final IntegratedRouteRepository integratedRouteRepository;
+    // 지문 -> 통합 경로 id (통합 경로는 실제로 지워지지 않으므로 만료시키지 않는다)
+    private final LruCache<UUID, Long> idByFingerprint;
+
+    public IntegratedRouteService(IntegratedRouteRepository integratedRouteRepository,
+                                  @Value("${tripnote.fingerprint.cache-size:50000}") int cacheSize) {
+        this.integratedRouteRepository = integratedRouteRepository;
+        this.idByFingerprint = new LruCache<>(cacheSize, 0);
+    }
+
+    /**
+     * 지문으로 통합 경로 조회
+     * 캐시에 id가 있으면 기본키로, 없으면 지문 unique 인덱스로 조회한다.
+     *
+     * @param fingerprint RouteFingerprint.of 로 만든 16바이트 지문
+     */
+    public Optional<IntegratedRoute> findByFingerprint(byte[] fingerprint) {
+        UUID key = RouteFingerprint.toUuid(fingerprint);
+        Long id = idByFingerprint.get(key);
+        Optional<IntegratedRoute> integratedRoute = id != null
+                ? integratedRouteRepository.findById(id)
+                : integratedRouteRepository.findByFingerprint(fingerprint);
+        integratedRoute.ifPresent(found -> idByFingerprint.put(key, found.getId()));
+        return integratedRoute;
+    }
+
+    /**
+     * 새 통합 경로 저장
+     * 같은 여행지 순서의 경로를 동시에 저장하면 한쪽은 uk_integrated_route_fingerprint 위반(DataIntegrityViolationException)으로 실패한다.
+     * 실패해도 호출한 트랜잭션이 롤백 전용이 되지 않도록 새 트랜잭션에서 저장한다.
+     *
+     * @return 저장한 통합 경로 id
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long create(IntegratedRoute integratedRoute) {
+        return integratedRouteRepository.saveAndFlush(integratedRoute).getId();
+    }
+
+    // 새로 저장한 통합 경로를 캐시에 등록
+    public void cache(byte[] fingerprint, Long integratedRouteId) {
+        idByFingerprint.put(RouteFingerprint.toUuid(fingerprint), integratedRouteId);
+    }
 }
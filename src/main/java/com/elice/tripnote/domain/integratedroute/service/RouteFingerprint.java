@@ -0,0 +1,55 @@
+package com.elice.tripnote.domain.integratedroute.service;
+
+import com.elice.tripnote.global.exception.CustomException;
+import com.elice.tripnote.global.exception.ErrorCode;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여행지 id 순서로 통합 경로를 구분하는 16바이트 지문
+ * 여행지 수와 각 id를 varint로 이어 붙인 뒤 해시하기 때문에 [1, 23]과 [12, 3]처럼
+ * 문자열로 이으면 같아지는 순서도 서로 다른 지문이 된다.
+ */
+public final class RouteFingerprint {
+    public static final int LENGTH = 16;
+
+    private RouteFingerprint() {
+    }
+
+    public static byte[] of(List<Long> spotIds) {
+        // varint 하나는 최대 10바이트
+        byte[] buffer = new byte[(spotIds.size() + 1) * 10];
+        int length = writeVarint(buffer, 0, spotIds.size());
+        for (Long spotId : spotIds) {
+            length = writeVarint(buffer, length, spotId);
+        }
+
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(buffer, 0, length);
+            return Arrays.copyOf(md.digest(), LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CustomException(ErrorCode.NOT_FOUND_ALGORITHM);
+        }
+    }
+
+    // 캐시 키, integrated_routes 문자열 값으로 사용
+    public static UUID toUuid(byte[] fingerprint) {
+        ByteBuffer buffer = ByteBuffer.wrap(fingerprint);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static int writeVarint(byte[] buffer, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+}
@@ -0,0 +1,228 @@
+package com.elice.tripnote.domain.integratedroute.service;
+
+import com.elice.tripnote.domain.likebookmarkperiod.event.PeriodRolledOverEvent;
+import com.elice.tripnote.domain.likebookmarkperiod.service.LikeBookPeriodService;
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.global.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지역별 인기 통합 경로 순위를 메모리에 유지한다.
+ * 좋아요, 경로 저장/삭제 때 점수만 바꾸고, 지역별 상위 경로 목록은 미리 만들어 두기 때문에
+ * /routes/region 조회 시 집계 쿼리가 나가지 않는다.
+ * 기간 마감으로 점수가 감쇠될 때, 그리고 주기적으로 DB 기준으로 다시 만든다.
+ * 점수 변경은 트랜잭션이 커밋된 뒤에 반영하고, 다시 만드는 동안 들어온 변경은 새 순위에 다시 적용한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RouteLeaderboardService {
+    private static final Comparator<Entry> RANKING = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::integratedRouteId, Comparator.reverseOrder());
+
+    private final LikeBookPeriodService likeBookPeriodService;
+
+    // 지역별로 미리 만들어 두는 상위 경로 수
+    @Value("${tripnote.leaderboard.top-size:20}")
+    private int topSize;
+
+    // getTop은 잠금 없이 읽으므로 동시 수정에 안전한 맵을 쓴다.
+    private volatile Map<Region, Board> boards = new ConcurrentHashMap<>();
+    // 통합 경로 id -> 지역
+    private volatile Map<Long, Region> regions = new HashMap<>();
+    private volatile boolean ready = false;
+    // 순위를 다시 만드는 동안 들어온 변경 (다시 만들고 있지 않으면 null)
+    private List<Runnable> pending;
+    private final Object rebuildLock = new Object();
+
+    private record Entry(Long integratedRouteId, double score) {
+    }
+
+    private static class Board {
+        private final Map<Long, Double> scores = new HashMap<>();
+        private final TreeSet<Entry> ranking = new TreeSet<>(RANKING);
+        private volatile List<Long> top = List.of();
+    }
+
+    /**
+     * 지역별 상위 통합 경로 id 조회
+     *
+     * @param region 지역
+     * @param limit  최대 개수
+     * @return 인기 점수가 높은 순서의 통합 경로 id 리스트
+     */
+    public List<Long> getTop(Region region, int limit) {
+        // 아직 순위가 만들어지기 전이거나 미리 만들어 둔 개수보다 많이 요청하면 DB에서 계산
+        if (!ready || limit > topSize) return likeBookPeriodService.findTrendingByRegion(region, limit);
+
+        Board board = boards.get(region);
+        if (board == null) return List.of();
+        List<Long> top = board.top;
+        return top.subList(0, Math.min(limit, top.size()));
+    }
+
+    /**
+     * 주어진 통합 경로들을 인기 점수 순으로 정렬
+     * 순위에 없는, 즉 최근 기간에 활동이 없는 후보는 점수 0으로 뒤에 온다.
+     *
+     * @param integratedRouteIds 후보 공개 통합 경로 id 배열
+     * @param limit              최대 개수
+     */
+    public List<Long> rank(long[] integratedRouteIds, int limit) {
+        if (!ready) {
+            return likeBookPeriodService.rankByTrending(Arrays.stream(integratedRouteIds).boxed().toList(), limit);
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        synchronized (this) {
+            for (long id : integratedRouteIds) {
+                Region region = regions.get(id);
+                entries.add(new Entry(id, region != null ? boards.get(region).scores.get(id) : 0));
+            }
+        }
+        return entries.stream()
+                .sorted(RANKING)
+                .limit(limit)
+                .map(Entry::integratedRouteId)
+                .toList();
+    }
+
+    /**
+     * 좋아요 추가/취소
+     * 기간별 좋아요 증감량 기록과 점수 변경을 같은 잠금 안에서 하기 때문에,
+     * 다시 만드는 중인 좋아요는 반영된 증감량(DB 점수)과 다시 적용할 변경 중 한쪽에만 들어간다.
+     */
+    public void addLike(Long integratedRouteId, int delta) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                likeBookPeriodService.recordLike(integratedRouteId, delta);
+                apply(scoreUpdate(integratedRouteId, delta));
+            }
+        });
+    }
+
+    // 점수만 변경 (진행 중인 기간의 가중치는 1)
+    public void addScore(Long integratedRouteId, double delta) {
+        AfterCommit.run(() -> apply(scoreUpdate(integratedRouteId, delta)));
+    }
+
+    private Runnable scoreUpdate(Long integratedRouteId, double delta) {
+        return () -> {
+            Region region = regions.get(integratedRouteId);
+            if (region == null) return;
+            Board board = boards.get(region);
+            put(board, integratedRouteId, board.scores.get(integratedRouteId) + delta);
+        };
+    }
+
+    // 새로 공개된 통합 경로 등록 (이미 있으면 점수 유지)
+    public void register(Long integratedRouteId, Region region) {
+        AfterCommit.run(() -> apply(() -> {
+            if (regions.containsKey(integratedRouteId)) return;
+            regions.put(integratedRouteId, region);
+            put(boards.computeIfAbsent(region, r -> new Board()), integratedRouteId, 0);
+        }));
+    }
+
+    // 삭제된 통합 경로 제거
+    public void remove(Long integratedRouteId) {
+        AfterCommit.run(() -> apply(() -> {
+            Region region = regions.remove(integratedRouteId);
+            if (region == null) return;
+            Board board = boards.get(region);
+            Double score = board.scores.remove(integratedRouteId);
+            board.ranking.remove(new Entry(integratedRouteId, score));
+            refreshTop(board);
+        }));
+    }
+
+    // 현재 순위에 반영하고, 다시 만드는 중이면 새 순위에도 반영하도록 기록한다.
+    private synchronized void apply(Runnable update) {
+        update.run();
+        if (pending != null) pending.add(update);
+    }
+
+    /**
+     * DB 기준으로 순위를 다시 만든다.
+     * 반영되지 않은 좋아요 수를 먼저 반영하고, 새로 만든 순위로 한 번에 교체한다.
+     * 반영한 뒤에 들어온 변경은 기록해 두었다가 교체할 때 새 순위에 다시 적용한다.
+     * 반영과 기록 시작을 같은 잠금 안에서 해서, 반영된 좋아요가 다시 적용되거나 어느 쪽에도 들어가지 않는 일이 없다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${tripnote.leaderboard.rebuild-interval-ms:600000}",
+            fixedDelayString = "${tripnote.leaderboard.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            try {
+                synchronized (this) {
+                    likeBookPeriodService.flush();
+                    pending = new ArrayList<>();
+                }
+                Map<Region, Map<Long, Double>> scores = likeBookPeriodService.getTrendingScoresByRegion();
+
+                Map<Region, Board> newBoards = new ConcurrentHashMap<>();
+                Map<Long, Region> newRegions = new HashMap<>();
+                scores.forEach((region, regionScores) -> {
+                    Board board = new Board();
+                    regionScores.forEach((id, score) -> {
+                        board.scores.put(id, score);
+                        board.ranking.add(new Entry(id, score));
+                        newRegions.put(id, region);
+                    });
+                    refreshTop(board);
+                    newBoards.put(region, board);
+                });
+
+                synchronized (this) {
+                    boards = newBoards;
+                    regions = newRegions;
+                    pending.forEach(Runnable::run);
+                    ready = true;
+                }
+                log.info("통합 경로 {}개의 지역별 순위를 다시 만들었습니다.", newRegions.size());
+            } finally {
+                synchronized (this) {
+                    pending = null;
+                }
+            }
+        }
+    }
+
+    // 기간이 바뀌면 모든 점수가 감쇠되므로 다시 만든다.
+    @TransactionalEventListener
+    public void onPeriodRolledOver(PeriodRolledOverEvent event) {
+        rebuild();
+    }
+
+    private void put(Board board, Long integratedRouteId, double score) {
+        Double old = board.scores.put(integratedRouteId, score);
+        if (old != null) board.ranking.remove(new Entry(integratedRouteId, old));
+        board.ranking.add(new Entry(integratedRouteId, score));
+        refreshTop(board);
+    }
+
+    private void refreshTop(Board board) {
+        List<Long> top = new ArrayList<>(topSize);
+        for (Entry entry : board.ranking) {
+            if (top.size() == topSize) break;
+            top.add(entry.integratedRouteId());
+        }
+        board.top = List.copyOf(top);
+    }
+}
@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "like_bookmark_period")
+@Table(name = "like_bookmark_period", uniqueConstraints = {@UniqueConstraint(name = "uk_like_bookmark_period_open", columnNames = {"open_route_id"})},
+        indexes = {@Index(name = "idx_like_bookmark_period_end_at", columnList = "end_at")})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class LikeBookmarkPeriod {
@@ -37,6 +38,10 @@ public class LikeBookmarkPeriod {
     @Column(name = "end_at", nullable = true)
     LocalDateTime endAt;
 
+    // 진행 중인 기간이면 통합 경로 id, 마감되면 null (통합 경로마다 진행 중인 기간이 하나만 있도록 유니크 제약)
+    @Column(name = "open_route_id", nullable = true)
+    Long openRouteId;
+
     @Builder
     public LikeBookmarkPeriod(IntegratedRoute integratedRoute, Integer likes, Integer bookmark) {
         this.integratedRoute = integratedRoute;
@@ -44,6 +49,7 @@ public class LikeBookmarkPeriod {
         this.bookmark = bookmark;
         this.startAt = LocalDateTime.now();
         this.endAt = null;
+        this.openRouteId = integratedRoute.getId();
     }
 
     public void updateLike(int newLike) {
@@ -0,0 +1,16 @@
+package com.elice.tripnote.domain.likebookmarkperiod.entity;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class PeriodLikesDTO {
+    private Long integratedRouteId;
+    private Region region;
+    private Integer likes;
+    private LocalDateTime endAt; // 현재 기간이면 null
+}
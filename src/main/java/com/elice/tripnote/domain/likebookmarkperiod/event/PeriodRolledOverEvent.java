@@ -0,0 +1,5 @@
+package com.elice.tripnote.domain.likebookmarkperiod.event;
+
+// 좋아요/북마크 기간이 마감되고 새 기간이 시작됐을 때 발행 (인기 점수가 다시 계산되어야 함)
+public class PeriodRolledOverEvent {
+}
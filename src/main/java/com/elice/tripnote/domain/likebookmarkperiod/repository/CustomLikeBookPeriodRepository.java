@@ -0,0 +1,13 @@
+package com.elice.tripnote.domain.likebookmarkperiod.repository;
+
+import com.elice.tripnote.domain.likebookmarkperiod.entity.PeriodLikesDTO;
+import com.elice.tripnote.domain.spot.constant.Region;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CustomLikeBookPeriodRepository {
+    void batchAddCounts(List<long[]> deltas);
+    void rollover(LocalDateTime now, LocalDateTime retainSince);
+    List<PeriodLikesDTO> findRecentPeriodLikes(Region region, List<Long> integratedRouteIds, LocalDateTime since);
+}
@@ -0,0 +1,98 @@
+package com.elice.tripnote.domain.likebookmarkperiod.repository;
+
+import com.elice.tripnote.domain.integratedroute.entity.QIntegratedRoute;
+import com.elice.tripnote.domain.likebookmarkperiod.entity.PeriodLikesDTO;
+import com.elice.tripnote.domain.likebookmarkperiod.entity.QLikeBookmarkPeriod;
+import com.elice.tripnote.domain.route.status.RouteStatus;
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class CustomLikeBookPeriodRepositoryImpl implements CustomLikeBookPeriodRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final JPAQueryFactory query;
+    private final QLikeBookmarkPeriod lbp = new QLikeBookmarkPeriod("lbp");
+    private final QIntegratedRoute ir = new QIntegratedRoute("ir");
+
+    /**
+     * 통합 경로별 좋아요/북마크 증감량을 현재 기간 객체에 한 번의 배치로 반영
+     * 진행 중인 기간이 없으면 (이번 기간에 처음 눌린 통합 경로) 새 기간 객체를 만든다.
+     * 진행 중인 기간은 open_route_id 유니크 제약으로 통합 경로마다 하나뿐이므로 동시에 반영해도 두 개가 생기지 않는다.
+     *
+     * @param deltas [통합 경로 id, 좋아요 증감량, 북마크 증감량] 리스트
+     */
+    public void batchAddCounts(List<long[]> deltas) {
+        if (deltas.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO like_bookmark_period (integerated_route_id, open_route_id, likes, bookmark, start_at) " +
+                        "VALUES (?, ?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE likes = likes + VALUES(likes), bookmark = bookmark + VALUES(bookmark)",
+                deltas,
+                deltas.size(),
+                (ps, delta) -> {
+                    ps.setLong(1, delta[0]);
+                    ps.setLong(2, delta[0]);
+                    ps.setLong(3, delta[1]);
+                    ps.setLong(4, delta[2]);
+                    ps.setTimestamp(5, now);
+                });
+    }
+
+    /**
+     * 진행 중인 기간을 모두 마감하고, 인기 점수에 더 이상 쓰이지 않는 오래된 기간을 지운다.
+     * 새 기간 객체는 미리 만들지 않고 다음 기간에 좋아요/북마크가 처음 반영될 때 만들어진다. (활동 없는 통합 경로는 행이 생기지 않음)
+     *
+     * @param retainSince 이 시각 이전에 마감된 기간은 지운다.
+     */
+    public void rollover(LocalDateTime now, LocalDateTime retainSince) {
+        jdbcTemplate.update(
+                "UPDATE like_bookmark_period SET end_at = ?, open_route_id = NULL WHERE end_at IS NULL",
+                Timestamp.valueOf(now));
+
+        int pruned = jdbcTemplate.update(
+                "DELETE FROM like_bookmark_period WHERE end_at IS NOT NULL AND end_at < ?",
+                Timestamp.valueOf(retainSince));
+        log.debug("오래된 좋아요/북마크 기간 {}개를 지웠습니다.", pruned);
+    }
+
+    /**
+     * since 이후에 끝났거나 아직 진행 중인 기간의 좋아요 수 조회 (대표 경로가 있는 공개 통합 경로만)
+     * 기간 범위(end_at 인덱스)로 기간 행을 먼저 찾고, 찾은 행의 통합 경로만 기본 키로 조인한다.
+     * 기간 객체는 좋아요/북마크가 있었던 기간에만 있으므로, 최근 활동이 없는 통합 경로는 결과에 없다.
+     *
+     * @param region             null이 아니면 해당 지역의 통합 경로만
+     * @param integratedRouteIds null이 아니면 해당 통합 경로들만
+     */
+    public List<PeriodLikesDTO> findRecentPeriodLikes(Region region, List<Long> integratedRouteIds, LocalDateTime since) {
+        BooleanBuilder where = new BooleanBuilder(lbp.endAt.isNull().or(lbp.endAt.after(since)));
+        if (integratedRouteIds != null) where.and(lbp.integratedRoute.id.in(integratedRouteIds));
+        where.and(ir.routeStatus.eq(RouteStatus.PUBLIC)).and(ir.representativeRouteId.isNotNull());
+        if (region != null) where.and(ir.region.eq(region));
+
+        return query
+                .select(Projections.constructor(PeriodLikesDTO.class,
+                        ir.id,
+                        ir.region,
+                        lbp.likes,
+                        lbp.endAt
+                ))
+                .from(lbp)
+                .join(lbp.integratedRoute, ir)
+                .where(where)
+                .fetch();
+    }
+}
@@ -7,9 +7,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface LikeBookPeriodRepository extends JpaRepository<LikeBookmarkPeriod, Long> {
+public interface LikeBookPeriodRepository extends JpaRepository<LikeBookmarkPeriod, Long>, CustomLikeBookPeriodRepository {
     boolean existsByIntegratedRoute(IntegratedRoute integratedRoute);
 
-    Optional<LikeBookmarkPeriod> findByIntegratedRouteId(Long integratedRouteId);
+    // 현재 진행 중인 기간 객체
+    Optional<LikeBookmarkPeriod> findByIntegratedRouteIdAndEndAtIsNull(Long integratedRouteId);
 
 }
@@ -1,7 +1,217 @@
 package com.elice.tripnote.domain.likebookmarkperiod.service;
 
+import com.elice.tripnote.domain.likebookmarkperiod.entity.PeriodLikesDTO;
+import com.elice.tripnote.domain.likebookmarkperiod.event.PeriodRolledOverEvent;
+import com.elice.tripnote.domain.likebookmarkperiod.repository.LikeBookPeriodRepository;
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.global.util.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 통합 경로별 좋아요/북마크 수를 메모리에 모아뒀다가 주기적으로 like_bookmark_period에 반영한다.
+ * 좋아요/북마크를 누를 때마다 같은 행을 읽고 다시 쓰지 않기 때문에 인기 경로의 행이 병목이 되지 않고,
+ * 동시에 눌러도 증감량이 유실되지 않는다.
+ * 증감량은 트랜잭션이 커밋된 뒤에 모으므로 롤백된 좋아요/북마크는 반영되지 않는다.
+ * 실제 좋아요/북마크 여부는 like_post, bookmark 테이블이 기준이다.
+ *
+ * like_bookmark_period는 일정 주기(window)마다 마감되고 그 기간에 좋아요/북마크가 있었던 통합 경로만 새로 만들어지며,
+ * 인기 점수에 쓰이지 않는 오래된 기간은 마감 때 지운다.
+ * 인기 경로는 최근 N개 기간의 좋아요 수에 기간이 오래될수록 작아지는 가중치를 곱해 순위를 매긴다.
+ */
 @Service
+@Slf4j
+@RequiredArgsConstructor
 public class LikeBookPeriodService {
+    private final LikeBookPeriodRepository likeBookPeriodRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    // 배치 UPDATE를 한 트랜잭션으로 실행해서, 실패하면 전부 되돌리고 전부 다시 시도한다.
+    private final TransactionTemplate transactionTemplate;
+
+    // 통합 경로 id -> 아직 DB에 반영되지 않은 증감량 (0이 되면 키를 지운다)
+    private final Map<Long, Long> likeDeltas = new ConcurrentHashMap<>();
+    private final Map<Long, Long> bookmarkDeltas = new ConcurrentHashMap<>();
+
+    // 기간 하나의 길이(시간). 마감 스케줄(rollover-cron)과 같은 주기로 설정해야 한다.
+    @Value("${tripnote.trending.window-hours:24}")
+    private long windowHours;
+
+    // 인기 점수에 반영할 최근 기간 수
+    @Value("${tripnote.trending.windows:7}")
+    private int windows;
+
+    // 기간이 하나 지날 때마다 곱해지는 가중치
+    @Value("${tripnote.trending.decay:0.7}")
+    private double decay;
+
+    public void addLike(Long integratedRouteId, int delta) {
+        AfterCommit.run(() -> recordLike(integratedRouteId, delta));
+    }
+
+    // 커밋된 좋아요 증감량을 바로 기록 (인기 순위와 함께 기록할 때 사용)
+    public void recordLike(Long integratedRouteId, int delta) {
+        add(likeDeltas, integratedRouteId, delta);
+    }
+
+    public void addBookmark(Long integratedRouteId, int delta) {
+        AfterCommit.run(() -> add(bookmarkDeltas, integratedRouteId, delta));
+    }
+
+    // 증감량을 더하고, 합이 0이 되면 키를 지운다.
+    private static void add(Map<Long, Long> deltas, Long integratedRouteId, long delta) {
+        if (delta == 0) return;
+        deltas.merge(integratedRouteId, delta, (current, added) -> current + added == 0 ? null : current + added);
+    }
+
+    // 아직 반영되지 않은 통합 경로 수
+    public int pendingCount() {
+        Set<Long> integratedRouteIds = new HashSet<>(likeDeltas.keySet());
+        integratedRouteIds.addAll(bookmarkDeltas.keySet());
+        return integratedRouteIds.size();
+    }
+
+    // 모인 증감량을 하나의 배치 UPDATE로 반영 (한 트랜잭션)
+    @Scheduled(fixedDelayString = "${tripnote.counter.flush-interval-ms:5000}")
+    @PreDestroy
+    public synchronized void flush() {
+        Set<Long> integratedRouteIds = new HashSet<>(likeDeltas.keySet());
+        integratedRouteIds.addAll(bookmarkDeltas.keySet());
+
+        List<long[]> deltas = new ArrayList<>();
+        for (Long id : integratedRouteIds) {
+            long likes = drain(likeDeltas, id);
+            long bookmarks = drain(bookmarkDeltas, id);
+            if (likes != 0 || bookmarks != 0) deltas.add(new long[]{id, likes, bookmarks});
+        }
+        if (deltas.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> likeBookPeriodRepository.batchAddCounts(deltas));
+            log.debug("통합 경로 {}개의 좋아요/북마크 수를 반영했습니다.", deltas.size());
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백되어 아무것도 반영되지 않았으므로 증감량 전체를 다음 주기에 다시 시도
+            log.error("좋아요/북마크 수 반영 중 오류 발생", e);
+            for (long[] delta : deltas) {
+                add(likeDeltas, delta[0], delta[1]);
+                add(bookmarkDeltas, delta[0], delta[2]);
+            }
+        }
+    }
+
+    // 키를 지우면서 모인 증감량을 꺼낸다. (그 뒤에 들어온 증감량은 새 키로 쌓임)
+    private static long drain(Map<Long, Long> deltas, Long integratedRouteId) {
+        Long delta = deltas.remove(integratedRouteId);
+        return delta != null ? delta : 0;
+    }
+
+    /**
+     * 현재 기간을 마감하고 새 기간을 시작한다.
+     * 마감 전에 모인 증감량을 먼저 반영하고, 그동안 들어온 증감량은 다음 flush 때 새 기간에 반영된다.
+     * 최근 windows개 기간보다 오래된 기간은 지운다.
+     */
+    @Scheduled(cron = "${tripnote.trending.rollover-cron:0 0 0 * * *}")
+    @Transactional
+    public synchronized void rollover() {
+        flush();
+        LocalDateTime now = LocalDateTime.now();
+        likeBookPeriodRepository.rollover(now, now.minus(Duration.ofHours(windowHours).multipliedBy(windows)));
+        eventPublisher.publishEvent(new PeriodRolledOverEvent());
+        log.info("좋아요/북마크 기간을 마감하고 새 기간을 시작했습니다.");
+    }
+
+    /**
+     * 지역별 인기 통합 경로 id 조회
+     *
+     * @param region 지역
+     * @param limit  최대 개수
+     * @return 인기 점수가 높은 순서의 통합 경로 id 리스트
+     */
+    public List<Long> findTrendingByRegion(Region region, int limit) {
+        return topByScore(getTrendingScores(region, null), limit);
+    }
+
+    /**
+     * 주어진 통합 경로들을 인기 점수 순으로 정렬
+     * 최근 기간에 활동이 없는 후보는 점수 0으로 뒤에 온다.
+     *
+     * @param integratedRouteIds 후보 공개 통합 경로 id 리스트
+     * @param limit              최대 개수
+     */
+    public List<Long> rankByTrending(List<Long> integratedRouteIds, int limit) {
+        if (integratedRouteIds.isEmpty()) return new ArrayList<>();
+        Map<Long, Double> scores = getTrendingScores(null, integratedRouteIds);
+        for (Long id : integratedRouteIds) scores.putIfAbsent(id, 0.0);
+        return topByScore(scores, limit);
+    }
+
+    /**
+     * 통합 경로별 인기 점수 계산
+     * 진행 중인 기간은 가중치 1, 마감된 기간은 마감 후 지난 기간 수 k에 대해 decay^(k+1)
+     *
+     * @param region             null이 아니면 해당 지역만
+     * @param integratedRouteIds null이 아니면 해당 통합 경로만
+     * @return 통합 경로 id -> 인기 점수
+     */
+    public Map<Long, Double> getTrendingScores(Region region, List<Long> integratedRouteIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Double> scores = new HashMap<>();
+        for (PeriodLikesDTO period : findRecentPeriods(region, integratedRouteIds, now)) {
+            scores.merge(period.getIntegratedRouteId(), weightedLikes(period, now), Double::sum);
+        }
+        return scores;
+    }
+
+    /**
+     * 모든 공개 통합 경로의 인기 점수를 지역별로 계산 (한 번의 쿼리)
+     *
+     * @return 지역 -> (통합 경로 id -> 인기 점수)
+     */
+    public Map<Region, Map<Long, Double>> getTrendingScoresByRegion() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Region, Map<Long, Double>> scores = new EnumMap<>(Region.class);
+        for (PeriodLikesDTO period : findRecentPeriods(null, null, now)) {
+            scores.computeIfAbsent(period.getRegion(), r -> new HashMap<>())
+                    .merge(period.getIntegratedRouteId(), weightedLikes(period, now), Double::sum);
+        }
+        return scores;
+    }
+
+    private List<PeriodLikesDTO> findRecentPeriods(Region region, List<Long> integratedRouteIds, LocalDateTime now) {
+        LocalDateTime since = now.minus(Duration.ofHours(windowHours).multipliedBy(windows));
+        return likeBookPeriodRepository.findRecentPeriodLikes(region, integratedRouteIds, since);
+    }
+
+    private double weightedLikes(PeriodLikesDTO period, LocalDateTime now) {
+        if (period.getEndAt() == null) return period.getLikes();
+        long age = Duration.between(period.getEndAt(), now).toMillis() / Duration.ofHours(windowHours).toMillis() + 1;
+        return period.getLikes() * Math.pow(decay, age);
+    }
+
+    private static List<Long> topByScore(Map<Long, Double> scores, int limit) {
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
 }
@@ -0,0 +1,10 @@
+package com.elice.tripnote.domain.link.routespot.repository;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+public interface CustomRouteSpotRepository {
+    void batchInsert(Long routeId, List<Long> spotIds);
+    List<Long> findSpotIdsByRouteId(Long routeId);
+    void forEachPublicIntegratedRouteSpot(BiConsumer<Long, Long> consumer);
+}
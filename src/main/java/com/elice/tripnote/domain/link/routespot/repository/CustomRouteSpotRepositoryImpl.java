@@ -0,0 +1,85 @@
+package com.elice.tripnote.domain.link.routespot.repository;
+
+import com.elice.tripnote.domain.route.status.RouteStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomRouteSpotRepositoryImpl implements CustomRouteSpotRepository {
+    // 스트리밍을 지원하지 않는 DB에서 한 번에 받아오는 행 수
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 경로의 route_spot 행들을 하나의 JDBC 배치로 저장
+     * IDENTITY 전략에서는 JPA saveAll도 한 줄씩 INSERT 되기 때문에 JdbcTemplate을 사용한다.
+     *
+     * @param routeId 저장된 경로 id
+     * @param spotIds 순서대로 정렬된 여행지 id 리스트
+     */
+    public void batchInsert(Long routeId, List<Long> spotIds) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO route_spot (route_id, spot_id, sequence, next_spot_id) VALUES (?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, routeId);
+                        ps.setLong(2, spotIds.get(i));
+                        ps.setInt(3, i + 1);
+                        if (i + 1 < spotIds.size()) ps.setLong(4, spotIds.get(i + 1));
+                        else ps.setNull(4, Types.BIGINT);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return spotIds.size();
+                    }
+                });
+    }
+
+    // 경로가 지나는 여행지 id (순서대로)
+    public List<Long> findSpotIdsByRouteId(Long routeId) {
+        return jdbcTemplate.queryForList(
+                "SELECT spot_id FROM route_spot WHERE route_id = ? ORDER BY sequence", Long.class, routeId);
+    }
+
+    /**
+     * 공개된 통합 경로가 지나는 (통합 경로 id, 여행지 id) 쌍을 한 줄씩 읽어서 넘긴다.
+     * MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때만 결과를 스트리밍하고, 그렇지 않으면 전체 결과를 메모리에 받은 뒤 넘긴다.
+     * 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 consumer에서 DB를 조회하면 안 된다.
+     *
+     * @param consumer (통합 경로 id, 여행지 id)를 받는 함수
+     */
+    public void forEachPublicIntegratedRouteSpot(BiConsumer<Long, Long> consumer) {
+        jdbcTemplate.query(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            "SELECT DISTINCT r.integrated_route_id, rs.spot_id FROM route_spot rs " +
+                                    "JOIN route r ON r.id = rs.route_id " +
+                                    "JOIN integrated_route ir ON ir.id = r.integrated_route_id " +
+                                    "WHERE ir.route_status = ?",
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    // 다른 DB(H2 등)는 음수 fetch size를 허용하지 않는다.
+                    ps.setFetchSize(isMySql(connection) ? Integer.MIN_VALUE : STREAM_FETCH_SIZE);
+                    ps.setString(1, RouteStatus.PUBLIC.name());
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getLong(2)));
+    }
+
+    private static boolean isMySql(Connection connection) throws SQLException {
+        return "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+    }
+}
@@ -11,7 +11,5 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 @Repository
-public interface RouteSpotRepository extends JpaRepository<RouteSpot, Long> {
-    @Query("SELECT rs FROM RouteSpot rs WHERE rs.spot.id = :spotId AND rs.nextSpotId IS NOT NULL")
-    List<RouteSpot> findBySpotId(@Param("spotId") Long spotId);
+public interface RouteSpotRepository extends JpaRepository<RouteSpot, Long>, CustomRouteSpotRepository {
 }
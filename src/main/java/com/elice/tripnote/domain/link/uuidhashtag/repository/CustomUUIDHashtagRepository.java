@@ -0,0 +1,7 @@
+package com.elice.tripnote.domain.link.uuidhashtag.repository;
+
+import java.util.List;
+
+public interface CustomUUIDHashtagRepository {
+    void batchInsert(Long integratedRouteId, List<Long> hashtagIds);
+}
@@ -0,0 +1,36 @@
+package com.elice.tripnote.domain.link.uuidhashtag.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomUUIDHashtagRepositoryImpl implements CustomUUIDHashtagRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    // 통합 경로에 새로 연결할 해시태그들을 하나의 JDBC 배치로 저장
+    public void batchInsert(Long integratedRouteId, List<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO uuid_hashtag (hashtag_id, integerated_route_id) VALUES (?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, hashtagIds.get(i));
+                        ps.setLong(2, integratedRouteId);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return hashtagIds.size();
+                    }
+                });
+    }
+}
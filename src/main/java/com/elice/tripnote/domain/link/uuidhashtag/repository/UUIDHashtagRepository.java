@@ -7,7 +7,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface UUIDHashtagRepository extends JpaRepository<UUIDHashtag, Long> {
+public interface UUIDHashtagRepository extends JpaRepository<UUIDHashtag, Long>, CustomUUIDHashtagRepository {
     List<UUIDHashtag> findByIntegratedRoute_IntegratedRoutes(String integratedRoutes);
 
 
@@ -4,12 +4,12 @@ package com.elice.tripnote.domain.member.repository;
 import com.elice.tripnote.domain.member.entity.MemberResponseDTO;
 import com.elice.tripnote.domain.member.entity.QMember;
 import com.elice.tripnote.global.entity.PageRequestDTO;
+import com.elice.tripnote.global.util.CountCache;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
@@ -20,6 +20,7 @@ import java.util.List;
 public class MemberCustomRepositoryImpl implements MemberCustomRepository{
 
     private final JPAQueryFactory query;
+    private final CountCache countCache;
 
     private final QMember member = new QMember("member");
 
@@ -44,13 +45,12 @@ public class MemberCustomRepositoryImpl implements MemberCustomRepository{
                 .limit(pageRequest.getPageSize())
                 .fetch();
 
-        long totalCount = query
-                .select(member.count())
-                .from(member)
-                .fetchFirst();
 
 
-        return new PageImpl<>(memberResponseDTOS, pageRequest, totalCount);
+        return countCache.estimatedPage(memberResponseDTOS, pageRequest, CountCache.MEMBER, "member", () -> query
+                .select(member.count())
+                .from(member)
+                .fetchFirst());
     }
 
     private OrderSpecifier<?> getOrderSpecifier(String order, boolean asc) {   //정렬 방식 정하기
@@ -37,6 +37,8 @@ import static com.elice.tripnote.global.exception.ErrorCode.*;
 public class KakaoService {
 
     private final JWTUtil jwtUtil;
+    // 커넥션 풀을 공유하는 RestTemplate (HttpClientConfig)
+    private final RestTemplate restTemplate;
 
     @Value("${kakao.rest}")
     private String clientKey;
@@ -91,8 +93,7 @@ public class KakaoService {
 
             // HTTP 요청 보내기
             HttpEntity<MultiValueMap<String, String>> kakaoTokenRequest = new HttpEntity<>(body, headers);
-            RestTemplate rt = new RestTemplate();
-            response = rt.exchange(
+            response = restTemplate.exchange(
                     "https://kauth.kakao.com/oauth/token",
                     HttpMethod.POST,
                     kakaoTokenRequest,
@@ -195,8 +196,7 @@ public class KakaoService {
 
             // HTTP 요청 보내기
             HttpEntity<MultiValueMap<String, String>> kakaoUserInfoRequest = new HttpEntity<>(headers);
-            RestTemplate rt = new RestTemplate();
-            response = rt.exchange(
+            response = restTemplate.exchange(
                     "https://kapi.kakao.com/v2/user/me",
                     HttpMethod.POST,
                     kakaoUserInfoRequest,
@@ -257,8 +257,7 @@ public class KakaoService {
 
             // HTTP 요청 보내기
             HttpEntity<MultiValueMap<String, String>> kakaoTokenRequest = new HttpEntity<>(headers);
-            RestTemplate rt = new RestTemplate();
-            response = rt.exchange(
+            response = restTemplate.exchange(
                     "https://kapi.kakao.com/v1/user/logout",
                     HttpMethod.POST,
                     kakaoTokenRequest,
@@ -320,8 +319,7 @@ public class KakaoService {
             // HTTP 요청 보내기
 
             HttpEntity<MultiValueMap<String, String>> kakaoTokenRequest = new HttpEntity<>(body, headers);
-            RestTemplate rt = new RestTemplate();
-            response = rt.exchange(
+            response = restTemplate.exchange(
                     "https://kapi.kakao.com/v1/user/unlink",
                     HttpMethod.POST,
                     kakaoTokenRequest,
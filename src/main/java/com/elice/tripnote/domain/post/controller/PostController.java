@@ -3,6 +3,7 @@ package com.elice.tripnote.domain.post.controller;
 
 import com.elice.tripnote.domain.hashtag.entity.HashtagRequestDTO;
 import com.elice.tripnote.domain.post.entity.PostDetailResponseDTO;
+import com.elice.tripnote.domain.post.entity.PostFeedResponseDTO;
 import com.elice.tripnote.domain.post.entity.PostRequestDTO;
 import com.elice.tripnote.domain.post.entity.PostResponseDTO;
 import com.elice.tripnote.domain.post.service.PostService;
@@ -35,6 +36,15 @@ public class PostController implements SwaggerPostController {
         return ResponseEntity.ok().body(postService.getPosts(pageRequestDTO));
     }
 
+    @Override
+    @GetMapping("/posts/feed")
+    public ResponseEntity<PostFeedResponseDTO> getPostFeed(@RequestParam(name = "order", defaultValue = "id") String order,
+                                                           @RequestParam(name = "cursor", required = false) String cursor,
+                                                           @RequestParam(name = "size", defaultValue = "10") int size,
+                                                           @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok().body(postService.getPostFeed(order, cursor, size, withTotal));
+    }
+
     //@Override
     @PostMapping("/posts")
     public ResponseEntity<Page<PostResponseDTO>> getPostsByHashtag(@Valid @RequestBody List<HashtagRequestDTO> hashtagRequestDTOList,
@@ -3,6 +3,7 @@ package com.elice.tripnote.domain.post.controller;
 
 import com.elice.tripnote.domain.hashtag.entity.HashtagRequestDTO;
 import com.elice.tripnote.domain.post.entity.PostDetailResponseDTO;
+import com.elice.tripnote.domain.post.entity.PostFeedResponseDTO;
 import com.elice.tripnote.domain.post.entity.PostRequestDTO;
 import com.elice.tripnote.domain.post.entity.PostResponseDTO;
 import com.elice.tripnote.global.entity.ErrorResponse;
@@ -32,6 +33,20 @@ public interface SwaggerPostController {
     ResponseEntity<Page<PostResponseDTO>> getPosts(@Valid PageRequestDTO pageRequestDTO);
 
 
+    @Operation(summary="게시글 피드 조회 - 모두", description= "게시글을 커서 방식으로 조회할 때 사용하는 api입니다. 응답의 nextCursor를 cursor로 보내면 다음 페이지를 조회합니다. 삭제되지 않은 게시글만 조회 가능합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "게시글 조회에 성공하였습니다.",  content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "커서가 올바르지 않습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @Parameters({
+            @Parameter(name = "order", description = "정렬방법 id(최신순) 또는 likes(좋아요순)"),
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor, 첫 페이지는 비워둡니다."),
+            @Parameter(name = "size", description = "페이지 크기 1 이상 50 이하"),
+            @Parameter(name = "withTotal", description = "전체 게시글 수를 같이 조회할지")
+    })
+    ResponseEntity<PostFeedResponseDTO> getPostFeed(String order, String cursor, int size, boolean withTotal);
+
+
     @Operation(summary="해쉬태그 게시글 조회  - 모두", description= "특정 해쉬태그들을 가진 게시글을 조회할 때 사용하는 api입니다. 삭제되지 않은 게시글만 조회 가능합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "게시글 조회에 성공하였습니다.",  content = @Content(mediaType = "application/json")),
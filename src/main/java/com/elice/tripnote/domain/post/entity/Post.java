@@ -20,6 +20,10 @@ import java.util.List;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
+// 게시글 피드 커서 조회용 (최신순, 좋아요순)
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_deleted_id", columnList = "is_deleted, id"),
+        @Index(name = "idx_post_deleted_likes_id", columnList = "is_deleted, likes, id")})
 public class Post extends BaseTimeEntity {
 
     @Id
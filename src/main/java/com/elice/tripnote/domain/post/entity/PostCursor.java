@@ -0,0 +1,51 @@
+package com.elice.tripnote.domain.post.entity;
+
+import com.elice.tripnote.global.exception.CustomException;
+import com.elice.tripnote.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 게시글 피드의 다음 페이지 위치 (마지막으로 보낸 게시글의 정렬 키)
+ * 클라이언트에는 "정렬방법:좋아요 수:id"를 base64url로 인코딩한 문자열로 보내고, 그대로 돌려받는다.
+ *
+ * @param order "id" 또는 "likes"
+ * @param likes 마지막 게시글의 좋아요 수 (id 순서일 때는 0)
+ * @param id    마지막 게시글 id
+ */
+public record PostCursor(String order, int likes, long id) {
+    public static final String ORDER_ID = "id";
+    public static final String ORDER_LIKES = "likes";
+
+    // getOrderSpecifier와 같은 규칙 (likes가 아니면 id 순서)
+    public static String normalizeOrder(String order) {
+        return ORDER_LIKES.equals(order) ? ORDER_LIKES : ORDER_ID;
+    }
+
+    public String encode() {
+        String value = order + ":" + likes + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지면 null
+     * @param order  요청한 정렬방법 (커서를 만든 정렬방법과 달라도 오류)
+     * @return 첫 페이지면 null
+     */
+    public static PostCursor decode(String cursor, String order) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3 || !parts[0].equals(normalizeOrder(order))) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new PostCursor(parts[0], Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // base64나 숫자 형식이 틀린 경우 (NumberFormatException 포함)
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
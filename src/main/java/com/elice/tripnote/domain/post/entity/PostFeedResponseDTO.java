@@ -0,0 +1,20 @@
+package com.elice.tripnote.domain.post.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostFeedResponseDTO {
+    private List<PostResponseDTO> posts;
+
+    // 다음 페이지를 요청할 때 그대로 보내는 값, 마지막 페이지면 null
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    // withTotal=true로 요청했을 때만 채운다.
+    private Long totalCount;
+}
@@ -3,6 +3,7 @@ package com.elice.tripnote.domain.post.repository;
 
 import com.elice.tripnote.domain.hashtag.entity.HashtagRequestDTO;
 import com.elice.tripnote.domain.post.entity.PostDetailResponseDTO;
+import com.elice.tripnote.domain.post.entity.PostFeedResponseDTO;
 import com.elice.tripnote.domain.post.entity.PostResponseDTO;
 import com.elice.tripnote.global.entity.PageRequestDTO;
 import org.springframework.data.domain.Page;
@@ -12,6 +13,7 @@ import java.util.List;
 
 public interface CustomPostRepository {
     Page<PostResponseDTO> customFindNotDeletedPosts(PageRequestDTO pageRequestDTO);
+    PostFeedResponseDTO customFindNotDeletedPostsByCursor(String order, String cursor, int size, boolean withTotal);
     Page<PostResponseDTO> customFindByHashtagNotDeletedPosts(List<HashtagRequestDTO> hashtagRequestDTOList, PageRequestDTO pageRequestDTO);
 
     Page<PostResponseDTO> customFindPosts(Long postId, PageRequestDTO pageRequestDTO);
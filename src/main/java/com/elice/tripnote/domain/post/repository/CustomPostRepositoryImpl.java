@@ -9,14 +9,19 @@ import com.elice.tripnote.domain.link.likePost.entity.QLikePost;
 import com.elice.tripnote.domain.link.reportPost.entity.QReportPost;
 import com.elice.tripnote.domain.link.uuidhashtag.entity.QUUIDHashtag;
 import com.elice.tripnote.domain.member.entity.QMember;
+import com.elice.tripnote.domain.post.entity.PostCursor;
 import com.elice.tripnote.domain.post.entity.PostDetailResponseDTO;
+import com.elice.tripnote.domain.post.entity.PostFeedResponseDTO;
 import com.elice.tripnote.domain.post.entity.PostResponseDTO;
 import com.elice.tripnote.domain.post.entity.QPost;
 import com.elice.tripnote.domain.route.entity.QRoute;
 import com.elice.tripnote.domain.route.status.RouteStatus;
 import com.elice.tripnote.global.entity.PageRequestDTO;
+import com.elice.tripnote.global.util.CountCache;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
@@ -24,11 +29,13 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static com.querydsl.core.group.GroupBy.groupBy;
 import static com.querydsl.core.group.GroupBy.list;
@@ -39,6 +46,7 @@ import static com.querydsl.core.group.GroupBy.list;
 public class CustomPostRepositoryImpl implements CustomPostRepository {
 
     private final JPAQueryFactory query;
+    private final CountCache countCache;
 
 
     private final QMember member = QMember.member;
@@ -59,11 +67,6 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
         PageRequest pageRequest = PageRequest.of(pageRequestDTO.getPage()-1, pageRequestDTO.getSize());
         OrderSpecifier<?> orderSpecifier = getOrderSpecifier(pageRequestDTO.getOrder(), pageRequestDTO.isAsc());
 
-        long totalCount = query
-                .select(post.count())
-                .from(post)
-                .where(post.isDeleted.isFalse())
-                .fetchFirst();
 
         List<Long> postIds = query
                 .select(post.id)
@@ -126,7 +129,90 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
 //                        )
 //                ));
 
-        return new PageImpl<>(postResponseDTOs, pageRequest, totalCount);
+        return countCache.page(postResponseDTOs, pageRequest, CountCache.POST, "notDeleted", () -> query
+                .select(post.count())
+                .from(post)
+                .where(post.isDeleted.isFalse())
+                .fetchFirst());
+    }
+
+    /**
+     * 삭제되지 않은 게시글 피드 (커서 방식)
+     * OFFSET 대신 마지막 게시글의 정렬 키보다 뒤에 있는 게시글만 조회하므로 (is_deleted, id), (is_deleted, likes, id) 인덱스를 타고
+     * 몇 번째 페이지든 같은 비용이 든다.
+     *
+     * @param order     "id"(최신순) 또는 "likes"(좋아요순, 같으면 최신순)
+     * @param cursor    이전 응답의 nextCursor, 첫 페이지면 null
+     * @param size      페이지 크기
+     * @param withTotal 전체 게시글 수를 같이 셀지
+     */
+    public PostFeedResponseDTO customFindNotDeletedPostsByCursor(String order, String cursor, int size, boolean withTotal){
+        String normalizedOrder = PostCursor.normalizeOrder(order);
+        PostCursor after = PostCursor.decode(cursor, normalizedOrder);
+        boolean byLikes = PostCursor.ORDER_LIKES.equals(normalizedOrder);
+
+        BooleanExpression condition = post.isDeleted.isFalse();
+        if (after != null) {
+            condition = condition.and(byLikes
+                    ? post.likes.lt(after.likes()).or(post.likes.eq(after.likes()).and(post.id.lt(after.id())))
+                    : post.id.lt(after.id()));
+        }
+        OrderSpecifier<?>[] orderSpecifiers = byLikes
+                ? new OrderSpecifier<?>[]{post.likes.desc(), post.id.desc()}
+                : new OrderSpecifier<?>[]{post.id.desc()};
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        List<Tuple> keys = query
+                .select(post.id, post.likes)
+                .from(post)
+                .where(condition)
+                .orderBy(orderSpecifiers)
+                .limit(size + 1)
+                .fetch();
+        boolean hasNext = keys.size() > size;
+        if (hasNext) keys = keys.subList(0, size);
+        List<Long> postIds = keys.stream().map(tuple -> tuple.get(post.id)).toList();
+
+        Map<Long, PostResponseDTO> postsById = new HashMap<>();
+        if (!postIds.isEmpty()) {
+            query
+                    .from(post)
+                    .join(post.member, member)
+                    .join(post.route, route)
+                    .join(route.integratedRoute, integratedRoute)
+                    .join(integratedRoute.uuidHashtags, uuidHashtags)
+                    .join(uuidHashtags.hashtag, hashtag)
+                    .where(post.id.in(postIds))
+                    .transform(groupBy(post.id).list(Projections.constructor(PostResponseDTO.class,
+                                    post.id,
+                                    post.title,
+                                    post.content,
+                                    post.isDeleted,
+                                    post.createdAt,
+                                    member.nickname,
+                                    list(Projections.constructor(HashtagResponseDTO.class,
+                                            hashtag.id,
+                                            hashtag.name,
+                                            hashtag.isCity)
+                                    )
+                            )
+                    ))
+                    .forEach(dto -> postsById.put(dto.getId(), dto));
+        }
+        List<PostResponseDTO> posts = postIds.stream().map(postsById::get).filter(Objects::nonNull).toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = keys.get(keys.size() - 1);
+            nextCursor = new PostCursor(normalizedOrder, byLikes ? last.get(post.likes) : 0, last.get(post.id)).encode();
+        }
+
+        Long totalCount = withTotal
+                ? countCache.get(CountCache.POST, "notDeleted",
+                        () -> query.select(post.count()).from(post).where(post.isDeleted.isFalse()).fetchFirst())
+                : null;
+
+        return new PostFeedResponseDTO(posts, nextCursor, hasNext, totalCount);
     }
 
     public Page<PostResponseDTO> customFindByHashtagNotDeletedPosts(List<HashtagRequestDTO> hashtagRequestDTOList, PageRequestDTO pageRequestDTO){
@@ -149,11 +235,6 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .groupBy(post.id)
                 .having(hashtag.count().eq((long) hashtagRequestDTOList.size()));
 
-        long totalCount = query
-                .select(post.count())
-                .from(post)
-                .where(post.id.in(subQuery))
-                .fetchFirst();
 
         List<Long> postIds =query
                 .select(post.id)
@@ -199,7 +280,11 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                         )
                 ));
 
-        return new PageImpl<>(postResponseDTOs, pageRequest, totalCount);
+        return countCache.page(postResponseDTOs, pageRequest, CountCache.POST, "hashtag:" + String.join(",", hashtagNames.stream().sorted().toList()), () -> query
+                .select(post.count())
+                .from(post)
+                .where(post.id.in(subQuery))
+                .fetchFirst());
     }
 
 
@@ -212,12 +297,6 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
 
         Long memberId = postId != null? query.select(member.id).from(member).join(member.posts, post).where(post.id.eq(postId)).fetchFirst() : null;
 
-        long totalCount =query
-                .select(post.count())
-                .from(post)
-                .join(post.member, member)
-                .where(memberId != null ? member.id.eq(memberId) : null)
-                .fetchFirst();
 
 
         List<PostResponseDTO> postResponseDTOs = query
@@ -237,25 +316,21 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .limit(pageRequest.getPageSize())
                 .fetch();
 
-        return new PageImpl<>(postResponseDTOs, pageRequest, totalCount);
+        return countCache.page(postResponseDTOs, pageRequest, CountCache.POST, "admin:" + memberId, () -> query
+                .select(post.count())
+                .from(post)
+                .join(post.member, member)
+                .where(memberId != null ? member.id.eq(memberId) : null)
+                .fetchFirst());
     }
 
     public Page<PostResponseDTO> customFindPosts(String nickname, PageRequestDTO pageRequestDTO){
         PageRequest pageRequest = PageRequest.of(pageRequestDTO.getPage()-1, pageRequestDTO.getSize());
         OrderSpecifier<?> orderSpecifier = getOrderSpecifier(pageRequestDTO.getOrder(), pageRequestDTO.isAsc());
 
-        Long memberId = query.select(member.id).from(member).where(member.nickname.eq(nickname)).fetchFirst();
+        Long foundId = query.select(member.id).from(member).where(member.nickname.eq(nickname)).fetchFirst();
+        Long memberId = foundId != null ? foundId : -1L;
 
-        if(memberId == null){
-            memberId = -1L;
-        }
-
-        long totalCount =query
-                .select(post.count())
-                .from(post)
-                .join(post.member, member)
-                .where(member.id.eq(memberId))
-                .fetchFirst();
 
 
         List<PostResponseDTO> postResponseDTOs = query
@@ -275,7 +350,12 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .limit(pageRequest.getPageSize())
                 .fetch();
 
-        return new PageImpl<>(postResponseDTOs, pageRequest, totalCount);
+        return countCache.page(postResponseDTOs, pageRequest, CountCache.POST, "admin:" + memberId, () -> query
+                .select(post.count())
+                .from(post)
+                .join(post.member, member)
+                .where(member.id.eq(memberId))
+                .fetchFirst());
     }
 
 
@@ -285,12 +365,6 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
         PageRequest pageRequest = PageRequest.of(pageRequestDTO.getPage()-1, pageRequestDTO.getSize());
         OrderSpecifier<?> orderSpecifier = getOrderSpecifier(pageRequestDTO.getOrder(), pageRequestDTO.isAsc());
 
-        long totalCount = query
-                .select(post.count())
-                .from(post)
-                .where(post.member.id.eq(memberId)
-                        .and(post.isDeleted.isFalse()))
-                .fetchFirst();
 
         List<PostResponseDTO> postResponseDTOs = query
                 .select(Projections.constructor(PostResponseDTO.class,
@@ -310,22 +384,18 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .limit(pageRequest.getPageSize())
                 .fetch();
 
-        return new PageImpl<>(postResponseDTOs, pageRequest, totalCount);
+        return countCache.page(postResponseDTOs, pageRequest, CountCache.POST, "member:" + memberId, () -> query
+                .select(post.count())
+                .from(post)
+                .where(post.member.id.eq(memberId)
+                        .and(post.isDeleted.isFalse()))
+                .fetchFirst());
     }
 
     public Page<PostResponseDTO> customFindNotDeletedPostsWithLikesByMemberId(Long memberId, PageRequestDTO pageRequestDTO){
         PageRequest pageRequest = PageRequest.of(pageRequestDTO.getPage()-1, pageRequestDTO.getSize());
         OrderSpecifier<?> orderSpecifier = getOrderSpecifier(pageRequestDTO.getOrder(), pageRequestDTO.isAsc());
 
-        long totalCount = query
-                .select(post.count())
-                .from(post)
-                .join(post.likePosts, likePost)
-                .on(likePost.likedAt.isNotNull())
-                .join(likePost.member, member)
-                .on(member.id.eq(memberId))
-                .where(post.isDeleted.isFalse())
-                .fetchFirst();
 
         List<PostResponseDTO> postResponseDTOs = query
                 .select(Projections.constructor(PostResponseDTO.class,
@@ -347,7 +417,15 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .limit(pageRequest.getPageSize())
                 .fetch();
 
-        return new PageImpl<>(postResponseDTOs, pageRequest, totalCount);
+        return countCache.page(postResponseDTOs, pageRequest, CountCache.LIKED_POST, "member:" + memberId, () -> query
+                .select(post.count())
+                .from(post)
+                .join(post.likePosts, likePost)
+                .on(likePost.likedAt.isNotNull())
+                .join(likePost.member, member)
+                .on(member.id.eq(memberId))
+                .where(post.isDeleted.isFalse())
+                .fetchFirst());
 
     }
 
@@ -356,15 +434,6 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
         PageRequest pageRequest = PageRequest.of(pageRequestDTO.getPage()-1, pageRequestDTO.getSize());
         OrderSpecifier<?> orderSpecifier = getOrderSpecifier(pageRequestDTO.getOrder(), pageRequestDTO.isAsc());
 
-        long totalCount = query
-                .select(post.count())
-                .from(post)
-                .join(post.bookmarks, bookmark)
-                .on(bookmark.markedAt.isNotNull())
-                .join(bookmark.member, member)
-                .on(member.id.eq(memberId))
-                .where(post.isDeleted.isFalse())
-                .fetch().size();
 
         List<PostResponseDTO> postResponseDTOs = query
                 .select(Projections.constructor(PostResponseDTO.class,
@@ -386,7 +455,15 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .limit(pageRequest.getPageSize())
                 .fetch();
 
-        return new PageImpl<>(postResponseDTOs, pageRequest, totalCount);
+        return countCache.page(postResponseDTOs, pageRequest, CountCache.MARKED_POST, "member:" + memberId, () -> query
+                .select(post.count())
+                .from(post)
+                .join(post.bookmarks, bookmark)
+                .on(bookmark.markedAt.isNotNull())
+                .join(bookmark.member, member)
+                .on(member.id.eq(memberId))
+                .where(post.isDeleted.isFalse())
+                .fetchFirst());
 
     }
 
@@ -13,14 +13,17 @@ import com.elice.tripnote.domain.member.entity.Member;
 import com.elice.tripnote.domain.member.repository.MemberRepository;
 import com.elice.tripnote.domain.post.entity.Post;
 import com.elice.tripnote.domain.post.entity.PostDetailResponseDTO;
+import com.elice.tripnote.domain.post.entity.PostFeedResponseDTO;
 import com.elice.tripnote.domain.post.entity.PostRequestDTO;
 import com.elice.tripnote.domain.post.entity.PostResponseDTO;
 import com.elice.tripnote.domain.route.entity.Route;
 import com.elice.tripnote.domain.route.repository.RouteRepository;
+import com.elice.tripnote.domain.route.service.RouteCardService;
 import com.elice.tripnote.domain.post.repository.PostRepository;
 import com.elice.tripnote.global.entity.PageRequestDTO;
 import com.elice.tripnote.global.exception.CustomException;
 import com.elice.tripnote.global.exception.ErrorCode;
+import com.elice.tripnote.global.util.CountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -44,6 +47,8 @@ public class PostService {
     private final BookmarkRepository bookmarkRepository;
     private final MemberRepository memberRepository;
     private final RouteRepository routeRepository;
+    private final RouteCardService routeCardService;
+    private final CountCache countCache;
 
 
 
@@ -55,6 +60,12 @@ public class PostService {
         return postRepository.customFindNotDeletedPosts(pageRequestDTO);
     }
 
+    // 게시글 피드 (커서 방식), 페이지 크기는 1~50, 전체 게시글 수는 withTotal일 때만 센다.
+    public PostFeedResponseDTO getPostFeed(String order, String cursor, int size, boolean withTotal){
+
+        return postRepository.customFindNotDeletedPostsByCursor(order, cursor, Math.max(1, Math.min(size, 50)), withTotal);
+    }
+
     public Page<PostResponseDTO> getPostsByHashtag(List<HashtagRequestDTO> hashtagRequestDTOList, PageRequestDTO pageRequestDTO){
 
         return postRepository.customFindByHashtagNotDeletedPosts(hashtagRequestDTOList, pageRequestDTO);
@@ -162,6 +173,10 @@ public class PostService {
 //        route.getPost().add(post);
         member.getPosts().add(newPost);
 
+        // 추천 경로의 대표 게시글이 바뀔 수 있음
+        routeCardService.evict(route.getIntegratedRoute().getId());
+        countCache.invalidate(CountCache.POST);
+
         return newPost.getId();
 
 
@@ -208,6 +223,7 @@ public class PostService {
 
 
         likePost.like();
+        countCache.invalidate(CountCache.LIKED_POST);
 
     }
 
@@ -230,6 +246,7 @@ public class PostService {
             bookmarkRepository.save(bookmark);
         }
         bookmark.mark(null, post);
+        countCache.invalidate(CountCache.MARKED_POST);
 
     }
 
@@ -273,6 +290,11 @@ public class PostService {
         post.delete();
 
         postRepository.save(post);
+        routeCardService.evict(post.getRoute().getIntegratedRoute().getId());
+        // 삭제된 게시글은 좋아요/북마크한 게시글 수에서도 빠진다.
+        countCache.invalidate(CountCache.POST);
+        countCache.invalidate(CountCache.LIKED_POST);
+        countCache.invalidate(CountCache.MARKED_POST);
 
     }
 
@@ -290,6 +312,11 @@ public class PostService {
         post.delete();
 
         postRepository.save(post);
+        routeCardService.evict(post.getRoute().getIntegratedRoute().getId());
+        // 삭제된 게시글은 좋아요/북마크한 게시글 수에서도 빠진다.
+        countCache.invalidate(CountCache.POST);
+        countCache.invalidate(CountCache.LIKED_POST);
+        countCache.invalidate(CountCache.MARKED_POST);
 
     }
 
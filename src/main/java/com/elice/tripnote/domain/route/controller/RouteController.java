@@ -1,10 +1,12 @@
 package com.elice.tripnote.domain.route.controller;
 
 import com.elice.tripnote.domain.route.entity.*;
+import com.elice.tripnote.domain.route.service.RouteOptimizerService;
 import com.elice.tripnote.domain.route.service.RouteService;
 import com.elice.tripnote.domain.spot.constant.Region;
 import com.elice.tripnote.global.annotation.MemberRole;
 import com.elice.tripnote.global.entity.PageRequestDTO;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +19,7 @@ import java.util.List;
 @RequestMapping("/api")
 public class RouteController implements SwaggerRouteController {
     private final RouteService routeService;
+    private final RouteOptimizerService routeOptimizerService;
 
     /**
      * 경로 생성
@@ -27,10 +30,22 @@ public class RouteController implements SwaggerRouteController {
     @Override
     @MemberRole
     @PostMapping("/member/routes")
-    public ResponseEntity<Long> save(@RequestBody SaveRequestDTO requestDto) {
+    public ResponseEntity<Long> save(@Valid @RequestBody SaveRequestDTO requestDto) {
         return ResponseEntity.ok(routeService.save(requestDto));
     }
 
+    /**
+     * 여행지 방문 순서 추천
+     *
+     * @param requestDto 여행지 id 리스트, 출발지/도착지 고정 여부
+     * @return 전체 이동 거리가 짧은 순서의 여행지 리스트와 전후 거리(m)
+     */
+    @Override
+    @MemberRole
+    @PostMapping("/member/routes/optimize")
+    public ResponseEntity<OptimizedRouteResponseDTO> optimize(@Valid @RequestBody OptimizeRouteRequestDTO requestDto) {
+        return ResponseEntity.ok(routeOptimizerService.optimize(requestDto));
+    }
 
 //    /**
 //     * 경로 공개/비공개
@@ -30,6 +30,15 @@ public interface SwaggerRouteController {
     })
     ResponseEntity<Long> save(SaveRequestDTO requestDto);
 
+    @Operation(summary = "여행지 방문 순서 추천", description = "여행지 사이 거리를 기준으로 전체 이동 거리가 짧은 방문 순서를 추천합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = {@Content(schema = @Schema(implementation = OptimizedRouteResponseDTO.class))}),
+            @ApiResponse(responseCode = "400", description = "여행지가 너무 많습니다. (최대 100개)"),
+            @ApiResponse(responseCode = "404", description = "해당 spot ID가 존재하지 않습니다."),
+    })
+    ResponseEntity<OptimizedRouteResponseDTO> optimize(OptimizeRouteRequestDTO requestDto);
+
 //    @Operation(summary = "경로 공개/비공개", description = "경로가 현재 공개 상태라면 비공개로, 현재 비공개 상태라면 공개 상태로 변경합니다.")
 //    @Parameters({
 //            @Parameter(name = "routeId", required = true, description = "공개 여부를 수정하려는 경로의 id")
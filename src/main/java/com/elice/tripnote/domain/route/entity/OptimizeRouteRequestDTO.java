@@ -0,0 +1,24 @@
+package com.elice.tripnote.domain.route.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptimizeRouteRequestDTO {
+    @Schema(description = "여행지 id 리스트 (지금 순서)", required = true)
+    @NotEmpty(message = "여행지가 하나 이상 존재해야합니다.")
+    private List<Long> spotIds;
+
+    @Schema(description = "첫 여행지를 출발지로 고정 (기본 true)")
+    private boolean fixStart = true;
+
+    @Schema(description = "마지막 여행지를 도착지로 고정 (기본 false)")
+    private boolean fixEnd;
+}
@@ -0,0 +1,16 @@
+package com.elice.tripnote.domain.route.entity;
+
+import com.elice.tripnote.domain.spot.entity.Spot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 추천 방문 순서와 전체 거리 (m)
+@Getter
+@AllArgsConstructor
+public class OptimizedRouteResponseDTO {
+    private List<Spot> spots;
+    private double originalDistance;
+    private double optimizedDistance;
+}
@@ -0,0 +1,17 @@
+package com.elice.tripnote.domain.route.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 회원과 상관없는 추천 경로 정보 (캐시에 저장)
+@Getter
+@AllArgsConstructor
+public class RouteCard {
+    private final Long integratedRouteId;
+    private final Long routeId; // 좋아요/북마크가 저장되는 대표 경로
+    private final Long postId;
+    private final List<Long> spotIds; // 순서대로, 여행지는 응답을 만들 때 여행지 카탈로그에서 찾는다.
+    private final int likes;
+}
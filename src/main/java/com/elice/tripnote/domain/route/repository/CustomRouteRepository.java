@@ -3,28 +3,36 @@ package com.elice.tripnote.domain.route.repository;
 import com.elice.tripnote.domain.route.entity.RecommendedRouteResponseDTO;
 import com.elice.tripnote.domain.route.entity.Route;
 import com.elice.tripnote.domain.route.entity.RouteDetailResponseDTO;
+import com.elice.tripnote.domain.route.entity.RouteCard;
 import com.elice.tripnote.domain.route.entity.RouteIdNameResponseDTO;
 import com.elice.tripnote.global.entity.PageRequestDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 public interface CustomRouteRepository {
     int getIntegratedRouteLikeCounts(Long integratedRouteId);
 //    Map<Long, Integer> getIntegratedRouteLikeCounts(List<Long> integratedIds);
-    Route getMinRouteByIntegratedId(Long integratedId);
+    Route getRepresentativeRoute(Long integratedId);
 //    Long findPostIdByIntegratedRouteId(Long integratedId);
 //    Map<Long, Long> findPostIdsByIntegratedRouteIds(List<Long> integratedIds);
 
     boolean findHashtagIdIdCity(Long hashtagId);
     //    Page<RouteDetailResponseDTO> findRouteDetailsByMemberId(Long memberId, Pageable pageable);
-    Page<RouteDetailResponseDTO> findRouteDetailsByMemberId(Long memberId, PageRequestDTO pageRequestDTO, boolean isBookmark);
+    Page<RouteIdNameResponseDTO> findRoutesByMemberId(Long memberId, PageRequestDTO pageRequestDTO, boolean isBookmark);
+    Map<Long, List<Long>> findSpotIdsByRouteIds(Collection<Long> routeIds);
     List<RecommendedRouteResponseDTO> getRecommendedRoutes(List<Long> integratedRouteIds, Long memberId, boolean isMember);
-    List<Long> findIntegratedRouteIdsBySpotsAndLikes(List<Long> spots);
+    List<RouteCard> findRouteCards(Collection<Long> integratedRouteIds);
+    List<Long> findLikedIntegratedRouteIds(Long memberId);
+    List<Long> findBookmarkedIntegratedRouteIds(Long memberId);
+    List<Long> findIntegratedRouteIdsBySpots(List<Long> spots);
     boolean existsByMemberIdAndIntegratedRouteId(Long memberId, Long integratedId, boolean isLike);
     void deleteByMemberIdAndIntegratedRouteId(Long memberId, Long integratedId, boolean isLike);
+    Route findFirstPublicRoute(Long integratedId);
+    void moveLikesAndBookmarks(Long fromRouteId, Route to);
 
 
 }
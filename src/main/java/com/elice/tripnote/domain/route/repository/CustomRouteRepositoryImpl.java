@@ -12,21 +12,25 @@ import com.elice.tripnote.domain.route.status.RouteStatus;
 import com.elice.tripnote.domain.spot.entity.QSpot;
 import com.elice.tripnote.domain.spot.entity.Spot;
 import com.elice.tripnote.global.entity.PageRequestDTO;
+import com.elice.tripnote.global.util.CountCache;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import java.util.LinkedHashMap;
 
@@ -34,6 +38,7 @@ import java.util.LinkedHashMap;
 @RequiredArgsConstructor
 public class CustomRouteRepositoryImpl implements CustomRouteRepository {
     private final JPAQueryFactory query;
+    private final CountCache countCache;
     private final QRoute route = new QRoute("r");
     private final QRouteSpot routeSpot = new QRouteSpot("rs");
     private final QSpot spot = new QSpot("s");
@@ -57,11 +62,11 @@ public class CustomRouteRepositoryImpl implements CustomRouteRepository {
 //                .fetch();
 //    }
 
-    public Page<RouteDetailResponseDTO> findRouteDetailsByMemberId(Long memberId, PageRequestDTO pageRequestDTO, boolean isBookmark) {
+    // 회원의 경로 또는 북마크한 경로 (여행지는 서비스에서 findSpotIdsByRouteIds로 붙인다)
+    public Page<RouteIdNameResponseDTO> findRoutesByMemberId(Long memberId, PageRequestDTO pageRequestDTO, boolean isBookmark) {
         PageRequest pageRequest = PageRequest.of(pageRequestDTO.getPage() - 1, pageRequestDTO.getSize());
 //        OrderSpecifier<?> orderSpecifier = getOrderSpecifier(pageRequestDTO.getOrder(), pageRequestDTO.isAsc());
 
-        long total = 0;
         List<RouteIdNameResponseDTO> routes;
         if (isBookmark) {
             routes = query
@@ -80,15 +85,6 @@ public class CustomRouteRepositoryImpl implements CustomRouteRepository {
                     .orderBy(route.id.asc())
                     .fetch();
 
-            total = query
-                    .select(route.count())
-                    .from(route)
-                    .join(bookmark).on(bookmark.route.id.eq(route.id))
-                    .leftJoin(post).on(post.route.id.eq(route.id))
-                    .where(bookmark.member.id.eq(memberId)
-                            .and(route.routeStatus.eq(RouteStatus.PUBLIC)))
-                    .fetchOne();
-
         } else {
             routes = query
                     .select(Projections.constructor(RouteIdNameResponseDTO.class,
@@ -104,86 +100,35 @@ public class CustomRouteRepositoryImpl implements CustomRouteRepository {
                     .limit(pageRequest.getPageSize())
                     .orderBy(route.id.asc())
                     .fetch();
-
-            total = query
-                    .select(route.count())
-                    .from(route)
-                    .where(route.member.id.eq(memberId)
-                            .and(route.routeStatus.eq(RouteStatus.PUBLIC)))
-                    .fetchOne();
         }
 
-        // 그 중 경로 id만 리스트로 추출
-        List<Long> routeIds = routes.stream()
-                .map(RouteIdNameResponseDTO::getRouteId)
-                .collect(Collectors.toList());
-
-        List<SpotRouteIdDTO> spots = query
-                .select(Projections.constructor(SpotRouteIdDTO.class,
-                        routeSpot.route.id,
-                        spot.id,
-                        spot.location,
-                        spot.imageUrl,
-                        spot.region,
-                        spot.address,
-                        spot.lat,
-                        spot.lng
-                ))
-                .from(routeSpot)
-                .join(spot).on(spot.id.eq(routeSpot.spot.id))
-                .where(routeSpot.route.id.in(routeIds))
-                // 일단 route id 순서대로, 그 안에서는 sequence 순서대로
-                .orderBy(routeSpot.route.id.asc(), routeSpot.sequence.asc())
-                .fetch();
-
-        Map<Long, List<SpotRouteIdDTO>> routeIdToSpotsMap = spots.stream()
-                .collect(Collectors.groupingBy(SpotRouteIdDTO::getRouteId));
-
-        List<RouteDetailResponseDTO> routeDetails = routes.stream()
-                .map(routeDto -> new RouteDetailResponseDTO(
-                        routeDto.getRouteId(),
-                        routeDto.getPostId(),
-                        routeDto.getName(),
-                        routeIdToSpotsMap.getOrDefault(routeDto.getRouteId(), List.of())
-                                .stream()
-                                .map(spotDto -> new Spot(
-                                        spotDto.getId(),
-                                        spotDto.getLocation(),
-                                        spotDto.getImageUrl(),
-                                        spotDto.getRegion(),
-                                        spotDto.getAddress(),
-                                        spotDto.getLat(),
-                                        spotDto.getLng()
-                                ))
-                                .collect(Collectors.toList())
-                ))
-                .collect(Collectors.toList());
-
-
-        return new PageImpl<>(routeDetails, pageRequest, total);
+        LongSupplier counter = isBookmark
+                ? () -> query
+                        .select(route.count())
+                        .from(route)
+                        .join(bookmark).on(bookmark.route.id.eq(route.id))
+                        .where(bookmark.member.id.eq(memberId)
+                                .and(route.routeStatus.eq(RouteStatus.PUBLIC)))
+                        .fetchOne()
+                : () -> query
+                        .select(route.count())
+                        .from(route)
+                        .where(route.member.id.eq(memberId)
+                                .and(route.routeStatus.eq(RouteStatus.PUBLIC)))
+                        .fetchOne();
+        return countCache.page(routes, pageRequest, CountCache.ROUTE, (isBookmark ? "bookmarked:" : "member:") + memberId, counter);
     }
 
 
     public int getIntegratedRouteLikeCounts(Long integratedRouteId) {
-        /*
-        select count(lp.id)
-        from route r
-        join integrated ir on r.integrated_id=ir.id
-        join like_post lp on r.id=lp.route_id
-        where ir.id=:integratedRouteId
-        group by ir.id
-
-         */
-        Integer likeCount = query
-                .select(likePost.id.count().intValue())
-                .from(route)
-                .join(integratedRoute).on(integratedRoute.id.eq(route.integratedRoute.id))
-                .join(likePost).on(likePost.route.id.eq(route.id))
-                .where(integratedRoute.id.eq(integratedRouteId))
-                .groupBy(integratedRoute.id)
+        // 통합 경로의 좋아요는 모두 대표 경로에 저장된다.
+        Long likeCount = query
+                .select(likePost.id.count())
+                .from(likePost)
+                .where(likePost.route.id.eq(representativeRouteId(integratedRouteId)))
                 .fetchOne();
 
-        return likeCount != null ? likeCount : 0;
+        return likeCount != null ? Math.toIntExact(likeCount) : 0;
     }
 
 //    public Map<Long, Integer> getIntegratedRouteLikeCounts(List<Long> integratedIds) {
@@ -204,17 +149,14 @@ public class CustomRouteRepositoryImpl implements CustomRouteRepository {
 //                ));
 //    }
 
-    public Route getMinRouteByIntegratedId(Long integratedId) {
-        JPQLQuery<Long> minRouteId = JPAExpressions
-                .select(route.id.min())
-                .from(route)
-                .join(integratedRoute).on(integratedRoute.id.eq(route.integratedRoute.id))
-                .where(integratedRoute.id.eq(integratedId));
-
+    public Route getRepresentativeRoute(Long integratedId) {
         return query
                 .select(route)
                 .from(route)
-                .where(route.id.eq(minRouteId))
+                .join(integratedRoute).on(integratedRoute.representativeRouteId.eq(route.id))
+                // 삭제된 통합 경로의 대표 경로는 삭제된 경로이므로 좋아요/북마크를 새로 달지 않는다.
+                .where(integratedRoute.id.eq(integratedId)
+                        .and(integratedRoute.routeStatus.ne(RouteStatus.DELETE)))
                 .fetchOne();
     }
 
@@ -262,6 +204,7 @@ public class CustomRouteRepositoryImpl implements CustomRouteRepository {
                 .fetchOne();
     }
 
+    // 라우트 카드(findRouteCards) 도입 이전의 조회 방식. 두 방식을 비교하는 벤치마크에서 사용한다.
     public List<RecommendedRouteResponseDTO> getRecommendedRoutes(List<Long> integratedRouteIds, Long memberId, boolean isMember) {
 
         List<Tuple> results = query
@@ -348,7 +291,102 @@ public class CustomRouteRepositoryImpl implements CustomRouteRepository {
                 .collect(Collectors.toList());
     }
 
-    public List<Long> findIntegratedRouteIdsBySpotsAndLikes(List<Long> spots) {
+    /**
+     * 통합 경로별 라우트 카드 조회
+     * 대표 경로, 대표 경로의 여행지, 좋아요 수, 대표 게시글을 각각 IN 쿼리 한 번씩으로 조회해서 합친다.
+     *
+     * @param integratedRouteIds 통합 경로 id 리스트
+     * @return 경로가 하나 이상 있고 삭제되지 않은 통합 경로의 카드 리스트 (순서 보장 X)
+     */
+    public List<RouteCard> findRouteCards(Collection<Long> integratedRouteIds) {
+        if (integratedRouteIds.isEmpty()) return new ArrayList<>();
+
+        // 통합 경로별 대표 경로
+        Map<Long, Long> routeIdByIntegratedRoute = new HashMap<>();
+        query
+                .select(integratedRoute.id, integratedRoute.representativeRouteId)
+                .from(integratedRoute)
+                .where(integratedRoute.id.in(integratedRouteIds)
+                        .and(integratedRoute.representativeRouteId.isNotNull())
+                        .and(integratedRoute.routeStatus.ne(RouteStatus.DELETE)))
+                .fetch()
+                .forEach(tuple -> routeIdByIntegratedRoute.put(tuple.get(integratedRoute.id), tuple.get(integratedRoute.representativeRouteId)));
+        if (routeIdByIntegratedRoute.isEmpty()) return new ArrayList<>();
+        Collection<Long> routeIds = routeIdByIntegratedRoute.values();
+
+        // 대표 경로의 여행지 id (순서대로)
+        Map<Long, List<Long>> spotIdsByRoute = findSpotIdsByRouteIds(routeIds);
+
+        // 대표 경로의 좋아요 수
+        NumberExpression<Long> likeCount = likePost.id.count();
+        Map<Long, Long> likesByRoute = new HashMap<>();
+        query
+                .select(likePost.route.id, likeCount)
+                .from(likePost)
+                .where(likePost.route.id.in(routeIds))
+                .groupBy(likePost.route.id)
+                .fetch()
+                .forEach(tuple -> likesByRoute.put(tuple.get(likePost.route.id), tuple.get(likeCount)));
+
+        // 통합 경로별 대표 게시글 (삭제되지 않은 게시글 중 좋아요가 가장 많은 게시글)
+        Map<Long, Long> postIdByIntegratedRoute = new HashMap<>();
+        query
+                .select(route.integratedRoute.id, post.id)
+                .from(post)
+                .join(post.route, route)
+                .where(route.integratedRoute.id.in(integratedRouteIds)
+                        .and(post.isDeleted.isFalse()))
+                .orderBy(post.likes.desc(), post.id.asc())
+                .fetch()
+                .forEach(tuple -> postIdByIntegratedRoute.putIfAbsent(tuple.get(route.integratedRoute.id), tuple.get(post.id)));
+
+        List<RouteCard> cards = new ArrayList<>();
+        routeIdByIntegratedRoute.forEach((integratedRouteId, routeId) -> cards.add(new RouteCard(
+                integratedRouteId,
+                routeId,
+                postIdByIntegratedRoute.get(integratedRouteId),
+                spotIdsByRoute.getOrDefault(routeId, new ArrayList<>()),
+                Math.toIntExact(likesByRoute.getOrDefault(routeId, 0L))
+        )));
+        return cards;
+    }
+
+    // 경로별 여행지 id (순서대로), route_spot만 읽는다. (여행지 객체는 서비스에서 여행지 카탈로그로 찾는다)
+    public Map<Long, List<Long>> findSpotIdsByRouteIds(Collection<Long> routeIds) {
+        if (routeIds.isEmpty()) return new HashMap<>();
+        Map<Long, List<Long>> spotIdsByRoute = new HashMap<>();
+        query
+                .select(routeSpot.route.id, routeSpot.spot.id)
+                .from(routeSpot)
+                .where(routeSpot.route.id.in(routeIds))
+                .orderBy(routeSpot.route.id.asc(), routeSpot.sequence.asc())
+                .fetch()
+                .forEach(tuple -> spotIdsByRoute.computeIfAbsent(tuple.get(routeSpot.route.id), id -> new ArrayList<>()).add(tuple.get(routeSpot.spot.id)));
+        return spotIdsByRoute;
+    }
+
+    // 회원이 좋아요를 누른 통합 경로 id 조회 (좋아요는 대표 경로에 저장됨)
+    public List<Long> findLikedIntegratedRouteIds(Long memberId) {
+        return query
+                .select(integratedRoute.id)
+                .from(likePost)
+                .join(integratedRoute).on(integratedRoute.representativeRouteId.eq(likePost.route.id))
+                .where(likePost.member.id.eq(memberId))
+                .fetch();
+    }
+
+    // 회원이 북마크한 통합 경로 id 조회
+    public List<Long> findBookmarkedIntegratedRouteIds(Long memberId) {
+        return query
+                .select(integratedRoute.id)
+                .from(bookmark)
+                .join(integratedRoute).on(integratedRoute.representativeRouteId.eq(bookmark.route.id))
+                .where(bookmark.member.id.eq(memberId))
+                .fetch();
+    }
+
+    // spots를 모두 지나는 공개된 통합 경로 id 조회 (순위는 인기 점수로 따로 매긴다)
+    public List<Long> findIntegratedRouteIdsBySpots(List<Long> spots) {
         JPQLQuery<Long> integratedRouteQuery = query
                 .selectDistinct(route.integratedRoute.id)
                 .from(route)
@@ -357,73 +395,73 @@ public class CustomRouteRepositoryImpl implements CustomRouteRepository {
                 .groupBy(route.id, route.integratedRoute.id)
                 .having(routeSpot.spot.id.countDistinct().eq((long) spots.size()));
 
-//        JPQLQuery<LocalDateTime> maxStartAtSubquery = JPAExpressions.select(lbp.startAt.max())
-//                .from(lbp)
-//                .where(lbp.integratedRoute.id.eq(integratedRoute.id))
-//                .groupBy(lbp.integratedRoute.id);
-
-
         return query
                 .select(integratedRoute.id)
                 .from(integratedRoute)
-                .join(lbp).on(integratedRoute.id.eq(lbp.integratedRoute.id))
                 .where(
                         integratedRoute.id.in(integratedRouteQuery)
-//                                .and(lbp.startAt.eq(maxStartAtSubquery))
                                 .and(integratedRoute.routeStatus.eq(RouteStatus.PUBLIC))
                 )
-                .groupBy(integratedRoute.id)
-                .orderBy(lbp.likes.sum().desc())
-                .limit(5)
                 .fetch();
     }
 
     public boolean existsByMemberIdAndIntegratedRouteId(Long memberId, Long integratedId, boolean isLike) {
-        JPQLQuery<Long> minRouteId = JPAExpressions
-                .select(route.id.min())
-                .from(route)
-//                .join(integratedRoute).on(integratedRoute.id.eq(route.integratedRoute.id))
-                .where(route.integratedRoute.id.eq(integratedId));
-
         if (isLike) {
             return query
-                    .select(likePost.id)
+                    .selectOne()
                     .from(likePost)
-//                .join(route).on(likePost.route.id.eq(route.id))
-                    .where(likePost.route.id.eq(minRouteId).and(likePost.member.id.eq(memberId)))
-                    .fetchCount() > 0;
+                    .where(likePost.route.id.eq(representativeRouteId(integratedId)).and(likePost.member.id.eq(memberId)))
+                    .fetchFirst() != null;
         } else {
             return query
-                    .select(bookmark.id)
+                    .selectOne()
                     .from(bookmark)
-//                    .join(route).on(bookmark.route.id.eq(route.id))
-                    .where(bookmark.route.id.eq(minRouteId).and(bookmark.member.id.eq(memberId)))
-                    .fetchCount() > 0;
+                    .where(bookmark.route.id.eq(representativeRouteId(integratedId)).and(bookmark.member.id.eq(memberId)))
+                    .fetchFirst() != null;
         }
-
-
     }
 
     public void deleteByMemberIdAndIntegratedRouteId(Long memberId, Long integratedId, boolean isLike) {
-
-        JPQLQuery<Long> minRouteId = JPAExpressions
-                .select(route.id.min())
-                .from(route)
-                .join(integratedRoute).on(integratedRoute.id.eq(route.integratedRoute.id))
-                .where(integratedRoute.id.eq(integratedId));
-
         if (isLike) {
             query.delete(likePost)
-                    .where(likePost.route.id.eq(minRouteId)
+                    .where(likePost.route.id.eq(representativeRouteId(integratedId))
                             .and(likePost.member.id.eq(memberId)))
                     .execute();
         } else {
             query.delete(bookmark)
-                    .where(bookmark.route.id.eq(minRouteId)
+                    .where(bookmark.route.id.eq(representativeRouteId(integratedId))
                             .and(bookmark.member.id.eq(memberId)))
                     .execute();
         }
     }
 
+    // 통합 경로의 공개된 경로 중 가장 먼저 만들어진 경로 (대표 경로를 다시 정할 때 사용)
+    public Route findFirstPublicRoute(Long integratedId) {
+        return query
+                .selectFrom(route)
+                .where(route.integratedRoute.id.eq(integratedId)
+                        .and(route.routeStatus.eq(RouteStatus.PUBLIC)))
+                .orderBy(route.id.asc())
+                .fetchFirst();
+    }
+
+    // 대표 경로가 바뀔 때 경로에 달린 좋아요/북마크를 새 대표 경로로 옮긴다.
+    public void moveLikesAndBookmarks(Long fromRouteId, Route to) {
+        query.update(likePost)
+                .set(likePost.route, to)
+                .where(likePost.route.id.eq(fromRouteId))
+                .execute();
+        query.update(bookmark)
+                .set(bookmark.route, to)
+                .where(bookmark.route.id.eq(fromRouteId))
+                .execute();
+    }
 
+    // 통합 경로의 대표 경로 id (기본키 조회)
+    private JPQLQuery<Long> representativeRouteId(Long integratedId) {
+        return JPAExpressions
+                .select(integratedRoute.representativeRouteId)
+                .from(integratedRoute)
+                .where(integratedRoute.id.eq(integratedId));
+    }
 }
@@ -0,0 +1,96 @@
+package com.elice.tripnote.domain.route.service;
+
+import com.elice.tripnote.domain.route.repository.RouteRepository;
+import com.elice.tripnote.global.util.AfterCommit;
+import com.elice.tripnote.global.util.LongHashSet;
+import com.elice.tripnote.global.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 회원별로 좋아요/북마크한 통합 경로 id 집합을 메모리에 둔다.
+ * 처음 필요할 때 회원당 두 번의 쿼리로 불러오고, 좋아요/북마크를 누르면 트랜잭션이 커밋된 뒤 캐시된 집합에 반영한다.
+ * (롤백된 좋아요/북마크는 반영되지 않는다)
+ * 집합은 잠금 없이 읽으므로 고칠 때는 복사본에 더하거나 빼서 바꿔 끼운다. (회원 한 명의 집합이라 작다)
+ * 경로 목록의 좋아요/북마크 여부는 DB 조회 없이 집합 조회만으로 구한다.
+ * 다른 서버에서 누른 좋아요/북마크는 유효 시간이 지나 다시 불러올 때 반영된다.
+ */
+@Service
+public class MemberRouteMarkService {
+    private final RouteRepository routeRepository;
+    // 회원 id -> 좋아요/북마크 집합
+    private final LruCache<Long, Marks> marksByMember;
+
+    public MemberRouteMarkService(RouteRepository routeRepository,
+                                  @Value("${tripnote.member-marks.cache-size:10000}") int cacheSize,
+                                  @Value("${tripnote.member-marks.ttl-ms:1800000}") long ttlMillis) {
+        this.routeRepository = routeRepository;
+        this.marksByMember = new LruCache<>(cacheSize, ttlMillis);
+    }
+
+    // 회원 한 명의 좋아요/북마크한 통합 경로 id 집합 (만든 뒤에는 바꾸지 않는다)
+    public static class Marks {
+        private final LongHashSet liked;
+        private final LongHashSet marked;
+
+        private Marks(List<Long> likedIds, List<Long> markedIds) {
+            liked = new LongHashSet(likedIds.size());
+            likedIds.forEach(liked::add);
+            marked = new LongHashSet(markedIds.size());
+            markedIds.forEach(marked::add);
+        }
+
+        private Marks(LongHashSet liked, LongHashSet marked) {
+            this.liked = liked;
+            this.marked = marked;
+        }
+
+        private Marks withLike(long integratedRouteId, boolean isLiked) {
+            return new Marks(toggled(liked, integratedRouteId, isLiked), marked);
+        }
+
+        private Marks withMark(long integratedRouteId, boolean isMarked) {
+            return new Marks(liked, toggled(marked, integratedRouteId, isMarked));
+        }
+
+        // 값을 더하거나 뺀 복사본 (이미 그 상태면 그대로)
+        private static LongHashSet toggled(LongHashSet set, long value, boolean present) {
+            if (set.contains(value) == present) return set;
+            LongHashSet copy = new LongHashSet(set.size() + 1);
+            for (long id : set.toArray()) copy.add(id);
+            if (present) copy.add(value);
+            else copy.remove(value);
+            return copy;
+        }
+
+        public boolean isLiked(long integratedRouteId) {
+            return liked.contains(integratedRouteId);
+        }
+
+        public boolean isMarked(long integratedRouteId) {
+            return marked.contains(integratedRouteId);
+        }
+    }
+
+    public Marks getMarks(Long memberId) {
+        Marks marks = marksByMember.get(memberId);
+        if (marks == null) {
+            marks = new Marks(routeRepository.findLikedIntegratedRouteIds(memberId),
+                    routeRepository.findBookmarkedIntegratedRouteIds(memberId));
+            marksByMember.put(memberId, marks);
+        }
+        return marks;
+    }
+
+    // 좋아요 추가/취소 후 호출 (커밋된 뒤 캐시된 집합에 반영, 캐시에 없으면 다음 조회 때 불러온다)
+    public void updateLike(Long memberId, Long integratedRouteId, boolean isLiked) {
+        AfterCommit.run(() -> marksByMember.computeIfPresent(memberId, marks -> marks.withLike(integratedRouteId, isLiked)));
+    }
+
+    // 북마크 추가/취소 후 호출
+    public void updateMark(Long memberId, Long integratedRouteId, boolean isMarked) {
+        AfterCommit.run(() -> marksByMember.computeIfPresent(memberId, marks -> marks.withMark(integratedRouteId, isMarked)));
+    }
+}
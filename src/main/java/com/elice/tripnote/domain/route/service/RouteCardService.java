@@ -0,0 +1,106 @@
+package com.elice.tripnote.domain.route.service;
+
+import com.elice.tripnote.domain.route.entity.RecommendedRouteResponseDTO;
+import com.elice.tripnote.domain.route.entity.RouteCard;
+import com.elice.tripnote.domain.route.repository.RouteRepository;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.service.SpotCatalog;
+import com.elice.tripnote.global.util.AfterCommit;
+import com.elice.tripnote.global.util.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 추천 경로 응답을 회원과 상관없는 부분(라우트 카드)과 회원별 좋아요/북마크 여부(MemberRouteMarkService)로 나눠서 만든다.
+ * 라우트 카드는 통합 경로별로 캐시하고, 캐시에 없는 카드만 한 번에 조회한다.
+ * 카드에는 여행지 id만 두고, 응답을 만들 때 여행지 카탈로그에서 여행지를 찾는다.
+ * 좋아요를 누르거나 대표 경로/게시글이 바뀔 수 있을 때는 트랜잭션이 커밋된 뒤에 캐시에서 지운다.
+ * (커밋 전에 지우면 그 사이에 다른 요청이 이전 값을 다시 캐시할 수 있다.)
+ * 게시글 좋아요처럼 따로 알리지 않는 변경은 유효 시간이 지나면 반영된다.
+ */
+@Service
+@Slf4j
+public class RouteCardService {
+    private final RouteRepository routeRepository;
+    private final MemberRouteMarkService memberRouteMarkService;
+    private final SpotCatalog spotCatalog;
+    private final LruCache<Long, RouteCard> cards;
+
+    public RouteCardService(RouteRepository routeRepository,
+                            MemberRouteMarkService memberRouteMarkService,
+                            SpotCatalog spotCatalog,
+                            @Value("${tripnote.route-card.cache-size:10000}") int cacheSize,
+                            @Value("${tripnote.route-card.ttl-ms:300000}") long ttlMillis) {
+        this.routeRepository = routeRepository;
+        this.memberRouteMarkService = memberRouteMarkService;
+        this.spotCatalog = spotCatalog;
+        this.cards = new LruCache<>(cacheSize, ttlMillis);
+    }
+
+    /**
+     * 추천 경로 응답 생성
+     *
+     * @param integratedRouteIds 순서대로 정렬된 통합 경로 id 리스트
+     * @param memberId           회원 id, 비회원이면 null
+     * @return integratedRouteIds 순서의 추천 경로 리스트
+     */
+    public List<RecommendedRouteResponseDTO> getRecommendedRoutes(List<Long> integratedRouteIds, Long memberId) {
+        Map<Long, RouteCard> cardMap = getCards(integratedRouteIds);
+
+        // 회원별 좋아요/북마크 여부는 메모리의 회원별 집합에서 조회
+        MemberRouteMarkService.Marks marks = memberId != null ? memberRouteMarkService.getMarks(memberId) : null;
+
+        // 카드에 있는 여행지를 한 번에 찾는다.
+        Set<Long> spotIds = new HashSet<>();
+        cardMap.values().forEach(card -> spotIds.addAll(card.getSpotIds()));
+        Map<Long, Spot> spots = spotCatalog.getSpots(spotIds);
+
+        List<RecommendedRouteResponseDTO> result = new ArrayList<>();
+        for (Long integratedRouteId : integratedRouteIds) {
+            RouteCard card = cardMap.get(integratedRouteId);
+            if (card == null) continue;
+            result.add(new RecommendedRouteResponseDTO(
+                    card.getIntegratedRouteId(),
+                    card.getPostId(),
+                    card.getSpotIds().stream().map(spots::get).filter(Objects::nonNull).toList(),
+                    card.getLikes(),
+                    marks != null && marks.isLiked(integratedRouteId),
+                    marks != null && marks.isMarked(integratedRouteId)
+            ));
+        }
+        return result;
+    }
+
+    // 좋아요 수, 대표 경로나 대표 게시글이 바뀔 수 있을 때 (좋아요, 경로 삭제, 게시글 작성/삭제)
+    public void evict(Long integratedRouteId) {
+        AfterCommit.run(() -> cards.remove(integratedRouteId));
+    }
+
+    private Map<Long, RouteCard> getCards(List<Long> integratedRouteIds) {
+        Map<Long, RouteCard> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long integratedRouteId : integratedRouteIds) {
+            RouteCard card = cards.get(integratedRouteId);
+            if (card != null) result.put(integratedRouteId, card);
+            else misses.add(integratedRouteId);
+        }
+
+        if (!misses.isEmpty()) {
+            for (RouteCard card : routeRepository.findRouteCards(misses)) {
+                cards.put(card.getIntegratedRouteId(), card);
+                result.put(card.getIntegratedRouteId(), card);
+            }
+            log.debug("라우트 카드 {}개를 새로 조회했습니다.", misses.size());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,180 @@
+package com.elice.tripnote.domain.route.service;
+
+/**
+ * 여행지 방문 순서 최적화 (출발지와 도착지가 다른 경로의 외판원 문제 근사)
+ * 1. 최근접 이웃: 아직 가지 않은 가장 가까운 여행지로 이동한다.
+ * 2. 2-opt: 구간을 뒤집어 전체 거리가 줄어드는 동안 반복한다.
+ * 3. or-opt: 1~3개 여행지 묶음을 다른 자리로 옮겨 거리가 줄어드는 동안 반복한다. (2, 3을 더 줄지 않을 때까지 반복)
+ * 최근접 이웃의 두 번째 여행지(출발지가 정해지지 않았으면 출발지)를 바꿔 가며 시간 안에서 여러 번 시도하고 가장 짧은 순서를 쓴다.
+ * 거리는 n*n 크기의 1차원 배열(dist[i * n + j])로 받는다.
+ */
+public final class RouteOptimizer {
+    private RouteOptimizer() {
+    }
+
+    /**
+     * @param dist        여행지 사이 거리 (n*n)
+     * @param n           여행지 수
+     * @param fixStart    0번 여행지를 출발지로 고정
+     * @param fixEnd      n-1번 여행지를 도착지로 고정
+     * @param budgetNanos 개선에 쓸 수 있는 최대 시간 (첫 시도의 최근접 이웃 순서는 항상 만들고, 2-opt/or-opt 개선은 시간이 지나면 멈춘다)
+     * @return 방문 순서 (여행지 번호 배열)
+     */
+    public static int[] optimize(double[] dist, int n, boolean fixStart, boolean fixEnd, long budgetNanos) {
+        if (n <= 2) {
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) order[i] = i;
+            return order;
+        }
+        long deadline = System.nanoTime() + budgetNanos;
+
+        int[] best = null;
+        double bestLength = Double.MAX_VALUE;
+        // 출발지가 고정이면 두 번째 여행지를, 아니면 출발지를 바꿔 가며 시도
+        int lastEnd = fixEnd ? n - 2 : n - 1;
+        for (int seed = fixStart ? 1 : 0; seed <= lastEnd; seed++) {
+            if (best != null && System.nanoTime() >= deadline) break;
+            int[] order = nearestNeighbor(dist, n, fixStart ? 0 : seed, fixStart ? seed : -1, fixEnd);
+            improve(dist, n, order, fixStart, fixEnd, deadline);
+            double length = length(dist, n, order);
+            if (length < bestLength) {
+                best = order;
+                bestLength = length;
+            }
+        }
+        return best;
+    }
+
+    // 경로 전체 거리
+    public static double length(double[] dist, int n, int[] order) {
+        double length = 0;
+        for (int i = 0; i + 1 < order.length; i++) length += dist[order[i] * n + order[i + 1]];
+        return length;
+    }
+
+    // second가 0 이상이면 출발지 다음에 second로 간다.
+    private static int[] nearestNeighbor(double[] dist, int n, int start, int second, boolean fixEnd) {
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        order[0] = start;
+        visited[start] = true;
+        // 도착지가 고정이면 마지막에 넣는다.
+        int free = n;
+        if (fixEnd) {
+            visited[n - 1] = true;
+            order[n - 1] = n - 1;
+            free = n - 1;
+        }
+        int begin = 1;
+        if (second >= 0 && !visited[second]) {
+            order[1] = second;
+            visited[second] = true;
+            begin = 2;
+        }
+        for (int i = begin; i < free; i++) {
+            int from = order[i - 1];
+            int next = -1;
+            double nearest = Double.MAX_VALUE;
+            for (int j = 0; j < n; j++) {
+                if (!visited[j] && dist[from * n + j] < nearest) {
+                    nearest = dist[from * n + j];
+                    next = j;
+                }
+            }
+            order[i] = next;
+            visited[next] = true;
+        }
+        return order;
+    }
+
+    private static void improve(double[] dist, int n, int[] order, boolean fixStart, boolean fixEnd, long deadline) {
+        int first = fixStart ? 1 : 0;
+        int last = fixEnd ? n - 2 : n - 1;
+        boolean improved = true;
+        while (improved) {
+            improved = twoOpt(dist, n, order, first, last, deadline);
+            improved |= orOpt(dist, n, order, first, last);
+        }
+    }
+
+    // order[i..j]를 뒤집어서 거리가 줄면 뒤집는다. 더 줄일 수 없거나 시간이 다 되면 멈춘다.
+    private static boolean twoOpt(double[] dist, int n, int[] order, int first, int last, long deadline) {
+        boolean changed = false;
+        boolean improved = true;
+        while (improved && System.nanoTime() < deadline) {
+            improved = false;
+            for (int i = first; i < last; i++) {
+                int prev = i > 0 ? order[i - 1] : -1;
+                for (int j = i + 1; j <= last; j++) {
+                    int next = j + 1 < n ? order[j + 1] : -1;
+                    double before = (prev >= 0 ? dist[prev * n + order[i]] : 0) + (next >= 0 ? dist[order[j] * n + next] : 0);
+                    double after = (prev >= 0 ? dist[prev * n + order[j]] : 0) + (next >= 0 ? dist[order[i] * n + next] : 0);
+                    if (after < before - 1e-9) {
+                        reverse(order, i, j);
+                        improved = true;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    // order[i..i+len-1] 묶음을 빼서 다른 두 여행지 사이(정방향 또는 역방향)에 넣었을 때 거리가 줄면 옮긴다.
+    private static boolean orOpt(double[] dist, int n, int[] order, int first, int last) {
+        boolean changed = false;
+        for (int len = 1; len <= 3; len++) {
+            for (int i = first; i + len - 1 <= last; i++) {
+                int j = i + len - 1;
+                int a = order[i];
+                int b = order[j];
+                int prev = i > 0 ? order[i - 1] : -1;
+                int next = j + 1 < n ? order[j + 1] : -1;
+                // 묶음을 뺐을 때 줄어드는 거리
+                double removed = (prev >= 0 ? dist[prev * n + a] : 0) + (next >= 0 ? dist[b * n + next] : 0)
+                        - (prev >= 0 && next >= 0 ? dist[prev * n + next] : 0);
+
+                // 묶음을 order[k]와 order[k+1] 사이에 넣는다. (k = -1이면 맨 앞, k = n-1이면 맨 뒤)
+                for (int k = first - 1; k <= last; k++) {
+                    if (k >= i - 1 && k <= j) continue;
+                    int left = k >= 0 ? order[k] : -1;
+                    int right = k + 1 < n ? order[k + 1] : -1;
+                    double base = left >= 0 && right >= 0 ? dist[left * n + right] : 0;
+                    double forward = (left >= 0 ? dist[left * n + a] : 0) + (right >= 0 ? dist[b * n + right] : 0) - base;
+                    double backward = (left >= 0 ? dist[left * n + b] : 0) + (right >= 0 ? dist[a * n + right] : 0) - base;
+                    double added = Math.min(forward, backward);
+                    if (added < removed - 1e-9) {
+                        move(order, i, j, k, backward < forward);
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    // order[i..j]를 order[k] 뒤로 옮긴다. (reversed면 뒤집어서)
+    private static void move(int[] order, int i, int j, int k, boolean reversed) {
+        int len = j - i + 1;
+        int[] segment = new int[len];
+        for (int t = 0; t < len; t++) segment[t] = order[reversed ? j - t : i + t];
+        if (k < i) {
+            // order[k+1..i-1]을 뒤로 밀고 그 자리에 넣는다.
+            System.arraycopy(order, k + 1, order, k + 1 + len, i - k - 1);
+            System.arraycopy(segment, 0, order, k + 1, len);
+        } else {
+            // order[j+1..k]를 앞으로 당기고 그 뒤에 넣는다.
+            System.arraycopy(order, j + 1, order, i, k - j);
+            System.arraycopy(segment, 0, order, k - len + 1, len);
+        }
+    }
+
+    private static void reverse(int[] order, int i, int j) {
+        while (i < j) {
+            int tmp = order[i];
+            order[i++] = order[j];
+            order[j--] = tmp;
+        }
+    }
+}
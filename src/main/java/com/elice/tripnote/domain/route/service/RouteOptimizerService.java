@@ -0,0 +1,106 @@
+package com.elice.tripnote.domain.route.service;
+
+import com.elice.tripnote.domain.route.entity.OptimizeRouteRequestDTO;
+import com.elice.tripnote.domain.route.entity.OptimizedRouteResponseDTO;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.service.SpotCatalog;
+import com.elice.tripnote.global.exception.CustomException;
+import com.elice.tripnote.global.exception.ErrorCode;
+import com.elice.tripnote.global.util.GeoUtils;
+import com.elice.tripnote.global.util.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 경로의 여행지 방문 순서 추천
+ * 여행지 사이 하버사인 거리 행렬을 만들고 RouteOptimizer(최근접 이웃 + 2-opt)로 전체 거리가 짧은 순서를 찾는다.
+ * 거리 행렬은 여행지 집합(정렬한 id 목록)별로 캐시해서, 같은 여행지로 순서만 바꿔 다시 요청하면 행렬을 다시 계산하지 않는다.
+ * 여행지는 메모리 카탈로그에서 찾으므로 요청마다 spot 테이블을 조회하지 않는다. (카탈로그에 없는 여행지만 한 번의 쿼리로 조회)
+ */
+@Service
+@Slf4j
+public class RouteOptimizerService {
+    private static final int MAX_SPOTS = 100;
+
+    private final SpotCatalog spotCatalog;
+    private final long budgetNanos;
+    // 정렬한 여행지 id 목록 -> 거리 행렬
+    private final LruCache<String, DistanceMatrix> matrices;
+
+    public RouteOptimizerService(SpotCatalog spotCatalog,
+                                 @Value("${tripnote.route-optimizer.budget-ms:50}") long budgetMillis,
+                                 @Value("${tripnote.route-optimizer.cache-size:1000}") int cacheSize,
+                                 @Value("${tripnote.route-optimizer.ttl-ms:3600000}") long ttlMillis) {
+        this.spotCatalog = spotCatalog;
+        this.budgetNanos = budgetMillis * 1_000_000;
+        this.matrices = new LruCache<>(cacheSize, ttlMillis);
+    }
+
+    // 정렬한 여행지 id와 그 순서의 거리 행렬
+    private record DistanceMatrix(long[] ids, double[] dist) {
+        int indexOf(long id) {
+            return Arrays.binarySearch(ids, id);
+        }
+    }
+
+    public OptimizedRouteResponseDTO optimize(OptimizeRouteRequestDTO dto) {
+        List<Long> spotIds = dto.getSpotIds();
+        if (spotIds == null || spotIds.isEmpty()) throw new CustomException(ErrorCode.NO_SPOT);
+        if (spotIds.size() > MAX_SPOTS) throw new CustomException(ErrorCode.TOO_MANY_ARGUMENT);
+
+        long[] ids = spotIds.stream().mapToLong(Long::longValue).distinct().sorted().toArray();
+        Map<Long, Spot> spots = spotCatalog.getSpots(spotIds);
+        if (spots.size() != ids.length) throw new CustomException(ErrorCode.NO_SPOT);
+        DistanceMatrix matrix = getMatrix(ids, spots);
+
+        // 요청 순서의 여행지끼리 거리 (같은 여행지를 두 번 지날 수도 있으므로 요청 순서 기준으로 다시 만든다)
+        int n = spotIds.size();
+        int m = ids.length;
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) index[i] = matrix.indexOf(spotIds.get(i));
+        double[] dist = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) dist[i * n + j] = matrix.dist()[index[i] * m + index[j]];
+        }
+
+        int[] identity = new int[n];
+        for (int i = 0; i < n; i++) identity[i] = i;
+        int[] order = RouteOptimizer.optimize(dist, n, dto.isFixStart(), dto.isFixEnd(), budgetNanos);
+
+        List<Spot> result = new ArrayList<>(n);
+        for (int i : order) result.add(spots.get(spotIds.get(i)));
+        return new OptimizedRouteResponseDTO(result,
+                RouteOptimizer.length(dist, n, identity),
+                RouteOptimizer.length(dist, n, order));
+    }
+
+    private DistanceMatrix getMatrix(long[] ids, Map<Long, Spot> spots) {
+        String key = Arrays.stream(ids).mapToObj(Long::toString).collect(Collectors.joining(","));
+        DistanceMatrix matrix = matrices.get(key);
+        if (matrix != null) return matrix;
+
+        int m = ids.length;
+        double[] lats = new double[m];
+        double[] lngs = new double[m];
+        for (int i = 0; i < m; i++) {
+            Spot spot = spots.get(ids[i]);
+            lats[i] = spot.getLat();
+            lngs[i] = spot.getLng();
+        }
+        double[] dist = new double[m * m];
+        for (int i = 0; i < m; i++) {
+            for (int j = i + 1; j < m; j++) {
+                double d = GeoUtils.haversine(lats[i], lngs[i], lats[j], lngs[j]);
+                dist[i * m + j] = d;
+                dist[j * m + i] = d;
+            }
+        }
+        matrix = new DistanceMatrix(ids, dist);
+        matrices.put(key, matrix);
+        return matrix;
+    }
+}
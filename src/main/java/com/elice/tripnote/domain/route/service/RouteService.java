@@ -4,8 +4,10 @@ import com.elice.tripnote.domain.hashtag.entity.Hashtag;
 import com.elice.tripnote.domain.hashtag.repository.HashtagRepository;
 import com.elice.tripnote.domain.integratedroute.entity.IntegratedRoute;
 import com.elice.tripnote.domain.integratedroute.repository.IntegratedRouteRepository;
-import com.elice.tripnote.domain.likebookmarkperiod.entity.LikeBookmarkPeriod;
-import com.elice.tripnote.domain.likebookmarkperiod.repository.LikeBookPeriodRepository;
+import com.elice.tripnote.domain.integratedroute.service.IntegratedRouteService;
+import com.elice.tripnote.domain.integratedroute.service.RouteFingerprint;
+import com.elice.tripnote.domain.integratedroute.service.RouteLeaderboardService;
+import com.elice.tripnote.domain.likebookmarkperiod.service.LikeBookPeriodService;
 import com.elice.tripnote.domain.link.bookmark.entity.Bookmark;
 import com.elice.tripnote.domain.link.bookmark.repository.BookmarkRepository;
 import com.elice.tripnote.domain.link.likePost.entity.LikePost;
@@ -24,12 +26,16 @@ import com.elice.tripnote.domain.route.status.RouteStatus;
 import com.elice.tripnote.domain.spot.constant.Region;
 import com.elice.tripnote.domain.spot.entity.Spot;
 import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.domain.spot.service.SpotCatalog;
+import com.elice.tripnote.domain.spot.service.SpotTransitionService;
 import com.elice.tripnote.global.entity.PageRequestDTO;
 import com.elice.tripnote.global.exception.CustomException;
 import com.elice.tripnote.global.exception.ErrorCode;
+import com.elice.tripnote.global.util.CountCache;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -37,9 +43,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -50,86 +53,102 @@ import java.util.stream.Collectors;
 public class RouteService {
     private final RouteRepository routeRepository;
     private final IntegratedRouteRepository integratedRouteRepository;
+    private final IntegratedRouteService integratedRouteService;
 
     private final UUIDHashtagRepository uuidHashtagRepository;
-    private final LikeBookPeriodRepository likeBookPeriodRepository;
     private final RouteSpotRepository routeSpotRepository;
 
     private final HashtagRepository hashtagRepository;
     private final MemberRepository memberRepository;
     private final SpotRepository spotRepository;
+    private final SpotCatalog spotCatalog;
     private final BookmarkRepository bookmarkRepository;
     private final LikePostRepository likePostRepository;
     private final PostRepository postRepository;
 
+    private final LikeBookPeriodService likeBookPeriodService;
+    private final RouteLeaderboardService routeLeaderboardService;
+    private final SpotRouteIndexService spotRouteIndexService;
+    private final RouteCardService routeCardService;
+    private final MemberRouteMarkService memberRouteMarkService;
+    private final SpotTransitionService spotTransitionService;
+    private final CountCache countCache;
+
     @Transactional
     public Long save(SaveRequestDTO requestDto) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         log.info("유저 이메일: {}", email);
-        //여행지 id 리스트 기반으로 uuid 만들기
-        String uuid = generateUUID(requestDto.getSpotIds());
-
-        Region region = findRegionOfSpots(requestDto.getSpotIds());
-
-        // 만들어진 uuid 이용해서 integrated_route 객체 생성
-        IntegratedRoute integratedRoute = integratedRouteRepository.findByIntegratedRoutes(uuid)
-                .orElseGet(() -> {
-                    IntegratedRoute newRoute = IntegratedRoute.builder()
-                            .integratedRoutes(uuid)
-                            .region(region)
-                            .routeStatus(RouteStatus.PUBLIC)
-                            .build();
-                    return integratedRouteRepository.save(newRoute);
-                });
+        List<Long> spotIds = requestDto.getSpotIds();
 
-        if (region != Region.MIXED_REGION) {
-            Long regionHashtagId = (long) region.getIndex() + 1;
-            log.info("지역 해시태그 아이디: {}", regionHashtagId);
-            if (routeRepository.findHashtagIdIdCity(regionHashtagId)) requestDto.getHashtagIds().add(regionHashtagId);
+        // 통합 경로는 별도 트랜잭션에서 만들어지므로, 실패할 수 있는 조회/검증을 먼저 끝낸다.
+        Member member = memberRepository.findByEmail(email).orElseThrow(() -> {
+            throw new CustomException(ErrorCode.NO_MEMBER);
+        });
+
+        // 경로에 포함된 여행지들을 메모리 카탈로그에서 조회 (카탈로그에 없는 여행지만 한 번의 쿼리로 조회)
+        Map<Long, Spot> spots = spotCatalog.getSpots(spotIds);
+        if (!spots.keySet().containsAll(spotIds)) throw new CustomException(ErrorCode.NO_SPOT);
+
+        //여행지 id 순서로 통합 경로 지문 만들기
+        byte[] fingerprint = RouteFingerprint.of(spotIds);
+
+        Region region = findRegionOfSpots(spotIds, spots);
+
+        // 지문으로 통합 경로를 찾고, 없으면 새로 만든다.
+        // 새 통합 경로는 먼저 커밋되므로 비공개(DELETE)로 만들고, 이 트랜잭션에서 경로와 함께 공개한다.
+        // (경로 저장이 롤백되면 대표 경로 없는 통합 경로가 인기 순위에 잡히지 않는다.)
+        IntegratedRoute integratedRoute = integratedRouteService.findByFingerprint(fingerprint).orElse(null);
+        boolean isNewIntegratedRoute = integratedRoute == null;
+        if (isNewIntegratedRoute) {
+            IntegratedRoute newIntegratedRoute = IntegratedRoute.builder()
+                    .integratedRoutes(RouteFingerprint.toUuid(fingerprint).toString())
+                    .region(region)
+                    .routeStatus(RouteStatus.DELETE)
+                    .build();
+            newIntegratedRoute.assignFingerprint(fingerprint);
+            try {
+                integratedRouteService.create(newIntegratedRoute);
+            } catch (DataIntegrityViolationException e) {
+                // 같은 여행지 순서의 경로가 동시에 저장되어 통합 경로가 이미 만들어진 경우
+                log.info("이미 만들어진 통합 경로를 사용합니다.");
+                isNewIntegratedRoute = false;
+            }
+            // 다른 트랜잭션에서 커밋된 통합 경로이므로 잠금 조회로 읽는다.
+            integratedRoute = integratedRouteRepository.findLockedByFingerprint(fingerprint)
+                    .orElseThrow(() -> new CustomException(ErrorCode.SERVER_ERROR));
+            integratedRouteService.cache(fingerprint, integratedRoute.getId());
         }
+        // 모든 경로가 삭제됐던 (또는 방금 만든) 통합 경로에 새 경로가 생기면 공개
+        boolean wasDeleted = integratedRoute.getRouteStatus() == RouteStatus.DELETE;
+        if (wasDeleted) integratedRoute.updateStatus(RouteStatus.PUBLIC);
+        routeLeaderboardService.register(integratedRoute.getId(), integratedRoute.getRegion());
+        spotRouteIndexService.add(integratedRoute.getId(), spotIds);
 
-//        if (requestDto.getHashtagIds() != null) {
         // 통합 경로 객체(IntegratedRoute) 이용해서 uuid_hashtag 객체 생성
-        // 현재 db에서 integratedRoute와 연관된 해시태그 찾기(이미 저장돼있는 해시태그)
-        List<Long> dbHashtagIds = uuidHashtagRepository.findHashtagIdsByIntegratedRouteId(integratedRoute.getId());
-
-        // 저장되어 있지 않아 새롭게 추가해야하는 해시태그 추출
-        List<Long> newHashtagIds = requestDto.getHashtagIds().stream()
-                .filter(id -> !dbHashtagIds.contains(id))
-                .collect(Collectors.toList());
-
-        // 추가해야하는 해시태그 아이디들의 객체 찾기
-        List<Hashtag> hashtags = newHashtagIds.stream()
-                .map(hashtagRepository::findById)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
-
-
-        for (Hashtag hashtag : hashtags) {
-            UUIDHashtag uuidHashtag = UUIDHashtag.builder()
-                    .hashtag(hashtag)
-                    .integratedRoute(integratedRoute)
-                    .build();
-            uuidHashtagRepository.save(uuidHashtag);
+        // 현재 db에서 integratedRoute와 연관된 해시태그 찾기(이미 저장돼있는 해시태그), 새로 만든 통합 경로라면 조회할 필요 없음
+        Set<Long> dbHashtagIds = isNewIntegratedRoute
+                ? Set.of()
+                : new HashSet<>(uuidHashtagRepository.findHashtagIdsByIntegratedRouteId(integratedRoute.getId()));
+
+        // 요청 해시태그와 지역 해시태그 후보를 한 번의 쿼리로 조회
+        Set<Long> candidateIds = new LinkedHashSet<>(requestDto.getHashtagIds() != null ? requestDto.getHashtagIds() : List.of());
+        Long regionHashtagId = region != Region.MIXED_REGION ? (long) region.getIndex() + 1 : null;
+        if (regionHashtagId != null) {
+            log.info("지역 해시태그 아이디: {}", regionHashtagId);
+            candidateIds.add(regionHashtagId);
         }
-//        }
+        candidateIds.removeAll(dbHashtagIds);
 
+        // 저장되어 있지 않아 새롭게 추가해야하는 해시태그 추출 (지역 해시태그는 도시 해시태그일 때만 추가)
+        List<Long> newHashtagIds = candidateIds.isEmpty() ? List.of() : hashtagRepository.findAllById(candidateIds).stream()
+                .filter(hashtag -> !hashtag.getId().equals(regionHashtagId) || hashtag.isCity())
+                .map(Hashtag::getId)
+                .collect(Collectors.toList());
+        uuidHashtagRepository.batchInsert(integratedRoute.getId(), newHashtagIds);
 
-        // 해당 통합경로 아이디 값을 가진 객체가 있는지 확인.
-        if (!likeBookPeriodRepository.existsByIntegratedRoute(integratedRoute)) {
-            LikeBookmarkPeriod likeBookmarkPeriod = LikeBookmarkPeriod.builder()
-                    .integratedRoute(integratedRoute)
-                    .likes(0)
-                    .bookmark(0)
-                    .build();
-            likeBookPeriodRepository.save(likeBookmarkPeriod);
-        }
+        // 기간별 좋아요/북마크 객체는 좋아요/북마크가 처음 반영될 때 만들어진다. (LikeBookPeriodService.flush)
 
         // route 객체 생성 -> 경로 저장
-        Member member = memberRepository.findByEmail(email).orElseThrow(() -> {
-            throw new CustomException(ErrorCode.NO_MEMBER);
-        });
         Route route = Route.builder()
                 .member(member)
                 .integratedRoute(integratedRoute)
@@ -140,64 +159,34 @@ public class RouteService {
                 .build();
         route = routeRepository.save(route);
 
-        // route_spot 객체 생성
-        List<Long> spotIds = requestDto.getSpotIds();
-        for (int i = 0; i < spotIds.size(); i++) {
-            Spot spot = spotRepository.findById(spotIds.get(i))
-                    .orElseThrow(() -> {
-                        throw new CustomException(ErrorCode.NO_SPOT);
-                    });
-            Long nextSpotId = (i + 1 < spotIds.size()) ? spotIds.get(i + 1) : null;
-            RouteSpot routeSpot = RouteSpot.builder()
-                    .route(route)
-                    .spot(spot)
-                    .sequence(i + 1)
-                    .nextSpotId(nextSpotId)
-                    .build();
-            routeSpotRepository.save(routeSpot);
-        }
+        // 통합 경로의 첫 경로이거나 삭제됐던 통합 경로가 다시 공개되면 이 경로가 대표 경로가 된다.
+        if (integratedRoute.getRepresentativeRouteId() == null) integratedRoute.updateRepresentativeRoute(route.getId());
+        else if (wasDeleted) changeRepresentativeRoute(integratedRoute, route);
+
+        // route_spot 객체 생성 (하나의 배치로 저장)
+        routeSpotRepository.batchInsert(route.getId(), spotIds);
+        spotTransitionService.addRoute(spotIds);
+        countCache.invalidate(CountCache.ROUTE);
 
         return route.getId();
     }
 
-    private Region findRegionOfSpots(List<Long> spotIds) {
-        Region region = spotRepository.getRegionByspotId(spotIds.get(0)).getRegion();
+    // 대표 경로를 바꾸고, 기존 대표 경로에 달린 좋아요/북마크를 옮긴다.
+    private void changeRepresentativeRoute(IntegratedRoute integratedRoute, Route newRoute) {
+        routeRepository.moveLikesAndBookmarks(integratedRoute.getRepresentativeRouteId(), newRoute);
+        integratedRoute.updateRepresentativeRoute(newRoute.getId());
+        routeCardService.evict(integratedRoute.getId());
+    }
+
+    private Region findRegionOfSpots(List<Long> spotIds, Map<Long, Spot> spots) {
+        Region region = spots.get(spotIds.get(0)).getRegion();
         for (Long id : spotIds) {
-            if (region != spotRepository.getRegionByspotId(id).getRegion()) return Region.MIXED_REGION;
+            if (region != spots.get(id).getRegion()) return Region.MIXED_REGION;
         }
         return region;
     }
 
 
-    //여행지 id 리스트를 매개변수로 전달
-    private static String generateUUID(List<Long> ids) {
-        try {
-            // 식별자들을 문자열로 변환하고 결합
-            StringBuilder combined = new StringBuilder();
-            for (Long id : ids) {
-                combined.append(id.toString());
-            }
-
-            // SHA-1 해시 생성
-            MessageDigest md = MessageDigest.getInstance("SHA-1");
-            byte[] hash = md.digest(combined.toString().getBytes(StandardCharsets.UTF_8));
-
-            // 해시의 앞 16 바이트를 사용해 UUID 생성
-            long msb = 0;
-            long lsb = 0;
-            for (int i = 0; i < 8; i++) {
-                msb = (msb << 8) | (hash[i] & 0xff);
-            }
-            for (int i = 8; i < 16; i++) {
-                lsb = (lsb << 8) | (hash[i] & 0xff);
-            }
-
-            return new UUID(msb, lsb).toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new CustomException(ErrorCode.NOT_FOUND_ALGORITHM);
-        }
-    }
-
 //    @Transactional
 //    public Long setRouteToStatus(Long routeId) {
 //        Member member = getMemberFromJwt();
@@ -236,10 +225,27 @@ public class RouteService {
         // 해당 경로가 자신의 것이 맞는지 확인
         if (member.getId() != route.getMember().getId()) throw new CustomException(ErrorCode.UNAUTHORIZED_DELETE);
 
+        boolean wasDeleted = route.getRouteStatus() == RouteStatus.DELETE;
         route.updateStatus(RouteStatus.DELETE);
         route = routeRepository.save(route);
 
-        integratedRouteRepository.deleteIntegratedRoute(route.getIntegratedRoute().getId());
+        // 여행지 이동 집계에서 이 경로를 뺀다.
+        if (!wasDeleted) spotTransitionService.removeRoute(routeSpotRepository.findSpotIdsByRouteId(route.getId()));
+
+        IntegratedRoute integratedRoute = route.getIntegratedRoute();
+        Long integratedRouteId = integratedRoute.getId();
+        if (integratedRouteRepository.deleteIntegratedRoute(integratedRouteId)) {
+            // 공개 경로가 남지 않은 통합 경로는 삭제 상태가 되어 추천/좋아요/북마크 대상에서 빠진다.
+            // 대표 경로는 그대로 두었다가 같은 여행지 순서의 경로가 다시 저장되면 좋아요/북마크를 새 경로로 옮긴다.
+            routeLeaderboardService.remove(integratedRouteId);
+            spotRouteIndexService.remove(integratedRouteId);
+        } else if (route.getId().equals(integratedRoute.getRepresentativeRouteId())) {
+            // 대표 경로가 삭제되면 남은 공개 경로 중 가장 먼저 만들어진 경로로 바꾼다.
+            changeRepresentativeRoute(integratedRoute, routeRepository.findFirstPublicRoute(integratedRouteId));
+        }
+
+        routeCardService.evict(integratedRouteId);
+        countCache.invalidate(CountCache.ROUTE);
         return route.getId();
     }
 
@@ -250,6 +256,7 @@ public class RouteService {
             throw new CustomException(ErrorCode.NO_ROUTE);
         });
         Long integratedRouteId = route.getIntegratedRoute().getId();
+        MemberRouteMarkService.Marks marks = memberRouteMarkService.getMarks(member.getId());
         return RecommendedRouteResponseDTO.builder()
                 .integratedRouteId(integratedRouteId)
                 .postId(
@@ -259,8 +266,8 @@ public class RouteService {
                 )
                 .spots(spotRepository.findSpotsByIntegratedRouteIdInOrder(integratedRouteId)) // 해당 route에 맞는 spots구하기
                 .likes(routeRepository.getIntegratedRouteLikeCounts(integratedRouteId)) // 해당 경로의 좋아요 수
-                .likedAt(routeRepository.existsByMemberIdAndIntegratedRouteId(member.getId(), integratedRouteId, true)) // 자신이 이 경로에 좋아요를 눌렀는지
-                .markedAt(routeRepository.existsByMemberIdAndIntegratedRouteId(member.getId(), integratedRouteId, false)) // 자신이 이 경로에 북마크를 눌렀는지
+                .likedAt(marks.isLiked(integratedRouteId)) // 자신이 이 경로에 좋아요를 눌렀는지
+                .markedAt(marks.isMarked(integratedRouteId)) // 자신이 이 경로에 북마크를 눌렀는지
                 .build();
     }
 
@@ -274,7 +281,8 @@ public class RouteService {
     }
 
     private List<RecommendedRouteResponseDTO> getRegion(Region region, boolean isMember, Member member) {
-        List<Long> integratedIds = integratedRouteRepository.findTopIntegratedRoutesByRegionAndHashtags(region);
+        // 메모리에 유지되는 지역별 인기 순위에서 조회
+        List<Long> integratedIds = routeLeaderboardService.getTop(region, 5);
         log.info("리턴되는 통합 경로 id: {}", integratedIds);
         return getRecommendRoutesByIntegratedRoutes(integratedIds, isMember, member);
     }
@@ -294,7 +302,8 @@ public class RouteService {
 //                    .build());
 //        }
 //        return recommendedRouteResponseDTOS;
-        return routeRepository.getRecommendedRoutes(integratedRouteIds, isMember ? member.getId() : null, isMember);
+        // 회원과 상관없는 부분은 캐시된 라우트 카드로, 좋아요/북마크 여부만 회원별로 조회
+        return routeCardService.getRecommendedRoutes(integratedRouteIds, isMember ? member.getId() : null);
 
         /*
         integrated route id를 이용해서 가장 좋아요 많은 post id 구하기
@@ -379,7 +388,10 @@ public class RouteService {
 //        integratedIds = integratedRouteRepository.findIntegratedRoute(integratedIds);
 //        log.info("최종적인 통합 경로 id들: {}", integratedIds)
 //       ;
-        List<Long> integratedIds = routeRepository.findIntegratedRouteIdsBySpotsAndLikes(spots);
+        // 여행지-경로 색인에서 교집합을 구하고 메모리의 인기 점수로 정렬 (색인이 만들어지기 전에는 DB에서)
+        List<Long> integratedIds = spotRouteIndexService.isReady()
+                ? routeLeaderboardService.rank(spotRouteIndexService.findIntegratedRouteIds(spots), 5)
+                : likeBookPeriodService.rankByTrending(routeRepository.findIntegratedRouteIdsBySpots(spots), 5);
         log.info("리턴되는 통합 경로 id: {}", integratedIds);
 
         return getRecommendRoutesByIntegratedRoutes(integratedIds, isMember, member);
@@ -389,25 +401,22 @@ public class RouteService {
     public void addOrRemoveLike(Long integratedId) {
         Member member = getMemberFromJwt();
 
-        //TODO: 가장 최신의 객체 가져오기(스케줄러 필요)
-        LikeBookmarkPeriod likeBookmarkPeriod = likeBookPeriodRepository.findByIntegratedRouteId(integratedId)
-                .orElseThrow(() -> {
-                    throw new CustomException(ErrorCode.NO_LIKE_BOOKMARK_PERIOD);
-                });
-
-        // 해당 통합 경로의 route 중에서 가장 작은 id값을 가진 경로 확인하기
+        // 해당 통합 경로의 대표 경로 확인하기
         // 해당 경로랑 member 조인해서 검색 후, 없다면 아래 로직 있다면 없애기
         if (routeRepository.existsByMemberIdAndIntegratedRouteId(member.getId(), integratedId, true)) {
             log.info("통합경로 {}번 경로의 좋아요를 취소하겠습니다.", integratedId);
-            likeBookmarkPeriod.updateLike(likeBookmarkPeriod.getLikes() - 1);
             routeRepository.deleteByMemberIdAndIntegratedRouteId(member.getId(), integratedId, true);
+            memberRouteMarkService.updateLike(member.getId(), integratedId, false);
+            routeLeaderboardService.addLike(integratedId, -1);
+            routeCardService.evict(integratedId);
             return;
         }
 
         // 없는 경우
-        // 해당 통합 경로의 route 중에서 가장 작은 id값을 가진 route에다가 좋아요 추가하기
+        // 해당 통합 경로의 대표 경로에다가 좋아요 추가하기
         log.info("통합경로 {}번 경로에 좋아요를 추가하겠습니다.", integratedId);
-        Route route = routeRepository.getMinRouteByIntegratedId(integratedId);
+        Route route = routeRepository.getRepresentativeRoute(integratedId);
+        if (route == null) throw new CustomException(ErrorCode.NO_ROUTE);
 
         LikePost likePost = LikePost.builder()
                 .member(member)
@@ -415,33 +424,31 @@ public class RouteService {
                 .likedAt(LocalDateTime.now())
                 .build();
         likePostRepository.save(likePost);
+        memberRouteMarkService.updateLike(member.getId(), integratedId, true);
 
-        likeBookmarkPeriod.updateLike(likeBookmarkPeriod.getLikes() + 1);
-        likeBookPeriodRepository.save(likeBookmarkPeriod);
-
+        // 기간별 좋아요 수(모아서 주기적으로 반영)와 인기 순위 점수를 함께 반영
+        routeLeaderboardService.addLike(integratedId, 1);
+        routeCardService.evict(integratedId);
     }
 
     @Transactional
     public void addOrRemoveBookmark(Long integratedId) {
         Member member = getMemberFromJwt();
 
-        //TODO: 가장 최신의 객체 가져오기(스케줄러 필요)
-        LikeBookmarkPeriod likeBookmarkPeriod = likeBookPeriodRepository.findByIntegratedRouteId(integratedId)
-                .orElseThrow(() -> {
-                    throw new CustomException(ErrorCode.NO_LIKE_BOOKMARK_PERIOD);
-                });
-
         //member랑 route 조인해서 검색 후, 없다면 아래 로직 있다면 없애기
         if (routeRepository.existsByMemberIdAndIntegratedRouteId(member.getId(), integratedId, false)) {
             log.info("통합경로 {}번 경로의 북마크를 취소하겠습니다.", integratedId);
-            likeBookmarkPeriod.updateBookmark(likeBookmarkPeriod.getBookmark() - 1);
             routeRepository.deleteByMemberIdAndIntegratedRouteId(member.getId(), integratedId, false);
+            memberRouteMarkService.updateMark(member.getId(), integratedId, false);
+            countCache.invalidate(CountCache.ROUTE);
+            likeBookPeriodService.addBookmark(integratedId, -1);
             return;
         }
 
         // 없는 경우
         log.info("통합경로 {}번 경로에 북마크를 추가하겠습니다.", integratedId);
-        Route route = routeRepository.getMinRouteByIntegratedId(integratedId);
+        Route route = routeRepository.getRepresentativeRoute(integratedId);
+        if (route == null) throw new CustomException(ErrorCode.NO_ROUTE);
 
         Bookmark bookmark = Bookmark.builder()
                 .member(member)
@@ -449,9 +456,10 @@ public class RouteService {
                 .markedAt(LocalDateTime.now())
                 .build();
         bookmarkRepository.save(bookmark);
+        memberRouteMarkService.updateMark(member.getId(), integratedId, true);
+        countCache.invalidate(CountCache.ROUTE);
 
-        likeBookmarkPeriod.updateBookmark(likeBookmarkPeriod.getBookmark() + 1);
-        likeBookPeriodRepository.save(likeBookmarkPeriod);
+        likeBookPeriodService.addBookmark(integratedId, 1);
     }
 
     @Transactional
@@ -465,13 +473,32 @@ public class RouteService {
 
     public Page<RouteDetailResponseDTO> findBookmark(PageRequestDTO pageRequestDTO) {
         Member member = getMemberFromJwt();
-        return routeRepository.findRouteDetailsByMemberId(member.getId(), pageRequestDTO, true);
+        return toRouteDetails(routeRepository.findRoutesByMemberId(member.getId(), pageRequestDTO, true));
     }
 
 
     public Page<RouteDetailResponseDTO> findMyRoute(PageRequestDTO pageRequestDTO) {
         Member member = getMemberFromJwt();
-        return routeRepository.findRouteDetailsByMemberId(member.getId(), pageRequestDTO, false);
+        return toRouteDetails(routeRepository.findRoutesByMemberId(member.getId(), pageRequestDTO, false));
+    }
+
+    // 경로의 여행지 id만 조회하고 여행지는 메모리 카탈로그에서 찾는다.
+    private Page<RouteDetailResponseDTO> toRouteDetails(Page<RouteIdNameResponseDTO> routes) {
+        Map<Long, List<Long>> spotIdsByRoute = routeRepository.findSpotIdsByRouteIds(
+                routes.getContent().stream().map(RouteIdNameResponseDTO::getRouteId).toList());
+        Set<Long> spotIds = new HashSet<>();
+        spotIdsByRoute.values().forEach(spotIds::addAll);
+        Map<Long, Spot> spots = spotCatalog.getSpots(spotIds);
+
+        return routes.map(routeDto -> new RouteDetailResponseDTO(
+                routeDto.getRouteId(),
+                routeDto.getPostId(),
+                routeDto.getName(),
+                spotIdsByRoute.getOrDefault(routeDto.getRouteId(), new ArrayList<>()).stream()
+                        .map(spots::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList())
+        ));
     }
 
     private Member getMemberFromJwt() {
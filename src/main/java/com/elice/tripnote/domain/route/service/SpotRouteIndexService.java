@@ -0,0 +1,195 @@
+package com.elice.tripnote.domain.route.service;
+
+import com.elice.tripnote.domain.link.routespot.repository.RouteSpotRepository;
+import com.elice.tripnote.global.util.AfterCommit;
+import com.elice.tripnote.global.util.LongArrayBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여행지 id -> 그 여행지를 지나는 공개 통합 경로 id 목록(정렬된 long 배열)의 역색인.
+ * "이 여행지들을 모두 지나는 경로"는 가장 짧은 목록부터 교집합을 구해서 찾기 때문에
+ * route_spot 전체를 GROUP BY 하지 않는다.
+ * 목록은 바뀔 때마다 새 배열로 교체하므로 조회는 잠금 없이 한다.
+ * 등록/삭제는 트랜잭션이 커밋된 뒤에 반영하고, 다시 만드는 동안 들어온 변경은 새 색인에 다시 적용한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SpotRouteIndexService {
+    private static final long[] EMPTY = new long[0];
+
+    private final RouteSpotRepository routeSpotRepository;
+
+    // 여행지 id -> 정렬된 통합 경로 id 배열
+    private volatile Map<Long, long[]> postings = new ConcurrentHashMap<>();
+    // 통합 경로 id -> 지나는 여행지 id 배열 (삭제할 때 사용)
+    private volatile Map<Long, long[]> spotsOfRoute = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    // 색인을 다시 만드는 동안 들어온 변경 (다시 만들고 있지 않으면 null)
+    private List<Runnable> pending;
+    private final Object rebuildLock = new Object();
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 주어진 여행지들을 모두 지나는 공개 통합 경로 id 조회
+     *
+     * @param spotIds 여행지 id 리스트
+     * @return 오름차순으로 정렬된 통합 경로 id 배열
+     */
+    public long[] findIntegratedRouteIds(Collection<Long> spotIds) {
+        if (spotIds.isEmpty()) return EMPTY;
+
+        long[][] lists = new long[spotIds.size()][];
+        int i = 0;
+        for (Long spotId : spotIds) {
+            long[] posting = postings.get(spotId);
+            if (posting == null) return EMPTY;
+            lists[i++] = posting;
+        }
+        // 짧은 목록부터 교집합을 구하면 후보가 빨리 줄어든다.
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+
+        long[] result = lists[0];
+        for (int j = 1; j < lists.length && result.length > 0; j++) {
+            result = intersect(result, lists[j]);
+        }
+        return result;
+    }
+
+    // 여행지를 지나는 공개 통합 경로 수 (여행지 인기도)
+    public int countRoutes(long spotId) {
+        return postings.getOrDefault(spotId, EMPTY).length;
+    }
+
+    // 통합 경로 등록 (이미 등록돼 있으면 무시)
+    public void add(Long integratedRouteId, Collection<Long> spotIds) {
+        long[] spots = spotIds.stream().mapToLong(Long::longValue).distinct().toArray();
+        AfterCommit.run(() -> apply(() -> {
+            if (spotsOfRoute.containsKey(integratedRouteId)) return;
+            for (long spotId : spots) {
+                postings.put(spotId, insert(postings.getOrDefault(spotId, EMPTY), integratedRouteId));
+            }
+            spotsOfRoute.put(integratedRouteId, spots);
+        }));
+    }
+
+    // 삭제된 통합 경로 제거
+    public void remove(Long integratedRouteId) {
+        AfterCommit.run(() -> apply(() -> {
+            long[] spots = spotsOfRoute.remove(integratedRouteId);
+            if (spots == null) return;
+            for (long spotId : spots) {
+                long[] posting = delete(postings.getOrDefault(spotId, EMPTY), integratedRouteId);
+                if (posting.length == 0) postings.remove(spotId);
+                else postings.put(spotId, posting);
+            }
+        }));
+    }
+
+    // 현재 색인에 반영하고, 다시 만드는 중이면 새 색인에도 반영하도록 기록한다.
+    private synchronized void apply(Runnable update) {
+        update.run();
+        if (pending != null) pending.add(update);
+    }
+
+    /**
+     * route_spot 기준으로 색인을 다시 만든다.
+     * 조회를 시작한 뒤에 들어온 등록/삭제는 기록해 두었다가 교체할 때 새 색인에 다시 적용한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            try {
+                Map<Long, LongArrayBuilder> postingBuilders = new HashMap<>();
+                Map<Long, LongArrayBuilder> spotBuilders = new HashMap<>();
+                routeSpotRepository.forEachPublicIntegratedRouteSpot((integratedRouteId, spotId) -> {
+                    postingBuilders.computeIfAbsent(spotId, id -> new LongArrayBuilder()).add(integratedRouteId);
+                    spotBuilders.computeIfAbsent(integratedRouteId, id -> new LongArrayBuilder()).add(spotId);
+                });
+
+                Map<Long, long[]> newPostings = new ConcurrentHashMap<>();
+                postingBuilders.forEach((spotId, builder) -> newPostings.put(spotId, builder.toSortedArray()));
+                Map<Long, long[]> newSpotsOfRoute = new ConcurrentHashMap<>();
+                spotBuilders.forEach((integratedRouteId, builder) -> newSpotsOfRoute.put(integratedRouteId, builder.toSortedArray()));
+
+                synchronized (this) {
+                    postings = newPostings;
+                    spotsOfRoute = newSpotsOfRoute;
+                    pending.forEach(Runnable::run);
+                    ready = true;
+                }
+                log.info("여행지 {}개, 통합 경로 {}개로 여행지-경로 색인을 만들었습니다.", newPostings.size(), newSpotsOfRoute.size());
+            } finally {
+                synchronized (this) {
+                    pending = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 정렬된 두 배열의 교집합
+     * 길이 차이가 크면 짧은 쪽의 값마다 긴 쪽에서 지수 탐색(galloping)으로 위치를 찾는다.
+     */
+    static long[] intersect(long[] small, long[] large) {
+        if (small.length > large.length) return intersect(large, small);
+
+        long[] result = new long[small.length];
+        int count = 0;
+        int from = 0;
+        for (long value : small) {
+            int bound = 1;
+            while (from + bound < large.length && large[from + bound] < value) bound <<= 1;
+            int index = Arrays.binarySearch(large, from, Math.min(from + bound + 1, large.length), value);
+            if (index >= 0) {
+                result[count++] = value;
+                from = index + 1;
+            } else {
+                from = -index - 1;
+            }
+            if (from >= large.length) break;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static long[] insert(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index >= 0) return sorted;
+        index = -index - 1;
+
+        long[] result = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(sorted, index, result, index + 1, sorted.length - index);
+        return result;
+    }
+
+    private static long[] delete(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) return sorted;
+
+        long[] result = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, index);
+        System.arraycopy(sorted, index + 1, result, index, sorted.length - index - 1);
+        return result;
+    }
+}
@@ -2,6 +2,8 @@ package com.elice.tripnote.domain.spot.controller;
 
 
 import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.dto.AddressDTO;
+import com.elice.tripnote.domain.spot.dto.NearbySpotDTO;
 import com.elice.tripnote.domain.spot.dto.SpotDetailDTO;
 import com.elice.tripnote.domain.spot.dto.SpotRequestDTO;
 import com.elice.tripnote.domain.spot.entity.Spot;
@@ -32,6 +34,30 @@ public class SpotController implements SwaggerSpotController{
 
     }
 
+    @Override
+    @GetMapping("/suggest")
+    public ResponseEntity<List<Spot>> suggestSpots(@RequestParam(name = "region", defaultValue = "ALL") Region region,
+                                                   @RequestParam(name = "q") String query,
+                                                   @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(spotService.suggest(region, query, limit));
+    }
+
+    @Override
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbySpotDTO>> getNearbySpots(@RequestParam(name = "lat") double lat,
+                                                              @RequestParam(name = "lng") double lng,
+                                                              @RequestParam(name = "radius", defaultValue = "3000") double radius,
+                                                              @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(spotService.getNearbySpots(lat, lng, radius, limit));
+    }
+
+    @Override
+    @GetMapping("/address")
+    public ResponseEntity<AddressDTO> getAddressByCoordinates(@RequestParam(name = "lat") double lat,
+                                                              @RequestParam(name = "lng") double lng) {
+        return ResponseEntity.ok(spotService.getAddress(lat, lng));
+    }
+
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<SpotDetailDTO> getSpotById(@PathVariable("id") Long id){
@@ -1,6 +1,8 @@
 package com.elice.tripnote.domain.spot.controller;
 
 import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.dto.AddressDTO;
+import com.elice.tripnote.domain.spot.dto.NearbySpotDTO;
 import com.elice.tripnote.domain.spot.dto.SpotDetailDTO;
 import com.elice.tripnote.domain.spot.dto.SpotRequestDTO;
 import com.elice.tripnote.domain.spot.dto.SpotResponseDTO;
@@ -33,6 +35,45 @@ public interface SwaggerSpotController {
     })
     ResponseEntity<?> getSpots(Region region, String location);
 
+    @Operation(summary = "여행지 검색어 자동완성", description = "이름 또는 주소에 검색어가 들어간 저장된 여행지를 관련도 순으로 조회합니다.")
+    @Parameters({
+            @Parameter(name = "region", description = "검색할 지역, 기본값은 전체 지역"),
+            @Parameter(name = "q", description = "검색어 (한 글자 이상)"),
+            @Parameter(name = "limit", description = "최대 개수 (기본 10, 최대 50)")
+    })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = {@Content(schema = @Schema(implementation = Spot.class))})
+    })
+    ResponseEntity<List<Spot>> suggestSpots(Region region, String query, int limit);
+
+    @Operation(summary = "주변 여행지 조회", description = "좌표에서 반경 안에 있는 여행지를 가까운 순서로 조회합니다.")
+    @Parameters({
+            @Parameter(name = "lat", description = "위도"),
+            @Parameter(name = "lng", description = "경도"),
+            @Parameter(name = "radius", description = "반경 (m, 기본 3000, 최대 50000)"),
+            @Parameter(name = "limit", description = "최대 개수 (기본 10, 최대 50)")
+    })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = {@Content(schema = @Schema(implementation = NearbySpotDTO.class))}),
+            @ApiResponse(responseCode = "400", description = "위도 또는 경도 값이 올바르지 않습니다.")
+    })
+    ResponseEntity<List<NearbySpotDTO>> getNearbySpots(double lat, double lng, double radius, int limit);
+
+    @Operation(summary = "좌표 기반 주소 조회", description = "위도, 경도의 지역(서울특별시, 경기도 등)과 지번 주소를 조회합니다.")
+    @Parameters({
+            @Parameter(name = "lat", description = "위도"),
+            @Parameter(name = "lng", description = "경도")
+    })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = {@Content(schema = @Schema(implementation = AddressDTO.class))}),
+            @ApiResponse(responseCode = "400", description = "위도 또는 경도 값이 올바르지 않습니다."),
+            @ApiResponse(responseCode = "503", description = "주소 변환 API를 잠시 사용할 수 없습니다.")
+    })
+    ResponseEntity<AddressDTO> getAddressByCoordinates(double lat, double lng);
+
 
     @Operation(summary = "DB에 저장된 여행지 조회", description = "기본키를 통해 여행지를 조회합니다.")
     @Parameters({
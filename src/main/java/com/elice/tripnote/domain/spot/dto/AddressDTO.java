@@ -0,0 +1,15 @@
+package com.elice.tripnote.domain.spot.dto;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 좌표의 지역과 지번 주소, 주소가 없는 좌표(바다 등)면 둘 다 null
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddressDTO {
+    private Region region;
+    private String address;
+}
@@ -0,0 +1,13 @@
+package com.elice.tripnote.domain.spot.dto;
+
+import com.elice.tripnote.domain.spot.entity.Spot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 주변 여행지와 기준 좌표로부터의 거리 (m)
+@Getter
+@AllArgsConstructor
+public class NearbySpotDTO {
+    private final Spot spot;
+    private final double distance;
+}
@@ -0,0 +1,13 @@
+package com.elice.tripnote.domain.spot.dto;
+
+import com.elice.tripnote.domain.spot.entity.Spot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 여행지 다음에 간 여행지와 그 이동 수
+@Getter
+@AllArgsConstructor
+public class NextSpotDTO {
+    private final Spot spot;
+    private final int count;
+}
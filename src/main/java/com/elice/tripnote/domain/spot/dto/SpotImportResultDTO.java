@@ -0,0 +1,17 @@
+package com.elice.tripnote.domain.spot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 여행지 가져오기 결과
+@Getter
+@AllArgsConstructor
+public class SpotImportResultDTO {
+    private long read;              // 읽은 행 수
+    private long inserted;          // 새로 추가한 여행지 수
+    private long updated;           // 이미 있어서 고친 여행지 수
+    private long duplicates;        // 파일 안에서 (지역, 이름)이 겹쳐서 건너뛴 행 수
+    private long invalid;           // 값이 없거나 지역을 알 수 없어서 건너뛴 행 수
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
@@ -0,0 +1,20 @@
+package com.elice.tripnote.domain.spot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 여행지 가져오기 파일의 한 행 (region이 비어 있으면 주소의 첫 단어로 지역을 정한다)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpotImportRowDTO {
+    private String location;
+    private String region;
+    private String address;
+    private Double lat;
+    private Double lng;
+    private String imageUrl;
+}
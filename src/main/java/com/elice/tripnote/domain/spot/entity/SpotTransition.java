@@ -0,0 +1,40 @@
+package com.elice.tripnote.domain.spot.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여행지 A 다음에 여행지 B로 이동한 경로 수 (삭제되지 않은 경로 기준)
+ * 경로를 저장/삭제할 때 CustomSpotTransitionRepository.addCounts로 바로 고친다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "spot_transition",
+        uniqueConstraints = {@UniqueConstraint(name = "uk_spot_transition", columnNames = {"from_spot_id", "to_spot_id"})},
+        indexes = {@Index(name = "idx_spot_transition_from_count", columnList = "from_spot_id, count")})
+public class SpotTransition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "from_spot_id", nullable = false)
+    private Long fromSpotId;
+
+    @Column(name = "to_spot_id", nullable = false)
+    private Long toSpotId;
+
+    @Column(name = "count", nullable = false)
+    private int count;
+
+    @Builder
+    public SpotTransition(Long fromSpotId, Long toSpotId, int count) {
+        this.fromSpotId = fromSpotId;
+        this.toSpotId = toSpotId;
+        this.count = count;
+    }
+}
@@ -0,0 +1,12 @@
+package com.elice.tripnote.domain.spot.event;
+
+import com.elice.tripnote.domain.spot.entity.Spot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 새 여행지가 저장됐을 때 (검색 색인 등에 추가)
+@Getter
+@AllArgsConstructor
+public class SpotSavedEvent {
+    private final Spot spot;
+}
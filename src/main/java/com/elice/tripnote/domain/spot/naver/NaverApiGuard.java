@@ -0,0 +1,160 @@
+package com.elice.tripnote.domain.spot.naver;
+
+import com.elice.tripnote.global.exception.CustomException;
+import com.elice.tripnote.global.exception.ErrorCode;
+import com.elice.tripnote.global.util.CircuitBreaker;
+import com.elice.tripnote.global.util.TokenBucket;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDate;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 네이버 API 호출 보호
+ * 1. 서킷 브레이커: 실패(네트워크 오류, 5xx, 429, 시간 초과)나 느린 호출이 많으면 잠시 호출을 막는다.
+ * 2. 처리율 제한(토큰 버킷)과 하루 호출 한도
+ * 3. 벌크헤드: 전용 스레드 풀에서 호출하고, 제한 시간이 지나면 요청 스레드는 기다리지 않는다.
+ * 호출할 수 없거나 실패하면 CustomException(NAVER_API_UNAVAILABLE, 503)을 던지고,
+ * SpotService는 이때 DB에 있는 여행지로 응답한다.
+ */
+@Component
+@Slf4j
+public class NaverApiGuard {
+    private final CircuitBreaker circuitBreaker;
+    private final TokenBucket rateLimiter;
+    private final long dailyQuota;
+    private final ThreadPoolExecutor bulkhead;
+    private final long timeoutMillis;
+
+    private LocalDate quotaDate = LocalDate.now();
+    private long dailyCalls;
+
+    @Autowired
+    public NaverApiGuard(@Value("${tripnote.naver.rate-per-second:10}") double ratePerSecond,
+                         @Value("${tripnote.naver.burst:30}") int burst,
+                         @Value("${tripnote.naver.daily-quota:25000}") long dailyQuota,
+                         @Value("${tripnote.naver.bulkhead-threads:20}") int threads,
+                         @Value("${tripnote.naver.bulkhead-queue:50}") int queueSize,
+                         @Value("${tripnote.naver.timeout-ms:3000}") long timeoutMillis,
+                         @Value("${tripnote.naver.breaker.window:50}") int window,
+                         @Value("${tripnote.naver.breaker.minimum-calls:10}") int minimumCalls,
+                         @Value("${tripnote.naver.breaker.failure-rate:0.5}") double failureRate,
+                         @Value("${tripnote.naver.breaker.slow-rate:0.8}") double slowRate,
+                         @Value("${tripnote.naver.breaker.slow-call-ms:2000}") long slowCallMillis,
+                         @Value("${tripnote.naver.breaker.open-ms:30000}") long openMillis) {
+        this(new CircuitBreaker(window, minimumCalls, failureRate, slowRate, slowCallMillis, openMillis, 3),
+                new TokenBucket(burst, ratePerSecond), dailyQuota, threads, queueSize, timeoutMillis);
+    }
+
+    public NaverApiGuard(CircuitBreaker circuitBreaker, TokenBucket rateLimiter, long dailyQuota,
+                         int threads, int queueSize, long timeoutMillis) {
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.dailyQuota = dailyQuota;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.bulkhead = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "naver-api-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.bulkhead.allowCoreThreadTimeOut(true);
+    }
+
+    public <T> T call(Supplier<T> request) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw unavailable("서킷 브레이커가 열려 있습니다.");
+        }
+        if (!rateLimiter.tryAcquire() || !acquireDailyQuota()) {
+            circuitBreaker.release();
+            throw unavailable("호출 한도를 넘었습니다.");
+        }
+
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = bulkhead.submit(request::get);
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.release();
+            throw unavailable("동시 호출 수를 넘었습니다.");
+        }
+
+        try {
+            T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess(elapsedMillis(start));
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onError(elapsedMillis(start));
+            throw unavailable("응답 시간(" + timeoutMillis + "ms)을 넘었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (isFailure(cause)) circuitBreaker.onError(elapsedMillis(start));
+            // 4xx는 네이버가 정상적으로 응답한 것이므로 장애로 세지 않는다.
+            else if (cause instanceof HttpStatusCodeException) circuitBreaker.onSuccess(elapsedMillis(start));
+            else circuitBreaker.release();
+            if (cause instanceof RestClientException) {
+                log.warn("네이버 API 호출 실패: {}", cause.getMessage());
+                throw new CustomException(ErrorCode.NAVER_API_UNAVAILABLE);
+            }
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            circuitBreaker.release();
+            throw unavailable("호출이 중단되었습니다.");
+        }
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    // 네트워크 오류(연결/읽기 시간 초과 포함), 5xx, 429만 네이버 API 장애로 본다.
+    private static boolean isFailure(Throwable cause) {
+        return cause instanceof ResourceAccessException
+                || cause instanceof HttpServerErrorException
+                || cause instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    private synchronized boolean acquireDailyQuota() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(quotaDate)) {
+            quotaDate = today;
+            dailyCalls = 0;
+        }
+        if (dailyCalls >= dailyQuota) return false;
+        dailyCalls++;
+        return true;
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static CustomException unavailable(String reason) {
+        log.warn("네이버 API를 호출하지 않습니다: {}", reason);
+        return new CustomException(ErrorCode.NAVER_API_UNAVAILABLE);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkhead.shutdownNow();
+    }
+}
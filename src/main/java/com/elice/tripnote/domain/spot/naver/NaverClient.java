@@ -2,6 +2,7 @@ package com.elice.tripnote.domain.spot.naver;
 
 
 import com.elice.tripnote.domain.spot.naver.dto.*;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
@@ -11,7 +12,11 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 
 @Component
+@RequiredArgsConstructor
 public class NaverClient {
+    // 커넥션 풀을 공유하는 RestTemplate (HttpClientConfig)
+    private final RestTemplate restTemplate;
+
     @Value("${naver.client.id}")
     private String naverClientId;
 
@@ -29,6 +34,10 @@ public class NaverClient {
 
     @Value("${naver.map.secret}")
     private String naverMapSecret;
+
+    @Value("${naver.url.map.reverse-geocode:https://naveropenapi.apigw.ntruss.com/map-reversegeocode/v2/gc}")
+    private String naverReverseGeocode;
+
     public SearchLocalRes searchLocal(SearchLocalReq searchLocalReq){
         var uri = UriComponentsBuilder
                 .fromUriString(naverSearchLocal)
@@ -46,7 +55,7 @@ public class NaverClient {
         var responseType = new ParameterizedTypeReference<SearchLocalRes>(){};
 
 
-        var responseEntity = new RestTemplate()
+        var responseEntity = restTemplate
                 .exchange(
                         uri,
                         HttpMethod.GET,
@@ -74,7 +83,7 @@ public class NaverClient {
         var responseType = new ParameterizedTypeReference<SearchImageRes>(){};
 
 
-        var responseEntity = new RestTemplate()
+        var responseEntity = restTemplate
                 .exchange(
                         uri,
                         HttpMethod.GET,
@@ -85,14 +94,22 @@ public class NaverClient {
         return responseEntity.getBody();
     }
 
+    // 좌표의 지번 주소 (ReverseGeocodeCache를 거쳐서 호출)
     public ReverseGeocodeRes reverseGeocode(double lat, double lng) {
-        String url = "https://naveropenapi.apigw.ntruss.com/map-reversegeocode/v2/gc?coords=" + lng + "," + lat + "&output=json";
+        var uri = UriComponentsBuilder
+                .fromUriString(naverReverseGeocode)
+                .queryParam("coords", lng + "," + lat)
+                .queryParam("orders", "addr")
+                .queryParam("output", "json")
+                .build()
+                .encode()
+                .toUri();
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("X-NCP-APIGW-API-KEY-ID", naverMapId);
         headers.set("X-NCP-APIGW-API-KEY", naverMapSecret);
         HttpEntity<String> entity = new HttpEntity<>(headers);
-        return new RestTemplate().exchange(url, HttpMethod.GET, entity, ReverseGeocodeRes.class).getBody();
+        return restTemplate.exchange(uri, HttpMethod.GET, entity, ReverseGeocodeRes.class).getBody();
     }
 
 
@@ -0,0 +1,158 @@
+package com.elice.tripnote.domain.spot.naver;
+
+import com.elice.tripnote.domain.spot.naver.dto.*;
+import com.elice.tripnote.global.util.LruCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * NaverClient의 지역/이미지 검색 결과를 두 단계로 캐시한다.
+ * 1. 서버 메모리의 LRU 캐시 (서버마다 따로)
+ * 2. Redis (서버끼리 공유)
+ * 키는 검색어를 정규화(앞뒤 공백 제거, 연속 공백 하나로, 소문자)한 요청 파라미터로 만든다.
+ * 결과가 없는 검색도 짧은 시간 동안 캐시해서 같은 검색어로 API를 반복 호출하지 않는다.
+ * Redis를 쓸 수 없을 때는 메모리 캐시와 API만 사용한다.
+ * API 호출은 NaverApiGuard(서킷 브레이커, 처리율 제한, 벌크헤드)를 거친다.
+ */
+@Component
+@Slf4j
+public class NaverSearchCache {
+    private static final String KEY_PREFIX = "naver:search:";
+
+    private final NaverClient naverClient;
+    private final NaverApiGuard naverApiGuard;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final LruCache<String, Object> localCache;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder redisLookups = new LongAdder();
+    private final LongAdder redisNanos = new LongAdder();
+    private final LongAdder apiNanos = new LongAdder();
+    private final AtomicLong maxApiNanos = new AtomicLong();
+
+    public NaverSearchCache(NaverClient naverClient,
+                            NaverApiGuard naverApiGuard,
+                            StringRedisTemplate redisTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${tripnote.naver-cache.local-size:5000}") int localSize,
+                            @Value("${tripnote.naver-cache.ttl-ms:86400000}") long ttlMillis,
+                            @Value("${tripnote.naver-cache.negative-ttl-ms:600000}") long negativeTtlMillis) {
+        this.naverClient = naverClient;
+        this.naverApiGuard = naverApiGuard;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localCache = new LruCache<>(localSize, ttlMillis);
+        this.ttlMillis = ttlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+    }
+
+    public SearchLocalRes searchLocal(SearchLocalReq req) {
+        String key = "local:" + normalize(req.getQuery()) + "|" + req.getDisplay() + "|" + req.getStart() + "|" + req.getSort();
+        return get(key, SearchLocalRes.class, () -> naverApiGuard.call(() -> naverClient.searchLocal(req)),
+                res -> res.getTotal() == 0 || res.getItems() == null || res.getItems().isEmpty());
+    }
+
+    public SearchImageRes searchImage(SearchImageReq req) {
+        String key = "image:" + normalize(req.getQuery()) + "|" + req.getDisplay() + "|" + req.getStart() + "|" + req.getSort() + "|" + req.getFilter().trim();
+        return get(key, SearchImageRes.class, () -> naverApiGuard.call(() -> naverClient.searchImage(req)),
+                res -> res.getTotal() == 0 || res.getItems() == null || res.getItems().isEmpty());
+    }
+
+    public NaverCacheStats getStats() {
+        long local = localHits.sum();
+        long redis = redisHits.sum();
+        long miss = misses.sum();
+        long total = local + redis + miss;
+        long lookups = redisLookups.sum();
+        return new NaverCacheStats(
+                local,
+                redis,
+                miss,
+                negativeHits.sum(),
+                total == 0 ? 0 : (double) (local + redis) / total,
+                lookups == 0 ? 0 : redisNanos.sum() / 1e6 / lookups,
+                miss == 0 ? 0 : apiNanos.sum() / 1e6 / miss,
+                maxApiNanos.get() / 1_000_000,
+                localCache.size());
+    }
+
+    private <T> T get(String key, Class<T> type, Supplier<T> loader, Predicate<T> isEmpty) {
+        // 1. 메모리
+        T cached = type.cast(localCache.get(key));
+        if (cached != null) {
+            localHits.increment();
+            if (isEmpty.test(cached)) negativeHits.increment();
+            return cached;
+        }
+
+        // 2. Redis
+        cached = readRedis(key, type);
+        if (cached != null) {
+            redisHits.increment();
+            boolean empty = isEmpty.test(cached);
+            if (empty) negativeHits.increment();
+            localCache.put(key, cached, empty ? negativeTtlMillis : ttlMillis);
+            return cached;
+        }
+
+        // 3. 네이버 API
+        misses.increment();
+        long start = System.nanoTime();
+        T loaded = loader.get();
+        long elapsed = System.nanoTime() - start;
+        apiNanos.add(elapsed);
+        maxApiNanos.accumulateAndGet(elapsed, Math::max);
+        if (loaded == null) return null;
+
+        long ttl = isEmpty.test(loaded) ? negativeTtlMillis : ttlMillis;
+        localCache.put(key, loaded, ttl);
+        writeRedis(key, loaded, ttl);
+        return loaded;
+    }
+
+    private <T> T readRedis(String key, Class<T> type) {
+        long start = System.nanoTime();
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("네이버 검색 캐시 Redis 조회 실패: {}", e.getMessage());
+            return null;
+        } finally {
+            redisLookups.increment();
+            redisNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private void writeRedis(String key, Object value, long ttl) {
+        try {
+            String json = objectMapper.writeValueAsString(value);
+            if (ttl > 0) redisTemplate.opsForValue().set(KEY_PREFIX + key, json, Duration.ofMillis(ttl));
+            else redisTemplate.opsForValue().set(KEY_PREFIX + key, json);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("네이버 검색 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    static String normalize(String query) {
+        return query == null ? "" : query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
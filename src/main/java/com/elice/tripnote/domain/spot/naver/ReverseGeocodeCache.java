@@ -0,0 +1,143 @@
+package com.elice.tripnote.domain.spot.naver;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.dto.AddressDTO;
+import com.elice.tripnote.domain.spot.naver.dto.ReverseGeocodeRes;
+import com.elice.tripnote.global.exception.CustomException;
+import com.elice.tripnote.global.exception.ErrorCode;
+import com.elice.tripnote.global.util.LruCache;
+import com.elice.tripnote.global.util.SingleFlight;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 좌표 -> 주소 변환(NaverClient.reverseGeocode) 결과를 격자 칸 단위로 캐시한다.
+ * 좌표를 grid-degrees 크기의 칸으로 나누고(0.001도는 약 100m), 같은 칸의 좌표는 칸 중심 좌표의 주소를 같이 쓴다.
+ * 지도를 누른 좌표는 여행지 근처에 몰리기 때문에 칸 단위로 캐시하면 대부분 API를 호출하지 않는다.
+ * 메모리 LRU 캐시 -> Redis(redis-enabled일 때) -> API 순서로 찾고, 같은 칸을 동시에 찾으면 API는 한 번만 호출한다.
+ */
+@Component
+@Slf4j
+public class ReverseGeocodeCache {
+    private static final String KEY_PREFIX = "naver:geocode:";
+
+    private final NaverClient naverClient;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final double gridDegrees;
+    private final long ttlMillis;
+    private final boolean redisEnabled;
+    private final LruCache<String, AddressDTO> localCache;
+    private final SingleFlight<String, AddressDTO> lookups = new SingleFlight<>();
+
+    public ReverseGeocodeCache(NaverClient naverClient,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${tripnote.geocode-cache.grid-degrees:0.001}") double gridDegrees,
+                               @Value("${tripnote.geocode-cache.local-size:20000}") int localSize,
+                               @Value("${tripnote.geocode-cache.ttl-ms:604800000}") long ttlMillis,
+                               @Value("${tripnote.geocode-cache.redis-enabled:true}") boolean redisEnabled) {
+        this.naverClient = naverClient;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.gridDegrees = gridDegrees;
+        this.ttlMillis = ttlMillis;
+        this.redisEnabled = redisEnabled;
+        this.localCache = new LruCache<>(localSize, ttlMillis);
+    }
+
+    public AddressDTO getAddress(double lat, double lng) {
+        long latCell = (long) Math.floor(lat / gridDegrees);
+        long lngCell = (long) Math.floor(lng / gridDegrees);
+        String key = gridDegrees + ":" + latCell + ":" + lngCell;
+
+        AddressDTO cached = localCache.get(key);
+        if (cached != null) return cached;
+
+        return lookups.execute(key, () -> {
+            AddressDTO address = localCache.get(key);
+            if (address != null) return address;
+
+            address = readRedis(key);
+            if (address == null) {
+                // 칸 중심 좌표로 조회해서 칸 안의 어느 좌표로 먼저 찾았는지와 상관없이 같은 결과를 쓴다.
+                address = load((latCell + 0.5) * gridDegrees, (lngCell + 0.5) * gridDegrees);
+                writeRedis(key, address);
+            }
+            localCache.put(key, address);
+            return address;
+        });
+    }
+
+    public int size() {
+        return localCache.size();
+    }
+
+    private AddressDTO load(double lat, double lng) {
+        ReverseGeocodeRes res;
+        try {
+            res = naverClient.reverseGeocode(lat, lng);
+        } catch (RestClientException e) {
+            log.warn("좌표 주소 변환 실패 ({}, {}): {}", lat, lng, e.getMessage());
+            throw new CustomException(ErrorCode.NAVER_API_UNAVAILABLE);
+        }
+        if (res == null || res.getResults() == null || res.getResults().isEmpty()) return new AddressDTO(null, null);
+
+        ReverseGeocodeRes.Result result = res.getResults().get(0);
+        ReverseGeocodeRes.Result.Region area = result.getRegion();
+        if (area == null || area.getArea1() == null) return new AddressDTO(null, null);
+
+        String address = Stream.of(area.getArea1(), area.getArea2(), area.getArea3(), area.getArea4())
+                .filter(Objects::nonNull)
+                .map(ReverseGeocodeRes.Result.Region.Area::getName)
+                .filter(name -> name != null && !name.isBlank())
+                .collect(Collectors.joining(" "));
+        ReverseGeocodeRes.Result.Land land = result.getLand();
+        if (land != null && land.getNumber1() != null && !land.getNumber1().isBlank()) {
+            address += " " + land.getNumber1()
+                    + (land.getNumber2() != null && !land.getNumber2().isBlank() ? "-" + land.getNumber2() : "");
+        }
+        return new AddressDTO(toRegion(area.getArea1().getName()), address);
+    }
+
+    private static Region toRegion(String name) {
+        return Arrays.stream(Region.values())
+                .filter(region -> region.getName().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private AddressDTO readRedis(String key) {
+        if (!redisEnabled) return null;
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            return json != null ? objectMapper.readValue(json, AddressDTO.class) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("좌표 주소 캐시 Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, AddressDTO address) {
+        if (!redisEnabled) return;
+        try {
+            String json = objectMapper.writeValueAsString(address);
+            if (ttlMillis > 0) redisTemplate.opsForValue().set(KEY_PREFIX + key, json, Duration.ofMillis(ttlMillis));
+            else redisTemplate.opsForValue().set(KEY_PREFIX + key, json);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("좌표 주소 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+}
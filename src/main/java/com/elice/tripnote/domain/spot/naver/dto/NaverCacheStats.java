@@ -0,0 +1,19 @@
+package com.elice.tripnote.domain.spot.naver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 네이버 검색 캐시 통계 (서버가 뜬 뒤부터 누적)
+@Getter
+@AllArgsConstructor
+public class NaverCacheStats {
+    private long localHits;         // 메모리 캐시 적중 수
+    private long redisHits;         // Redis 캐시 적중 수
+    private long misses;            // 네이버 API 호출 수
+    private long negativeHits;      // 적중한 것 중 빈 결과 수
+    private double hitRate;         // (메모리 + Redis 적중) / 전체 요청
+    private double avgRedisMillis;  // Redis 조회 평균 시간
+    private double avgApiMillis;    // 네이버 API 호출 평균 시간
+    private long maxApiMillis;      // 네이버 API 호출 최대 시간
+    private int localSize;          // 메모리 캐시 항목 수
+}
@@ -1,9 +1,11 @@
 package com.elice.tripnote.domain.spot.repository;
 
 import com.elice.tripnote.domain.route.entity.SpotResponseDTO;
+import com.elice.tripnote.domain.spot.constant.Region;
 import com.elice.tripnote.domain.spot.entity.Spot;
 import com.elice.tripnote.domain.spot.entity.SpotRegionDTO;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -13,4 +15,6 @@ public interface CustomSpotRepository {
     List<Spot> findSpotsByIntegratedRouteIdInOrder(Long integratedRouteId);
     SpotRegionDTO getRegionByspotId(Long spotId);
     Map<Long, List<Spot>> findSpotsByIntegratedRouteIds(List<Long> integratedIds);
+    int upsertSpots(List<Spot> spots);
+    List<Spot> findByRegionsAndLocations(Collection<Region> regions, Collection<String> locations);
 }
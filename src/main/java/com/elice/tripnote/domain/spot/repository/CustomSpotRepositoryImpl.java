@@ -2,31 +2,34 @@ package com.elice.tripnote.domain.spot.repository;
 
 import com.elice.tripnote.domain.integratedroute.entity.QIntegratedRoute;
 import com.elice.tripnote.domain.link.routespot.entity.QRouteSpot;
-import com.elice.tripnote.domain.route.entity.QRoute;
 import com.elice.tripnote.domain.route.entity.SpotResponseDTO;
+import com.elice.tripnote.domain.spot.constant.Region;
 import com.elice.tripnote.domain.spot.entity.QSpot;
 import com.elice.tripnote.domain.spot.entity.Spot;
 import com.elice.tripnote.domain.spot.entity.SpotRegionDTO;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class CustomSpotRepositoryImpl implements CustomSpotRepository{
     private final JPAQueryFactory query;
+    private final JdbcTemplate jdbcTemplate;
 
     private final QSpot spot = new QSpot("s");
     private final QRouteSpot routeSpot = new QRouteSpot("rs");
-    private final QRoute route = new QRoute("r");
     private final QIntegratedRoute integratedRoute =new QIntegratedRoute("ir");
 
     public List<SpotResponseDTO> findByRouteIds(Long routeId){
@@ -75,50 +78,78 @@ public class CustomSpotRepositoryImpl implements CustomSpotRepository{
 //    }
 
     public List<Spot> findSpotsByIntegratedRouteIdInOrder(Long integratedRouteId){
-        // integratedRouteId와 같은 통합 경로 id를 가지는 아무 routeId 구하기
-        JPQLQuery<Long> subquery = JPAExpressions
-                .select(route.id.min())
-                .from(route)
-                .join(integratedRoute).on(route.integratedRoute.id.eq(integratedRoute.id))
-                .where(route.integratedRoute.id.eq(integratedRouteId));
-
+        // 통합 경로의 대표 경로가 지나는 여행지 (순서대로)
         return query
                 .select(spot)
-                .from(spot)
-                .join(routeSpot).on(routeSpot.spot.id.eq(spot.id))
-                .join(route).on(routeSpot.route.id.eq(route.id))
-                .where(routeSpot.route.id.eq(subquery))
+                .from(routeSpot)
+                .join(routeSpot.spot, spot)
+                .join(integratedRoute).on(integratedRoute.representativeRouteId.eq(routeSpot.route.id))
+                .where(integratedRoute.id.eq(integratedRouteId))
                 .orderBy(routeSpot.sequence.asc())
                 .fetch();
     }
 
     public Map<Long, List<Spot>> findSpotsByIntegratedRouteIds(List<Long> integratedIds) {
-        // 각 integratedRouteId에 해당하는 최소 routeId 찾기
-        JPQLQuery<Long> minRouteIdsSubquery = JPAExpressions
-                .select(route.id.min())
-                .from(route)
-//                .join(routeSpot).on(routeSpot.route.id.eq(route.id))
-                .join(integratedRoute).on(route.integratedRoute.id.eq(integratedRoute.id))
-                .where(integratedRoute.id.in(integratedIds))
-                .groupBy(integratedRoute.id);
-
+        // 각 통합 경로의 대표 경로가 지나는 여행지 (순서대로)
         List<Tuple> results = query
-                .select(route.integratedRoute.id, routeSpot.spot)
+                .select(integratedRoute.id, spot)
                 .from(routeSpot)
-                .join(route).on(routeSpot.route.id.eq(route.id))
-//                .join(integratedRoute).on(route.integratedRoute.id.eq(integratedRoute.id))
-                .where(route.id.in(minRouteIdsSubquery))
-                .orderBy(routeSpot.sequence.asc())
+                .join(routeSpot.spot, spot)
+                .join(integratedRoute).on(integratedRoute.representativeRouteId.eq(routeSpot.route.id))
+                .where(integratedRoute.id.in(integratedIds))
+                .orderBy(integratedRoute.id.asc(), routeSpot.sequence.asc())
                 .fetch();
 
         return results.stream()
                 .collect(Collectors.groupingBy(
                         tuple -> tuple.get(integratedRoute.id),
-                        Collectors.mapping(tuple -> tuple.get(routeSpot.spot), Collectors.toList())
+                        Collectors.mapping(tuple -> tuple.get(spot), Collectors.toList())
                 ));
 
     }
 
+    /**
+     * 지역이 regions 중 하나이고 이름이 locations 중 하나인 여행지 (한 번의 IN 쿼리)
+     * (지역, 이름) 쌍이 정확히 맞는지는 호출하는 쪽에서 확인한다.
+     */
+    public List<Spot> findByRegionsAndLocations(Collection<Region> regions, Collection<String> locations) {
+        if (regions.isEmpty() || locations.isEmpty()) return List.of();
+        return query
+                .selectFrom(spot)
+                .where(spot.region.in(regions)
+                        .and(spot.location.in(locations)))
+                .fetch();
+    }
 
-
+    /**
+     * (지역, 이름)이 같은 여행지가 있으면 주소/좌표/이미지를 고치고, 없으면 새로 추가한다.
+     * 한 번의 upsert 배치로 반영하므로 다른 요청이 같은 여행지를 먼저 저장해도 실패하지 않는다.
+     * 이미지가 없는 행은 기존 이미지를 그대로 둔다.
+     * 배치 결과의 행 수는 드라이버 설정에 따라 SUCCESS_NO_INFO(-2)일 수 있어서, 새로 추가한 수는 미리 한 번의 IN 쿼리로 센다.
+     *
+     * @param spots (지역, 이름)이 겹치지 않는 여행지 리스트
+     * @return 새로 추가한 여행지 수
+     */
+    public int upsertSpots(List<Spot> spots) {
+        if (spots.isEmpty()) return 0;
+        Set<Region> regions = new HashSet<>();
+        Set<String> locations = new HashSet<>();
+        for (Spot s : spots) {
+            regions.add(s.getRegion());
+            locations.add(s.getLocation());
+        }
+        Set<List<Object>> existing = new HashSet<>();
+        for (Spot s : findByRegionsAndLocations(regions, locations)) existing.add(List.of(s.getRegion(), s.getLocation()));
+
+        List<Object[]> rows = new ArrayList<>(spots.size());
+        int inserted = 0;
+        for (Spot s : spots) {
+            rows.add(new Object[]{s.getLocation(), s.getImageUrl(), s.getRegion().name(), s.getAddress(), s.getLat(), s.getLng()});
+            if (!existing.contains(List.of(s.getRegion(), s.getLocation()))) inserted++;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO spot (location, image_url, region, address, lat, lng) VALUES (?, ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE address = VALUES(address), lat = VALUES(lat), lng = VALUES(lng), " +
+                "image_url = COALESCE(VALUES(image_url), image_url)", rows);
+        return inserted;
+    }
 }
@@ -0,0 +1,12 @@
+package com.elice.tripnote.domain.spot.repository;
+
+import com.elice.tripnote.domain.spot.dto.NextSpotDTO;
+
+import java.util.List;
+
+public interface CustomSpotTransitionRepository {
+    void addCounts(List<Long> spotIds, int delta);
+    List<NextSpotDTO> findTopNextSpots(Long fromSpotId, int limit);
+    long sumCounts(Long fromSpotId);
+    int backfill();
+}
@@ -0,0 +1,99 @@
+package com.elice.tripnote.domain.spot.repository;
+
+import com.elice.tripnote.domain.route.status.RouteStatus;
+import com.elice.tripnote.domain.spot.dto.NextSpotDTO;
+import com.elice.tripnote.domain.spot.entity.QSpot;
+import com.elice.tripnote.domain.spot.entity.QSpotTransition;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomSpotTransitionRepositoryImpl implements CustomSpotTransitionRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final JPAQueryFactory query;
+
+    private final QSpotTransition spotTransition = new QSpotTransition("st");
+    private final QSpot spot = new QSpot("s");
+
+    /**
+     * 경로가 지나는 연속된 여행지 쌍마다 이동 수를 delta만큼 바꾼다.
+     * 늘어날 때는 한 번의 upsert 배치로 없는 행은 만들고 있는 행은 더한다. (동시에 같은 쌍을 만들어도 두 번 더하지 않는다)
+     * 줄어들 때는 행이 이미 있으므로 UPDATE 배치만 한다.
+     *
+     * @param spotIds 순서대로 정렬된 여행지 id 리스트
+     * @param delta   경로 저장이면 1, 삭제면 -1
+     */
+    public void addCounts(List<Long> spotIds, int delta) {
+        // 한 경로 안에서 같은 쌍이 여러 번 나오면 합쳐서 반영
+        Map<List<Long>, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < spotIds.size(); i++) {
+            counts.merge(List.of(spotIds.get(i), spotIds.get(i + 1)), delta, Integer::sum);
+        }
+        if (counts.isEmpty()) return;
+
+        List<Object[]> rows = new ArrayList<>();
+        if (delta < 0) {
+            counts.forEach((pair, count) -> rows.add(new Object[]{count, pair.get(0), pair.get(1)}));
+            jdbcTemplate.batchUpdate(
+                    "UPDATE spot_transition SET count = count + ? WHERE from_spot_id = ? AND to_spot_id = ?", rows);
+            return;
+        }
+        counts.forEach((pair, count) -> rows.add(new Object[]{pair.get(0), pair.get(1), count}));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO spot_transition (from_spot_id, to_spot_id, count) VALUES (?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE count = count + VALUES(count)", rows);
+    }
+
+    /**
+     * 여행지 다음에 많이 간 여행지 조회 (이동 수가 많은 순)
+     *
+     * @return (다음 여행지, 이동 수) 리스트
+     */
+    public List<NextSpotDTO> findTopNextSpots(Long fromSpotId, int limit) {
+        return query
+                .select(Projections.constructor(NextSpotDTO.class,
+                        spot,
+                        spotTransition.count))
+                .from(spotTransition)
+                .join(spot).on(spot.id.eq(spotTransition.toSpotId))
+                .where(spotTransition.fromSpotId.eq(fromSpotId)
+                        .and(spotTransition.count.gt(0)))
+                .orderBy(spotTransition.count.desc(), spotTransition.toSpotId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 여행지에서 다음 여행지로 이동한 전체 수
+    public long sumCounts(Long fromSpotId) {
+        Long sum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(count), 0) FROM spot_transition WHERE from_spot_id = ?", Long.class, fromSpotId);
+        return sum != null ? sum : 0;
+    }
+
+    /**
+     * 테이블이 비어 있으면 삭제되지 않은 경로의 route_spot으로 한 번에 채운다.
+     *
+     * @return 만든 행 수
+     */
+    public int backfill() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM spot_transition", Integer.class);
+        if (existing != null && existing > 0) return 0;
+
+        return jdbcTemplate.update(
+                "INSERT INTO spot_transition (from_spot_id, to_spot_id, count) " +
+                        "SELECT rs.spot_id, rs.next_spot_id, COUNT(*) FROM route_spot rs " +
+                        "JOIN route r ON r.id = rs.route_id " +
+                        "WHERE rs.next_spot_id IS NOT NULL AND r.route_status <> ? " +
+                        "GROUP BY rs.spot_id, rs.next_spot_id",
+                RouteStatus.DELETE.name());
+    }
+}
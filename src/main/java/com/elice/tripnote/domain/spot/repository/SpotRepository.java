@@ -47,7 +47,6 @@ public interface SpotRepository extends JpaRepository<Spot, Long>, CustomSpotRep
     // 가나다 순서대로 5개를 가져오는 메서드
     List<Spot> findTop5ByOrderByLocationAsc();
 
-    // 랜덤하게 5개를 가져오는 메서드
-    @Query(value = "SELECT * FROM spot ORDER BY RAND() LIMIT 5", nativeQuery = true)
-    List<Spot> findRandomTop5();
+    // 위도/경도 범위 안의 여행지 (위치 색인이 만들어지기 전에 주변 여행지를 찾을 때 사용)
+    List<Spot> findByLatBetweenAndLngBetween(double minLat, double maxLat, double minLng, double maxLng);
 }
\ No newline at end of file
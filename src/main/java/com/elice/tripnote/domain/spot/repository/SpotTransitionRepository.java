@@ -0,0 +1,9 @@
+package com.elice.tripnote.domain.spot.repository;
+
+import com.elice.tripnote.domain.spot.entity.SpotTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpotTransitionRepository extends JpaRepository<SpotTransition, Long>, CustomSpotTransitionRepository {
+}
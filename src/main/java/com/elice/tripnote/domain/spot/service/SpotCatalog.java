@@ -0,0 +1,272 @@
+package com.elice.tripnote.domain.spot.service;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.event.SpotSavedEvent;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 모든 여행지를 id 순서로 정렬된 열 배열(id, 지역 번호, 위도, 경도, 이름, 주소, 이미지)로 메모리에 둔다.
+ * id로 여행지를 찾을 때 DB를 조회하지 않고 이진 탐색으로 찾는다.
+ * 응답에 쓰는 Spot 객체는 처음 필요할 때 한 번 만들어서 계속 같이 쓴다. (같은 여행지는 같은 객체)
+ * 새 여행지는 SpotSavedEvent로 배열 끝에 추가하고, 카탈로그에 없는 id는 DB에서 한 번에 읽어서 추가한다.
+ * upsert로 이미 있는 여행지의 주소/좌표/이미지가 바뀌어도 SpotSavedEvent로 그 여행지만 새 값으로 바꾼다.
+ * 배열은 용량을 남겨 두고 끝에만 쓰며, 개수(size)를 담은 Columns 객체를 바꿔 끼워서 조회는 잠금 없이 한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SpotCatalog {
+    private static final Region[] REGIONS = Region.values();
+
+    private final SpotRepository spotRepository;
+
+    private volatile Columns columns = new Columns(0);
+    // 지역별로 그 지역의 여행지 id 목록이 바뀔 때마다 증가, ALL 칸은 어느 지역이든 바뀌면 증가
+    // (지역별 id 목록으로 만든 다른 색인이 그 지역만 다시 만들지 판단할 때 사용, 값만 바뀐 여행지는 세지 않는다)
+    private final AtomicLongArray versions = new AtomicLongArray(REGIONS.length);
+    // 같은 이름/주소 문자열은 한 객체만 쓴다. (쓰기는 synchronized 안에서만)
+    private final Map<String, String> strings = new HashMap<>();
+
+    private static final class Columns {
+        final long[] ids;
+        final byte[] regions;
+        final double[] lats;
+        final double[] lngs;
+        final String[] locations;
+        final String[] addresses;
+        final String[] imageUrls;
+        final AtomicReferenceArray<Spot> views;
+        final int size;
+
+        Columns(int capacity) {
+            this(new long[capacity], new byte[capacity], new double[capacity], new double[capacity],
+                    new String[capacity], new String[capacity], new String[capacity], new AtomicReferenceArray<>(capacity), 0);
+        }
+
+        Columns(long[] ids, byte[] regions, double[] lats, double[] lngs, String[] locations, String[] addresses,
+                String[] imageUrls, AtomicReferenceArray<Spot> views, int size) {
+            this.ids = ids;
+            this.regions = regions;
+            this.lats = lats;
+            this.lngs = lngs;
+            this.locations = locations;
+            this.addresses = addresses;
+            this.imageUrls = imageUrls;
+            this.views = views;
+            this.size = size;
+        }
+
+        int capacity() {
+            return ids.length;
+        }
+
+        int indexOf(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            return index >= 0 ? index : -1;
+        }
+
+        Columns withSize(int newSize) {
+            return new Columns(ids, regions, lats, lngs, locations, addresses, imageUrls, views, newSize);
+        }
+
+        Columns grow(int capacity) {
+            AtomicReferenceArray<Spot> newViews = new AtomicReferenceArray<>(capacity);
+            for (int i = 0; i < size; i++) newViews.set(i, views.get(i));
+            return new Columns(Arrays.copyOf(ids, capacity), Arrays.copyOf(regions, capacity),
+                    Arrays.copyOf(lats, capacity), Arrays.copyOf(lngs, capacity),
+                    Arrays.copyOf(locations, capacity), Arrays.copyOf(addresses, capacity),
+                    Arrays.copyOf(imageUrls, capacity), newViews, size);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Spot> spots = new ArrayList<>(spotRepository.findAll());
+        spots.sort(Comparator.comparing(Spot::getId));
+        strings.clear();
+        Columns next = new Columns(Math.max(16, spots.size() + spots.size() / 4));
+        int size = 0;
+        for (Spot spot : spots) {
+            if (size > 0 && next.ids[size - 1] == spot.getId()) continue;
+            write(next, size++, spot);
+        }
+        columns = next.withSize(size);
+        for (int i = 0; i < REGIONS.length; i++) versions.incrementAndGet(i);
+        log.info("여행지 카탈로그 생성 완료: 여행지 {}개 ({}ms)", size, System.currentTimeMillis() - start);
+    }
+
+    @EventListener
+    public void onSpotSaved(SpotSavedEvent event) {
+        put(event.getSpot());
+    }
+
+    // 없는 여행지는 추가하고, 있는 여행지는 값이 바뀌었으면 새 값으로 바꾼다.
+    public synchronized void put(Spot spot) {
+        if (spot.getId() == null || spot.getRegion() == null) return;
+        Columns current = columns;
+        int index = current.indexOf(spot.getId());
+        if (index < 0) {
+            add(spot);
+            return;
+        }
+        if (sameValues(current, index, spot)) return;
+
+        // 조회 중인 배열은 고치지 않고 복사본에 써서 바꿔 끼운다. (드문 경우)
+        Columns next = current.grow(current.capacity());
+        write(next, index, spot);
+        columns = next;
+    }
+
+    private void increaseVersion(Region region) {
+        versions.incrementAndGet(region.ordinal());
+        versions.incrementAndGet(Region.ALL.ordinal());
+    }
+
+    public synchronized void add(Spot spot) {
+        if (spot.getId() == null || spot.getRegion() == null) return;
+        Columns current = columns;
+        long id = spot.getId();
+        if (current.indexOf(id) >= 0) return;
+
+        int size = current.size;
+        if (size == 0 || current.ids[size - 1] < id) {
+            // 보통은 가장 큰 id가 새로 생기므로 끝에 쓴다. (조회 중인 쪽은 size까지만 읽는다)
+            if (size == current.capacity()) current = current.grow(Math.max(16, size * 2));
+            write(current, size, spot);
+            columns = current.withSize(size + 1);
+            increaseVersion(spot.getRegion());
+            return;
+        }
+
+        // id가 중간에 들어가야 하면 새 배열을 만든다. (드문 경우)
+        int index = -Arrays.binarySearch(current.ids, 0, size, id) - 1;
+        Columns next = new Columns(Math.max(16, size * 2));
+        copy(current, 0, next, 0, index);
+        write(next, index, spot);
+        copy(current, index, next, index + 1, size - index);
+        columns = next.withSize(size + 1);
+        increaseVersion(spot.getRegion());
+    }
+
+    public boolean contains(Long id) {
+        return id != null && columns.indexOf(id) >= 0;
+    }
+
+    // 카탈로그에 있는 여행지, 없으면 null (DB는 조회하지 않는다)
+    public Spot get(Long id) {
+        if (id == null) return null;
+        Columns current = columns;
+        int index = current.indexOf(id);
+        return index >= 0 ? view(current, index) : null;
+    }
+
+    public Region getRegion(Long id) {
+        Columns current = columns;
+        int index = id == null ? -1 : current.indexOf(id);
+        return index >= 0 ? REGIONS[current.regions[index]] : null;
+    }
+
+    /**
+     * id로 여행지 찾기, 카탈로그에 없는 id는 한 번의 IN 쿼리로 읽어서 카탈로그에 추가한다.
+     *
+     * @return id -> 여행지 (DB에도 없는 id는 빠진다)
+     */
+    public Map<Long, Spot> getSpots(Collection<Long> ids) {
+        Map<Long, Spot> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        Columns current = columns;
+        for (Long id : ids) {
+            if (id == null || result.containsKey(id)) continue;
+            int index = current.indexOf(id);
+            if (index >= 0) result.put(id, view(current, index));
+            else misses.add(id);
+        }
+        if (!misses.isEmpty()) {
+            for (Spot spot : spotRepository.findAllById(misses)) {
+                add(spot);
+                Spot view = get(spot.getId());
+                result.put(spot.getId(), view != null ? view : spot);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return columns.size;
+    }
+
+    // 지역의 여행지 id 목록 버전, ALL이면 전체
+    public long version(Region region) {
+        return versions.get(region.ordinal());
+    }
+
+    // 지역의 여행지 id (오름차순), ALL이면 전체
+    public long[] getIds(Region region) {
+        Columns current = columns;
+        if (region == null || region == Region.ALL) return Arrays.copyOf(current.ids, current.size);
+
+        byte ordinal = (byte) region.ordinal();
+        long[] result = new long[current.size];
+        int count = 0;
+        for (int i = 0; i < current.size; i++) {
+            if (current.regions[i] == ordinal) result[count++] = current.ids[i];
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private Spot view(Columns current, int index) {
+        Spot view = current.views.get(index);
+        if (view != null) return view;
+        view = new Spot(current.ids[index], current.locations[index], current.imageUrls[index],
+                REGIONS[current.regions[index]], current.addresses[index], current.lats[index], current.lngs[index]);
+        // 동시에 만들었으면 먼저 넣은 객체를 쓴다.
+        return current.views.compareAndSet(index, null, view) ? view : current.views.get(index);
+    }
+
+    private void write(Columns target, int index, Spot spot) {
+        target.ids[index] = spot.getId();
+        target.regions[index] = (byte) spot.getRegion().ordinal();
+        target.lats[index] = spot.getLat();
+        target.lngs[index] = spot.getLng();
+        target.locations[index] = intern(spot.getLocation());
+        target.addresses[index] = intern(spot.getAddress());
+        target.imageUrls[index] = spot.getImageUrl();
+        target.views.set(index, null);
+    }
+
+    private static boolean sameValues(Columns current, int index, Spot spot) {
+        return current.regions[index] == spot.getRegion().ordinal()
+                && current.lats[index] == spot.getLat()
+                && current.lngs[index] == spot.getLng()
+                && Objects.equals(current.locations[index], spot.getLocation())
+                && Objects.equals(current.addresses[index], spot.getAddress())
+                && Objects.equals(current.imageUrls[index], spot.getImageUrl());
+    }
+
+    private static void copy(Columns from, int fromIndex, Columns to, int toIndex, int length) {
+        System.arraycopy(from.ids, fromIndex, to.ids, toIndex, length);
+        System.arraycopy(from.regions, fromIndex, to.regions, toIndex, length);
+        System.arraycopy(from.lats, fromIndex, to.lats, toIndex, length);
+        System.arraycopy(from.lngs, fromIndex, to.lngs, toIndex, length);
+        System.arraycopy(from.locations, fromIndex, to.locations, toIndex, length);
+        System.arraycopy(from.addresses, fromIndex, to.addresses, toIndex, length);
+        System.arraycopy(from.imageUrls, fromIndex, to.imageUrls, toIndex, length);
+        for (int i = 0; i < length; i++) to.views.set(toIndex + i, from.views.get(fromIndex + i));
+    }
+
+    private String intern(String value) {
+        if (value == null) return null;
+        return strings.computeIfAbsent(value, key -> key);
+    }
+}
@@ -0,0 +1,284 @@
+package com.elice.tripnote.domain.spot.service;
+
+import com.elice.tripnote.domain.spot.dto.NearbySpotDTO;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.event.SpotSavedEvent;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.global.util.GeoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 여행지 좌표를 위도/경도 격자로 나눠서 메모리에 둔다.
+ * 격자 칸마다 위도/경도 배열과 여행지 배열을 나란히 두고, 기준 좌표의 칸에서부터 바깥쪽 칸으로 넓혀 가며 가까운 여행지를 찾는다.
+ * k개를 찾았고 다음 바퀴의 칸들이 지금까지 찾은 k번째보다 멀면 멈추기 때문에, 여행지 수가 늘어도 보는 칸 수는 거의 같다.
+ * 칸은 바뀔 때마다 새 배열로 교체하므로 조회는 잠금 없이 한다.
+ * 이미 있는 여행지가 다시 저장되면 예전 칸에서 빼고 새 좌표의 칸에 넣는다.
+ * 색인은 별도 스레드에서 새로 만들어 한 번에 바꾸고, 처음 만들어지기 전까지는 DB에서 좌표 범위로 찾는다.
+ */
+@Service
+@Slf4j
+public class SpotGeoIndex {
+    private final SpotRepository spotRepository;
+    // 격자 한 칸의 크기 (도), 0.01도는 위도 방향으로 약 1.1km
+    private final double cellDegrees;
+    private final double maxRadiusMeters;
+
+    private volatile Map<Long, Cell> cells = new ConcurrentHashMap<>();
+    // 여행지 id -> 들어 있는 칸
+    private volatile Map<Long, Long> cellKeys = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    private final AtomicBoolean building = new AtomicBoolean();
+    // 색인을 다시 만드는 동안 저장된 여행지 (다시 만들고 있지 않으면 null)
+    private List<Spot> pending;
+    private final Object rebuildLock = new Object();
+
+    public SpotGeoIndex(SpotRepository spotRepository,
+                        @Value("${tripnote.spot-geo.cell-degrees:0.01}") double cellDegrees,
+                        @Value("${tripnote.spot-geo.max-radius-meters:50000}") double maxRadiusMeters) {
+        this.spotRepository = spotRepository;
+        this.cellDegrees = cellDegrees;
+        this.maxRadiusMeters = maxRadiusMeters;
+    }
+
+    private record Cell(double[] lats, double[] lngs, Spot[] spots) {
+        Cell append(Spot spot) {
+            int n = spots.length;
+            double[] newLats = Arrays.copyOf(lats, n + 1);
+            double[] newLngs = Arrays.copyOf(lngs, n + 1);
+            Spot[] newSpots = Arrays.copyOf(spots, n + 1);
+            newLats[n] = spot.getLat();
+            newLngs[n] = spot.getLng();
+            newSpots[n] = spot;
+            return new Cell(newLats, newLngs, newSpots);
+        }
+
+        // 같은 id의 여행지를 바꾼 칸
+        Cell replace(Spot spot) {
+            int index = indexOf(spot.getId());
+            if (index < 0) return append(spot);
+            double[] newLats = lats.clone();
+            double[] newLngs = lngs.clone();
+            Spot[] newSpots = spots.clone();
+            newLats[index] = spot.getLat();
+            newLngs[index] = spot.getLng();
+            newSpots[index] = spot;
+            return new Cell(newLats, newLngs, newSpots);
+        }
+
+        // id의 여행지를 뺀 칸 (비면 null)
+        Cell remove(Long id) {
+            int index = indexOf(id);
+            if (index < 0) return this;
+            int n = spots.length;
+            if (n == 1) return null;
+            double[] newLats = new double[n - 1];
+            double[] newLngs = new double[n - 1];
+            Spot[] newSpots = new Spot[n - 1];
+            System.arraycopy(lats, 0, newLats, 0, index);
+            System.arraycopy(lats, index + 1, newLats, index, n - index - 1);
+            System.arraycopy(lngs, 0, newLngs, 0, index);
+            System.arraycopy(lngs, index + 1, newLngs, index, n - index - 1);
+            System.arraycopy(spots, 0, newSpots, 0, index);
+            System.arraycopy(spots, index + 1, newSpots, index, n - index - 1);
+            return new Cell(newLats, newLngs, newSpots);
+        }
+
+        private int indexOf(Long id) {
+            for (int i = 0; i < spots.length; i++) {
+                if (spots[i].getId().equals(id)) return i;
+            }
+            return -1;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 요청 스레드를 막지 않도록 별도 스레드에서 만든다. (이미 만드는 중이면 무시)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        if (!building.compareAndSet(false, true)) return;
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("여행지 위치 색인 생성 실패", e);
+            } finally {
+                building.set(false);
+            }
+        }, "spot-geo-index");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * spot 테이블로 색인을 새로 만들어서 바꾼다.
+     * 만드는 동안에는 기존 색인으로 조회하고, 그동안 저장된 여행지는 새 색인에도 넣는다.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.currentTimeMillis();
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            try {
+                // 칸별로 모은 다음 한 번에 배열로 만든다.
+                Map<Long, List<Spot>> grouped = new HashMap<>();
+                for (Spot spot : spotRepository.findAll()) {
+                    if (spot.getId() == null || !GeoUtils.isValid(spot.getLat(), spot.getLng())) continue;
+                    grouped.computeIfAbsent(cellKey(latCell(spot.getLat()), lngCell(spot.getLng())), key -> new ArrayList<>()).add(spot);
+                }
+                Map<Long, Cell> newCells = new ConcurrentHashMap<>();
+                Map<Long, Long> newCellKeys = new ConcurrentHashMap<>();
+                grouped.forEach((key, spots) -> {
+                    double[] lats = new double[spots.size()];
+                    double[] lngs = new double[spots.size()];
+                    for (int i = 0; i < spots.size(); i++) {
+                        lats[i] = spots.get(i).getLat();
+                        lngs[i] = spots.get(i).getLng();
+                        newCellKeys.put(spots.get(i).getId(), key);
+                    }
+                    newCells.put(key, new Cell(lats, lngs, spots.toArray(new Spot[0])));
+                });
+
+                synchronized (this) {
+                    pending.forEach(spot -> add(newCells, newCellKeys, spot));
+                    cells = newCells;
+                    cellKeys = newCellKeys;
+                    ready = true;
+                }
+                log.info("여행지 위치 색인 생성 완료: 여행지 {}개, 칸 {}개 ({}ms)", newCellKeys.size(), newCells.size(), System.currentTimeMillis() - start);
+            } finally {
+                synchronized (this) {
+                    pending = null;
+                }
+            }
+        }
+    }
+
+    @EventListener
+    public void onSpotSaved(SpotSavedEvent event) {
+        add(event.getSpot());
+    }
+
+    public synchronized void add(Spot spot) {
+        add(cells, cellKeys, spot);
+        if (pending != null) pending.add(spot);
+    }
+
+    // 없는 여행지는 추가하고, 있는 여행지는 새 값으로 바꾼다. (좌표가 다른 칸으로 바뀌었으면 예전 칸에서 뺀다)
+    private void add(Map<Long, Cell> cells, Map<Long, Long> cellKeys, Spot spot) {
+        if (spot.getId() == null) return;
+        boolean valid = GeoUtils.isValid(spot.getLat(), spot.getLng());
+        Long key = valid ? cellKey(latCell(spot.getLat()), lngCell(spot.getLng())) : null;
+        Long oldKey = valid ? cellKeys.put(spot.getId(), key) : cellKeys.remove(spot.getId());
+        if (oldKey != null && !oldKey.equals(key)) {
+            Cell rest = cells.get(oldKey).remove(spot.getId());
+            if (rest == null) cells.remove(oldKey);
+            else cells.put(oldKey, rest);
+        }
+        if (!valid) return;
+
+        Cell cell = cells.get(key);
+        cells.put(key, cell == null
+                ? new Cell(new double[]{spot.getLat()}, new double[]{spot.getLng()}, new Spot[]{spot})
+                : cell.replace(spot));
+    }
+
+    /**
+     * 기준 좌표에서 가까운 여행지
+     *
+     * @param lat          기준 위도
+     * @param lng          기준 경도
+     * @param radiusMeters 최대 거리 (m), 설정된 최대 반경보다 크면 최대 반경을 쓴다.
+     * @param limit        최대 개수
+     * @return 가까운 순서로 정렬된 여행지와 거리
+     */
+    public List<NearbySpotDTO> findNearest(double lat, double lng, double radiusMeters, int limit) {
+        double radius = Math.min(radiusMeters, maxRadiusMeters);
+        if (limit <= 0 || radius < 0) return List.of();
+        if (!ready) {
+            rebuildInBackground();
+            return findNearestInDb(lat, lng, radius, limit);
+        }
+        Map<Long, Cell> cells = this.cells;
+
+        // 지금까지 찾은 가장 가까운 limit개 (가장 먼 것이 맨 앞)
+        PriorityQueue<NearbySpotDTO> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(NearbySpotDTO::getDistance).reversed());
+        int centerLat = latCell(lat);
+        int centerLng = lngCell(lng);
+        // 반경을 덮는 바퀴 수
+        double lngMetersPerDegree = GeoUtils.METERS_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(Math.min(89, Math.abs(lat) + radius / GeoUtils.METERS_PER_DEGREE))));
+        double cellMeters = cellDegrees * Math.min(GeoUtils.METERS_PER_DEGREE, lngMetersPerDegree);
+        int maxRing = (int) Math.ceil(radius / cellMeters) + 1;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // 이번 바퀴의 칸들은 기준 좌표에서 적어도 (ring - 1)칸 떨어져 있다.
+            double ringDistance = (ring - 1) * cellMeters;
+            if (ringDistance > radius) break;
+            if (nearest.size() == limit && ringDistance > nearest.peek().getDistance()) break;
+
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                boolean edgeRow = dLat == -ring || dLat == ring;
+                for (int dLng = -ring; dLng <= ring; dLng += edgeRow ? 1 : 2 * ring) {
+                    Cell cell = cells.get(cellKey(centerLat + dLat, centerLng + dLng));
+                    if (cell != null) collect(cell, lat, lng, radius, limit, nearest);
+                }
+            }
+        }
+
+        List<NearbySpotDTO> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(NearbySpotDTO::getDistance)
+                .thenComparing(nearbySpot -> nearbySpot.getSpot().getId()));
+        return result;
+    }
+
+    // 색인이 만들어지기 전: 반경을 덮는 위도/경도 범위의 여행지를 DB에서 읽어서 거리를 잰다.
+    private List<NearbySpotDTO> findNearestInDb(double lat, double lng, double radius, int limit) {
+        double dLat = radius / GeoUtils.METERS_PER_DEGREE;
+        double dLng = radius / (GeoUtils.METERS_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(Math.min(89, Math.abs(lat) + dLat)))));
+        List<NearbySpotDTO> result = new ArrayList<>();
+        for (Spot spot : spotRepository.findByLatBetweenAndLngBetween(lat - dLat, lat + dLat, lng - dLng, lng + dLng)) {
+            double distance = GeoUtils.haversine(lat, lng, spot.getLat(), spot.getLng());
+            if (distance <= radius) result.add(new NearbySpotDTO(spot, distance));
+        }
+        result.sort(Comparator.comparingDouble(NearbySpotDTO::getDistance)
+                .thenComparing(nearbySpot -> nearbySpot.getSpot().getId()));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    private static void collect(Cell cell, double lat, double lng, double radius, int limit, PriorityQueue<NearbySpotDTO> nearest) {
+        for (int i = 0; i < cell.spots().length; i++) {
+            double distance = GeoUtils.haversine(lat, lng, cell.lats()[i], cell.lngs()[i]);
+            if (distance > radius) continue;
+            if (nearest.size() < limit) {
+                nearest.add(new NearbySpotDTO(cell.spots()[i], distance));
+            } else if (distance < nearest.peek().getDistance()) {
+                nearest.poll();
+                nearest.add(new NearbySpotDTO(cell.spots()[i], distance));
+            }
+        }
+    }
+
+    private int latCell(double lat) {
+        return (int) Math.floor(lat / cellDegrees);
+    }
+
+    private int lngCell(double lng) {
+        return (int) Math.floor(lng / cellDegrees);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,98 @@
+package com.elice.tripnote.domain.spot.service;
+
+import com.elice.tripnote.domain.spot.naver.NaverSearchCache;
+import com.elice.tripnote.domain.spot.naver.dto.SearchImageReq;
+import com.elice.tripnote.domain.spot.naver.dto.SearchImageRes;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 여행지의 대표 이미지를 네이버 이미지 검색으로 동시에 찾는다.
+ * 전용 스레드 풀(크기 제한)에서 병렬로 호출하고, 전체 제한 시간이 지나면 끝나지 않은 검색은 null로 돌려준다.
+ * 스레드 풀과 대기열이 가득 차면 새 검색도 null로 처리한다.
+ */
+@Component
+@Slf4j
+public class SpotImageResolver {
+    private final NaverSearchCache naverSearchCache;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public SpotImageResolver(NaverSearchCache naverSearchCache,
+                             @Value("${tripnote.spot-image.threads:16}") int threads,
+                             @Value("${tripnote.spot-image.queue-size:200}") int queueSize,
+                             @Value("${tripnote.spot-image.timeout-ms:1500}") long timeoutMillis) {
+        this.naverSearchCache = naverSearchCache;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "spot-image-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 검색어별 이미지 url 조회
+     *
+     * @param queries 이미지 검색어 리스트
+     * @return queries 순서의 이미지 url 리스트 (검색 결과가 없거나 제한 시간을 넘기면 null)
+     */
+    public List<String> findImageUrls(List<String> queries) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        List<Future<String>> futures = new ArrayList<>(queries.size());
+        for (String query : queries) {
+            try {
+                futures.add(executor.submit(() -> findImageUrl(query)));
+            } catch (RejectedExecutionException e) {
+                log.warn("이미지 검색 대기열이 가득 차서 건너뜁니다: {}", query);
+                futures.add(CompletableFuture.completedFuture(null));
+            }
+        }
+
+        List<String> imageUrls = new ArrayList<>(queries.size());
+        for (int i = 0; i < futures.size(); i++) {
+            Future<String> future = futures.get(i);
+            try {
+                imageUrls.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("이미지 검색 제한 시간({}ms) 초과: {}", timeoutMillis, queries.get(i));
+                imageUrls.add(null);
+            } catch (ExecutionException e) {
+                log.error("이미지 검색 중 오류 발생: {}", queries.get(i), e.getCause());
+                imageUrls.add(null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                imageUrls.add(null);
+            }
+        }
+        return imageUrls;
+    }
+
+    private String findImageUrl(String query) {
+        SearchImageReq searchImageReq = new SearchImageReq();
+        searchImageReq.setQuery(query);
+        SearchImageRes searchImageRes = naverSearchCache.searchImage(searchImageReq);
+        if (searchImageRes == null || searchImageRes.getTotal() == 0 || searchImageRes.getItems().isEmpty()) return null;
+        return searchImageRes.getItems().get(0).getLink();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
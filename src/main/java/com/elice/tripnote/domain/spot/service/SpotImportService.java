@@ -0,0 +1,235 @@
+package com.elice.tripnote.domain.spot.service;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.dto.SpotImportResultDTO;
+import com.elice.tripnote.domain.spot.dto.SpotImportRowDTO;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.global.exception.CustomException;
+import com.elice.tripnote.global.exception.ErrorCode;
+import com.elice.tripnote.global.util.CsvReader;
+import com.elice.tripnote.global.util.GeoUtils;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 공공 관광 데이터 등의 CSV/JSON 파일로 spot 테이블을 채운다.
+ * 파일은 한 행씩 읽어서 batch-size개씩 JDBC 배치로 upsert 하므로, 파일 크기와 상관없이 한 배치만큼만 메모리에 둔다.
+ * (지역, 이름) 중복은 배치 안에서만 키 문자열로 걸러 내고 나중 행으로 덮어쓴다. (해시 충돌로 다른 여행지를 버리지 않도록 키를 직접 비교한다)
+ * 배치를 넘는 중복은 upsert(ON DUPLICATE KEY UPDATE)가 나중 행으로 덮어쓰므로 수정으로 집계되고,
+ * 키 맵도 배치마다 비우기 때문에 메모리는 파일 크기가 아니라 batch-size에 비례한다.
+ * CSV는 첫 행이 헤더이고 location, region, address, lat, lng, imageUrl 열을 이름으로 찾는다. (순서는 상관없음)
+ * JSON은 같은 이름의 필드를 가진 객체 배열이다.
+ * 끝나면 여행지 검색/위치 색인과 여행지 카탈로그를 다시 만든다.
+ */
+@Service
+@Slf4j
+public class SpotImportService {
+    private final SpotRepository spotRepository;
+    private final ObjectMapper objectMapper;
+    private final SpotSearchIndex spotSearchIndex;
+    private final SpotGeoIndex spotGeoIndex;
+    private final SpotCatalog spotCatalog;
+    private final int batchSize;
+    private final int logEvery;
+
+    public SpotImportService(SpotRepository spotRepository,
+                             ObjectMapper objectMapper,
+                             SpotSearchIndex spotSearchIndex,
+                             SpotGeoIndex spotGeoIndex,
+                             SpotCatalog spotCatalog,
+                             @Value("${tripnote.spot-import.batch-size:1000}") int batchSize,
+                             @Value("${tripnote.spot-import.log-every:50000}") int logEvery) {
+        this.spotRepository = spotRepository;
+        this.objectMapper = objectMapper;
+        this.spotSearchIndex = spotSearchIndex;
+        this.spotGeoIndex = spotGeoIndex;
+        this.spotCatalog = spotCatalog;
+        this.batchSize = batchSize;
+        this.logEvery = logEvery;
+    }
+
+    /**
+     * 여행지 가져오기
+     *
+     * @param input  파일 내용 (UTF-8)
+     * @param format csv 또는 json
+     * @return 처리한 행 수와 처리 속도
+     */
+    public SpotImportResultDTO importSpots(InputStream input, String format) {
+        Progress progress = new Progress();
+        try {
+            Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            if ("csv".equalsIgnoreCase(format)) importCsv(reader, progress);
+            else if ("json".equalsIgnoreCase(format)) importJson(reader, progress);
+            else throw new CustomException(ErrorCode.INVALID_IMPORT_FILE);
+        } catch (IOException e) {
+            log.error("여행지 가져오기 실패 ({}행까지 처리)", progress.read, e);
+            throw new CustomException(ErrorCode.INVALID_IMPORT_FILE);
+        } finally {
+            if (progress.inserted + progress.updated > 0) {
+                spotSearchIndex.rebuild();
+                spotGeoIndex.rebuild();
+                spotCatalog.rebuild();
+            }
+        }
+
+        SpotImportResultDTO result = progress.toResult();
+        log.info("여행지 가져오기 완료: {}행 읽음, {}개 추가, {}개 수정, 중복 {}행, 오류 {}행 ({}ms, {}행/초)",
+                result.getRead(), result.getInserted(), result.getUpdated(), result.getDuplicates(), result.getInvalid(),
+                result.getElapsedMillis(), (long) result.getRowsPerSecond());
+        return result;
+    }
+
+    private void importCsv(Reader reader, Progress progress) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRow();
+        if (header == null) return;
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // BOM이 붙은 UTF-8 파일
+            columns.put(header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("location")) throw new CustomException(ErrorCode.INVALID_IMPORT_FILE);
+
+        Batch batch = new Batch(progress);
+        List<String> row;
+        while ((row = csv.readRow()) != null) {
+            if (row.size() == 1 && row.get(0).isBlank()) continue;
+            batch.add(new SpotImportRowDTO(
+                    column(row, columns, "location"),
+                    column(row, columns, "region"),
+                    column(row, columns, "address"),
+                    parseDouble(column(row, columns, "lat")),
+                    parseDouble(column(row, columns, "lng")),
+                    column(row, columns, "imageurl")));
+        }
+        batch.flush();
+    }
+
+    private void importJson(Reader reader, Progress progress) throws IOException {
+        Batch batch = new Batch(progress);
+        try (MappingIterator<SpotImportRowDTO> rows = objectMapper.readerFor(SpotImportRowDTO.class).readValues(reader)) {
+            while (rows.hasNextValue()) batch.add(rows.nextValue());
+        }
+        batch.flush();
+    }
+
+    // batchSize개씩 모아서 upsert
+    private class Batch {
+        private final Progress progress;
+        private final List<Spot> spots = new ArrayList<>(batchSize);
+        // (지역, 이름) 키 -> 현재 배치에서의 위치 (flush 때 비운다)
+        private final Map<String, Integer> indexByKey = new HashMap<>();
+
+        Batch(Progress progress) {
+            this.progress = progress;
+        }
+
+        void add(SpotImportRowDTO row) {
+            progress.read++;
+            Spot spot = toSpot(row);
+            if (spot == null) {
+                progress.invalid++;
+            } else {
+                Integer index = indexByKey.putIfAbsent(key(spot.getRegion(), spot.getLocation()), spots.size());
+                if (index != null) {
+                    progress.duplicates++;
+                    spots.set(index, spot);
+                } else {
+                    spots.add(spot);
+                    if (spots.size() >= batchSize) flush();
+                }
+            }
+            if (progress.read % logEvery == 0) progress.report();
+        }
+
+        void flush() {
+            if (spots.isEmpty()) return;
+            int inserted = spotRepository.upsertSpots(spots);
+            progress.inserted += inserted;
+            progress.updated += spots.size() - inserted;
+            spots.clear();
+            indexByKey.clear();
+        }
+    }
+
+    // 행을 여행지로 바꾼다. 필수 값이 없거나 지역을 알 수 없으면 null
+    private static Spot toSpot(SpotImportRowDTO row) {
+        String location = trimToNull(row.getLocation());
+        String address = trimToNull(row.getAddress());
+        if (location == null || address == null || row.getLat() == null || row.getLng() == null) return null;
+        if (!GeoUtils.isValid(row.getLat(), row.getLng())) return null;
+
+        String regionName = trimToNull(row.getRegion());
+        if (regionName == null) regionName = address.split("\\s+")[0];
+        Region region;
+        try {
+            region = Region.fromString(regionName);
+        } catch (CustomException e) {
+            return null;
+        }
+        if (region == Region.ALL || region == Region.MIXED_REGION) return null;
+
+        return Spot.builder()
+                .location(location)
+                .region(region)
+                .address(address)
+                .lat(row.getLat())
+                .lng(row.getLng())
+                .imageUrl(trimToNull(row.getImageUrl()))
+                .build();
+    }
+
+    // (지역, 이름) 키, 지역 이름에는 ':'가 없으므로 이름에 ':'가 있어도 겹치지 않는다.
+    private static String key(Region region, String location) {
+        return region.name() + ':' + location;
+    }
+
+    private static String column(List<String> row, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index == null || index >= row.size() ? null : row.get(index);
+    }
+
+    private static Double parseDouble(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static class Progress {
+        final long start = System.currentTimeMillis();
+        long read;
+        long inserted;
+        long updated;
+        long duplicates;
+        long invalid;
+
+        void report() {
+            SpotImportResultDTO result = toResult();
+            log.info("여행지 가져오는 중: {}행 ({}행/초)", result.getRead(), (long) result.getRowsPerSecond());
+        }
+
+        SpotImportResultDTO toResult() {
+            long elapsed = System.currentTimeMillis() - start;
+            return new SpotImportResultDTO(read, inserted, updated, duplicates, invalid, elapsed,
+                    elapsed == 0 ? read : read * 1000.0 / elapsed);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.elice.tripnote.domain.spot.service;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.event.SpotSavedEvent;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 검색 결과로 만든 여행지들을 DB의 여행지로 바꾼다.
+ * 이미 있는 여행지는 한 번의 IN 쿼리로 찾고, 없는 여행지는 한 번의 배치로 저장한 뒤 다시 한 번에 읽는다.
+ * 후보 수와 상관없이 쿼리는 최대 세 번이다. (조회, 저장, 저장한 여행지 조회)
+ * (지역, 이름)은 MySQL 비교 규칙처럼 대소문자와 앞뒤 공백을 무시하고 맞춘다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SpotResolver {
+    private final SpotRepository spotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private record Key(Region region, String location) {
+        static Key of(Spot spot) {
+            return new Key(spot.getRegion(), spot.getLocation().strip().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * @param candidates 저장되지 않았을 수도 있는 여행지 (id 없음)
+     * @return candidates 순서의 저장된 여행지, (지역, 이름)이 겹치는 후보는 하나로 합친다.
+     */
+    public List<Spot> resolve(List<Spot> candidates) {
+        if (candidates.isEmpty()) return List.of();
+
+        Map<Key, Spot> resolved = find(candidates);
+        Map<Key, Spot> missing = new LinkedHashMap<>();
+        for (Spot candidate : candidates) {
+            Key key = Key.of(candidate);
+            if (!resolved.containsKey(key)) missing.putIfAbsent(key, candidate);
+        }
+
+        if (!missing.isEmpty()) {
+            List<Spot> newSpots = new ArrayList<>(missing.values());
+            spotRepository.upsertSpots(newSpots);
+            Map<Key, Spot> saved = find(newSpots);
+            saved.values().forEach(spot -> eventPublisher.publishEvent(new SpotSavedEvent(spot)));
+            resolved.putAll(saved);
+            log.debug("여행지 {}개 중 {}개를 새로 저장했습니다.", candidates.size(), saved.size());
+        }
+
+        Map<Long, Spot> result = new LinkedHashMap<>();
+        for (Spot candidate : candidates) {
+            Spot spot = resolved.get(Key.of(candidate));
+            if (spot != null) result.putIfAbsent(spot.getId(), spot);
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    private Map<Key, Spot> find(List<Spot> spots) {
+        Set<Region> regions = EnumSet.noneOf(Region.class);
+        Set<String> locations = new HashSet<>();
+        for (Spot spot : spots) {
+            regions.add(spot.getRegion());
+            locations.add(spot.getLocation());
+        }
+        Map<Key, Spot> found = new HashMap<>();
+        for (Spot spot : spotRepository.findByRegionsAndLocations(regions, locations)) {
+            found.putIfAbsent(Key.of(spot), spot);
+        }
+        return found;
+    }
+}
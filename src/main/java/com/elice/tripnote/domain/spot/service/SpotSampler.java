@@ -0,0 +1,189 @@
+package com.elice.tripnote.domain.spot.service;
+
+import com.elice.tripnote.domain.route.service.SpotRouteIndexService;
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지역별 여행지 무작위 추출
+ * 지역별 여행지 id 배열을 메모리에 두고, 균등 추출은 Floyd 알고리즘으로, 인기도 가중 추출은 alias 테이블로
+ * 뽑을 개수(k)에 비례하는 시간에 뽑는다. (ORDER BY RAND()나 findAll() 없이)
+ * 인기도는 여행지를 지나는 공개 통합 경로 수 + 1 이다.
+ * 테이블은 그 지역의 여행지가 카탈로그에 추가됐거나 유효 시간이 지났을 때 다음 조회에서 다시 만든다.
+ * (다른 지역에 여행지가 추가돼도 그 지역의 테이블만 다시 만든다.)
+ */
+@Service
+@Slf4j
+public class SpotSampler {
+    // 중복을 건너뛰며 가중 추출할 때 최대 시도 횟수 (k의 배수), 넘으면 나머지는 균등 추출로 채운다.
+    private static final int MAX_ATTEMPTS_PER_SPOT = 8;
+
+    private final SpotCatalog spotCatalog;
+    private final SpotRouteIndexService spotRouteIndexService;
+    private final long ttlMillis;
+    private final Map<Region, Table> tables = new ConcurrentHashMap<>();
+
+    public SpotSampler(SpotCatalog spotCatalog,
+                       SpotRouteIndexService spotRouteIndexService,
+                       @Value("${tripnote.spot-sampler.ttl-ms:600000}") long ttlMillis) {
+        this.spotCatalog = spotCatalog;
+        this.spotRouteIndexService = spotRouteIndexService;
+        this.ttlMillis = ttlMillis;
+    }
+
+    // 지역의 여행지 id와 인기도 가중치의 alias 테이블
+    private record Table(long version, long builtAt, long[] ids, double[] prob, int[] alias) {
+        int size() {
+            return ids.length;
+        }
+    }
+
+    // 지역에서 여행지 k개를 균등하게 뽑는다.
+    public List<Spot> sample(Region region, int k) {
+        Table table = getTable(region);
+        int[] picked = floyd(table.size(), Math.min(k, table.size()));
+        return toSpots(table, picked, picked.length);
+    }
+
+    // 지역에서 여행지 k개를 인기도에 비례하게 (중복 없이) 뽑는다.
+    public List<Spot> samplePopular(Region region, int k) {
+        Table table = getTable(region);
+        int n = table.size();
+        k = Math.min(k, n);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        Set<Integer> seen = new HashSet<>();
+        int[] picked = new int[k];
+        int count = 0;
+        for (int attempt = 0; count < k && attempt < k * MAX_ATTEMPTS_PER_SPOT; attempt++) {
+            int i = random.nextInt(n);
+            int index = random.nextDouble() < table.prob()[i] ? i : table.alias()[i];
+            if (seen.add(index)) picked[count++] = index;
+        }
+        if (count < k) {
+            // 인기도가 몇 곳에 몰려 있어서 못 채운 자리는 균등 추출로 채운다.
+            for (int index : fill(n, k - count, seen)) picked[count++] = index;
+        }
+        return toSpots(table, picked, count);
+    }
+
+    // Floyd 알고리즘으로 [0, n)에서 k개를 중복 없이 뽑는다.
+    private static int[] floyd(int n, int k) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> seen = new HashSet<>();
+        int[] picked = new int[k];
+        int count = 0;
+        for (int j = n - k; j < n; j++) {
+            int t = random.nextInt(j + 1);
+            int value = seen.add(t) ? t : j;
+            if (value == j) seen.add(j);
+            picked[count++] = value;
+        }
+        shuffle(picked, count);
+        return picked;
+    }
+
+    // [0, n)에서 seen에 없는 수를 need개 뽑는다.
+    private static int[] fill(int n, int need, Set<Integer> seen) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] picked = new int[need];
+        int count = 0;
+        if (n <= 2 * (seen.size() + need)) {
+            // 남은 수가 적으면 남은 수를 모아서 섞는다. (n이 k의 두 배 이하라 O(k))
+            int[] rest = new int[n - seen.size()];
+            int size = 0;
+            for (int i = 0; i < n; i++) {
+                if (!seen.contains(i)) rest[size++] = i;
+            }
+            shuffle(rest, size);
+            for (; count < need; count++) {
+                picked[count] = rest[count];
+                seen.add(rest[count]);
+            }
+        } else {
+            // 절반 이상이 남아 있으므로 평균 두 번 안에 새 수가 나온다.
+            while (count < need) {
+                int t = random.nextInt(n);
+                if (seen.add(t)) picked[count++] = t;
+            }
+        }
+        return picked;
+    }
+
+    // Floyd 알고리즘의 결과 순서는 고르지 않으므로 섞는다.
+    private static void shuffle(int[] values, int size) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    private List<Spot> toSpots(Table table, int[] picked, int count) {
+        List<Spot> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Spot spot = spotCatalog.get(table.ids()[picked[i]]);
+            if (spot != null) result.add(spot);
+        }
+        return result;
+    }
+
+    private Table getTable(Region region) {
+        Region key = region == null ? Region.ALL : region;
+        long version = spotCatalog.version(key);
+        long now = System.currentTimeMillis();
+        Table table = tables.get(key);
+        if (table != null && table.version() == version && now - table.builtAt() < ttlMillis) return table;
+        return tables.compute(key, (r, current) ->
+                current != null && current.version() == version && now - current.builtAt() < ttlMillis
+                        ? current : build(r, version, now));
+    }
+
+    // Vose의 alias 테이블 만들기
+    private Table build(Region region, long version, long now) {
+        long[] ids = spotCatalog.getIds(region);
+        int n = ids.length;
+        double[] weights = new double[n];
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            weights[i] = spotRouteIndexService.countRoutes(ids[i]) + 1;
+            total += weights[i];
+        }
+
+        double[] prob = new double[n];
+        int[] alias = new int[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            weights[i] = weights[i] * n / total;
+            if (weights[i] < 1) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            prob[less] = weights[less];
+            alias[less] = more;
+            weights[more] = weights[more] + weights[less] - 1;
+            if (weights[more] < 1) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+        // 남은 칸은 부동소수점 오차를 빼면 확률 1
+        while (largeCount > 0) prob[large[--largeCount]] = 1;
+        while (smallCount > 0) prob[small[--smallCount]] = 1;
+
+        log.debug("여행지 추출 테이블 생성: {} 여행지 {}개", region, n);
+        return new Table(version, now, ids, prob, alias);
+    }
+}
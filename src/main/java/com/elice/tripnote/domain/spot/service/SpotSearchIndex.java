@@ -0,0 +1,272 @@
+package com.elice.tripnote.domain.spot.service;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.event.SpotSavedEvent;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.global.util.LongArrayBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여행지 이름(location)과 주소(address)의 글자 bigram 역색인, 지역별로 나눠서 메모리에 둔다.
+ * LIKE '%검색어%'는 인덱스를 탈 수 없어서 spot 테이블 전체를 읽기 때문에, 검색어의 bigram 목록의 교집합으로 후보를 찾는다.
+ * 검색어와 색인 문자열은 소문자로 바꾸고 공백을 모두 지운 뒤 비교한다. (한 글자 검색어는 unigram으로 찾는다)
+ * 결과는 이름이 같은 것 > 이름이 검색어로 시작하는 것 > 이름에 포함된 것 > 주소에 포함된 것 순서이다.
+ * 목록은 바뀔 때마다 새 배열로 교체하므로 조회는 잠금 없이 한다.
+ * 다시 만들 때는 잠금 밖에서 gram별 id를 모두 모아 한 번씩만 정렬해 새 색인을 만들고 한 번에 바꾼다.
+ * 그동안 저장된 여행지는 새 색인에도 넣는다. 이미 있는 여행지가 다시 저장되면 바뀐 이름/주소/지역으로 다시 색인한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SpotSearchIndex {
+    private static final long[] EMPTY = new long[0];
+
+    private final SpotRepository spotRepository;
+
+    private volatile Map<Region, Partition> partitions = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    // 색인을 다시 만드는 동안 저장된 여행지 (다시 만들고 있지 않으면 null)
+    private List<Spot> pending;
+    private final Object rebuildLock = new Object();
+
+    // 색인에 들어가는 여행지 (정규화한 이름/주소를 같이 둔다)
+    private record Entry(Spot spot, String location, String address) {
+    }
+
+    private static class Partition {
+        final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        // gram -> 정렬된 여행지 id 배열
+        final Map<String, long[]> locationGrams = new ConcurrentHashMap<>();
+        final Map<String, long[]> addressGrams = new ConcurrentHashMap<>();
+
+        Partition() {
+        }
+
+        // 여행지 전체로 한 번에 만든다. (목록마다 한 번만 정렬)
+        Partition(List<Spot> spots) {
+            Map<String, LongArrayBuilder> locationBuilders = new HashMap<>();
+            Map<String, LongArrayBuilder> addressBuilders = new HashMap<>();
+            for (Spot spot : spots) {
+                Entry entry = new Entry(spot, normalize(spot.getLocation()), normalize(spot.getAddress()));
+                if (entries.putIfAbsent(spot.getId(), entry) != null) continue;
+                for (String gram : grams(entry.location())) locationBuilders.computeIfAbsent(gram, g -> new LongArrayBuilder()).add(spot.getId());
+                for (String gram : grams(entry.address())) addressBuilders.computeIfAbsent(gram, g -> new LongArrayBuilder()).add(spot.getId());
+            }
+            locationBuilders.forEach((gram, builder) -> locationGrams.put(gram, builder.toSortedArray()));
+            addressBuilders.forEach((gram, builder) -> addressGrams.put(gram, builder.toSortedArray()));
+        }
+
+        // 여행지 하나 추가/수정 (목록을 복사해서 끼워 넣는다)
+        // 이미 있는 여행지는 저장된 Spot을 바꾸고, 이름이나 주소가 바뀌었으면 예전 gram에서 빼고 다시 넣는다.
+        synchronized void add(Spot spot) {
+            Entry entry = new Entry(spot, normalize(spot.getLocation()), normalize(spot.getAddress()));
+            Entry old = entries.put(spot.getId(), entry);
+            if (old != null) {
+                if (old.location().equals(entry.location()) && old.address().equals(entry.address())) return;
+                removeGrams(old);
+            }
+            for (String gram : grams(entry.location())) locationGrams.merge(gram, new long[]{spot.getId()}, SpotSearchIndex::insert);
+            for (String gram : grams(entry.address())) addressGrams.merge(gram, new long[]{spot.getId()}, SpotSearchIndex::insert);
+        }
+
+        // 다른 지역으로 옮겨진 여행지 제거
+        synchronized void remove(Long spotId) {
+            Entry old = entries.remove(spotId);
+            if (old != null) removeGrams(old);
+        }
+
+        private void removeGrams(Entry entry) {
+            long id = entry.spot().getId();
+            for (String gram : grams(entry.location())) locationGrams.computeIfPresent(gram, (g, list) -> delete(list, id));
+            for (String gram : grams(entry.address())) addressGrams.computeIfPresent(gram, (g, list) -> delete(list, id));
+        }
+
+        void collect(String query, Map<Long, Entry> result) {
+            Set<String> grams = query.length() == 1 ? Set.of(query) : bigrams(query);
+            for (long id : candidates(locationGrams, grams)) {
+                Entry entry = entries.get(id);
+                if (entry != null && entry.location().contains(query)) result.put(id, entry);
+            }
+            for (long id : candidates(addressGrams, grams)) {
+                Entry entry = entries.get(id);
+                if (entry != null && entry.address().contains(query)) result.putIfAbsent(id, entry);
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.currentTimeMillis();
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            try {
+                Map<Region, List<Spot>> spotsByRegion = new EnumMap<>(Region.class);
+                for (Spot spot : spotRepository.findAll()) {
+                    if (spot.getId() == null || spot.getRegion() == null) continue;
+                    spotsByRegion.computeIfAbsent(spot.getRegion(), region -> new ArrayList<>()).add(spot);
+                }
+                Map<Region, Partition> newPartitions = new ConcurrentHashMap<>();
+                spotsByRegion.forEach((region, spots) -> newPartitions.put(region, new Partition(spots)));
+
+                synchronized (this) {
+                    pending.forEach(spot -> add(newPartitions, spot));
+                    partitions = newPartitions;
+                    ready = true;
+                }
+                log.info("여행지 검색 색인 생성 완료 ({}ms)", System.currentTimeMillis() - start);
+            } finally {
+                synchronized (this) {
+                    pending = null;
+                }
+            }
+        }
+    }
+
+    @EventListener
+    public void onSpotSaved(SpotSavedEvent event) {
+        add(event.getSpot());
+    }
+
+    public synchronized void add(Spot spot) {
+        add(partitions, spot);
+        if (pending != null) pending.add(spot);
+    }
+
+    private static void add(Map<Region, Partition> partitions, Spot spot) {
+        if (spot.getId() == null || spot.getRegion() == null) return;
+        partitions.computeIfAbsent(spot.getRegion(), region -> new Partition()).add(spot);
+        partitions.forEach((region, partition) -> {
+            if (region != spot.getRegion()) partition.remove(spot.getId());
+        });
+    }
+
+    /**
+     * 여행지 검색
+     *
+     * @param region 지역, ALL이면 전체 지역
+     * @param query  검색어 (이름 또는 주소의 일부)
+     * @param limit  최대 개수
+     * @return 순위대로 정렬된 여행지 리스트
+     */
+    public List<Spot> search(Region region, String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) return List.of();
+
+        Map<Long, Entry> matches = new HashMap<>();
+        for (Partition partition : partitionsOf(region)) partition.collect(normalized, matches);
+
+        return matches.values().stream()
+                .sorted(Comparator.<Entry>comparingInt(entry -> rank(entry, normalized)).reversed()
+                        .thenComparingInt(entry -> entry.location().length())
+                        .thenComparing(entry -> entry.spot().getId()))
+                .limit(limit)
+                .map(Entry::spot)
+                .toList();
+    }
+
+    // 이름이 검색어와 같은 여행지, 없으면 null
+    public Spot findExact(Region region, String query) {
+        String normalized = normalize(query);
+        List<Spot> top = search(region, query, 1);
+        if (top.isEmpty() || !normalize(top.get(0).getLocation()).equals(normalized)) return null;
+        return top.get(0);
+    }
+
+    private List<Partition> partitionsOf(Region region) {
+        Map<Region, Partition> current = partitions;
+        if (region == Region.ALL) return new ArrayList<>(current.values());
+        Partition partition = current.get(region);
+        return partition == null ? List.of() : List.of(partition);
+    }
+
+    private static int rank(Entry entry, String query) {
+        if (entry.location().equals(query)) return 3;
+        if (entry.location().startsWith(query)) return 2;
+        if (entry.location().contains(query)) return 1;
+        return 0;
+    }
+
+    // 모든 gram의 목록에 들어 있는 id (짧은 목록부터 교집합)
+    private static long[] candidates(Map<String, long[]> index, Set<String> grams) {
+        long[][] lists = new long[grams.size()][];
+        int i = 0;
+        for (String gram : grams) {
+            long[] posting = index.get(gram);
+            if (posting == null) return EMPTY;
+            lists[i++] = posting;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+        long[] result = lists[0];
+        for (int j = 1; j < lists.length && result.length > 0; j++) result = intersect(result, lists[j]);
+        return result;
+    }
+
+    static String normalize(String text) {
+        if (text == null) return "";
+        return text.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    // 색인용: 한 글자 검색어를 위해 unigram도 넣는다.
+    private static Set<String> grams(String text) {
+        Set<String> grams = bigrams(text);
+        for (int i = 0; i < text.length(); i++) grams.add(text.substring(i, i + 1));
+        return grams;
+    }
+
+    private static Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) grams.add(text.substring(i, i + 2));
+        return grams;
+    }
+
+    private static long[] insert(long[] list, long[] value) {
+        int index = Arrays.binarySearch(list, value[0]);
+        if (index >= 0) return list;
+        index = -index - 1;
+        long[] result = new long[list.length + 1];
+        System.arraycopy(list, 0, result, 0, index);
+        result[index] = value[0];
+        System.arraycopy(list, index, result, index + 1, list.length - index);
+        return result;
+    }
+
+    // 빈 목록이 되면 null을 돌려줘서 gram을 지운다.
+    private static long[] delete(long[] list, long value) {
+        int index = Arrays.binarySearch(list, value);
+        if (index < 0) return list;
+        if (list.length == 1) return null;
+        long[] result = new long[list.length - 1];
+        System.arraycopy(list, 0, result, 0, index);
+        System.arraycopy(list, index + 1, result, index, list.length - index - 1);
+        return result;
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+}
@@ -1,26 +1,28 @@
 package com.elice.tripnote.domain.spot.service;
 
-import com.elice.tripnote.domain.link.routespot.entity.RouteSpot;
-import com.elice.tripnote.domain.link.routespot.repository.RouteSpotRepository;
 import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.dto.AddressDTO;
+import com.elice.tripnote.domain.spot.dto.NearbySpotDTO;
 import com.elice.tripnote.domain.spot.dto.SpotDTO;
 import com.elice.tripnote.domain.spot.dto.SpotDetailDTO;
 import com.elice.tripnote.domain.spot.entity.Spot;
-import com.elice.tripnote.domain.spot.naver.NaverClient;
+import com.elice.tripnote.domain.spot.naver.NaverSearchCache;
+import com.elice.tripnote.domain.spot.naver.ReverseGeocodeCache;
 import com.elice.tripnote.domain.spot.naver.dto.SearchImageReq;
 import com.elice.tripnote.domain.spot.naver.dto.SearchLocalReq;
 import com.elice.tripnote.domain.spot.repository.SpotRepository;
 import com.elice.tripnote.global.exception.CustomException;
 import com.elice.tripnote.global.exception.ErrorCode;
+import com.elice.tripnote.global.util.GeoUtils;
+import com.elice.tripnote.global.util.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,8 +30,16 @@ import java.util.stream.Collectors;
 public class SpotService {
 
     private final SpotRepository spotRepository;
-    private final NaverClient naverClient;
-    private final RouteSpotRepository routespotRepository;
+    private final NaverSearchCache naverSearchCache;
+    private final ReverseGeocodeCache reverseGeocodeCache;
+    private final SpotImageResolver spotImageResolver;
+    private final SingleFlight<String, List<Spot>> spotSearches = new SingleFlight<>();
+    private final SpotTransitionService spotTransitionService;
+    private final SpotSearchIndex spotSearchIndex;
+    private final SpotGeoIndex spotGeoIndex;
+    private final SpotResolver spotResolver;
+    private final SpotCatalog spotCatalog;
+    private final SpotSampler spotSampler;
 //    public Spot getByRegionAndLocation(Region region, String location) {
 ////        Spot spot = spotRepository.findByRegionAndLocation(Region.fromString(region), location); // 변경
 //        Spot spot = spotRepository.findByRegionAndLocation(region, location);
@@ -44,155 +54,136 @@ public class SpotService {
 //        }
 //        return spot;
 //    }
+    // 같은 (지역, 검색어)로 동시에 들어온 검색은 한 번만 실행하고 결과를 나눠 받는다.
     public List<Spot> getSpotsByRegionAndLocation(Region region, String location){
-        if(region==Region.ALL)
-            return getByALLRegionAndLocation(location);
-        return getByRegionAndLocation(region, location);
+        String key = region + ":" + normalize(location);
+        return new ArrayList<>(spotSearches.execute(key, () -> searchSpots(region, location)));
     }
-    private List<Spot> getByRegionAndLocation(Region region, String location) {
-        Spot spot = spotRepository.findSpotByRegionAndLocation(region,location);
-        List<Spot> spots = spotRepository.findByRegionAndLocation(region,location);
-        List<Spot> spotList = new ArrayList<>();
-        if(spot !=null){
-            spotList.add(spot);
-        }
-        if(!spotList.isEmpty()){
-            for(Spot s : spots){
-                if(spotList.contains(s))
-                    continue;
-                if (region.equals(s.getRegion())) {
-                    spotList.add(s);
-                }
-            }
-        }
 
-        if(spotList.size() >10){
-            return spotList;
-        }
-        List<SpotDTO> spotDTOs = searchByLocations(location);
-        for (SpotDTO spotDTO : spotDTOs) {
-            if(spotList.size() >10)
-                break;
-            if (spotDTO.getImageUrl() == null) {
-                log.error("에러 발생: {}", ErrorCode.NO_LANDMARK);
-                throw new CustomException(ErrorCode.NO_LANDMARK);
-            }
-            if (!region.equals(spotDTO.getRegion())) {
-                continue; // Skip this Spot and move to the next one
-            }
-            Spot newSpot = dtoToEntity(spotDTO);
-            Spot existingSpot = spotRepository.findByLocation(newSpot.getLocation()).orElse(null);
-            if (existingSpot == null) {
-                Spot temp = spotRepository.save(newSpot);
-                spotList.add(temp);
-            } else {
-                if(spotList.contains(existingSpot))
-                    continue;
-                spotList.add(existingSpot);
-            }
-        }
-        if (spotList.isEmpty()) {
-            log.error("에러 발생: {}", ErrorCode.NO_LANDMARK);
-            throw new CustomException(ErrorCode.NO_LANDMARK);
-        }
-        List<Spot> result = new ArrayList<>();
-        for(Spot s : spotList){
-            if(s.getRegion().equals(region))
-                result.add(s);
+    private static String normalize(String location) {
+        return location.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // 네이버 검색을 쓸 수 없을 때는 DB에서 찾은 여행지만으로 응답한다.
+    private List<Spot> localFallback(List<Spot> spotList, List<Spot> likeMatches, CustomException e) {
+        List<Spot> result = new ArrayList<>(spotList);
+        for (Spot s : likeMatches) {
+            if (result.size() >= 10) break;
+            if (!result.contains(s)) result.add(s);
         }
+        if (result.isEmpty()) throw e;
+        log.warn("네이버 검색을 사용할 수 없어 DB 검색 결과 {}개로 응답합니다.", result.size());
         return result;
     }
 
-    private List<Spot> getByALLRegionAndLocation(String location) {
-        Spot spot = spotRepository.findSpotAllRegionAndLocation(location);
-        List<Spot> spots = spotRepository.findSpotAllRegionAndLocations(location);
-        List<Spot> spotList = new ArrayList<>();
-        if(spot !=null){
-            spotList.add(spot);
+    /**
+     * 여행지 검색 (region이 ALL이면 전체 지역)
+     * 1. 이름이 같은 여행지가 있으면 그 여행지와 이름에 검색어가 들어간 여행지
+     * 2. 11개가 안 되면 네이버 검색 결과를 SpotResolver로 한 번에 찾거나 저장해서 덧붙인다.
+     */
+    private List<Spot> searchSpots(Region region, String location) {
+        boolean allRegions = region == Region.ALL;
+        // 검색 색인이 준비됐으면 LIKE 쿼리 대신 색인에서 찾는다.
+        boolean indexed = spotSearchIndex.isReady();
+        Spot spot;
+        List<Spot> spots;
+        if (indexed) {
+            spot = spotSearchIndex.findExact(region, location);
+            spots = spotSearchIndex.search(region, location, 11);
+        } else if (allRegions) {
+            spot = spotRepository.findSpotAllRegionAndLocation(location);
+            spots = spotRepository.findSpotAllRegionAndLocations(location);
+        } else {
+            spot = spotRepository.findSpotByRegionAndLocation(region, location);
+            spots = spotRepository.findByRegionAndLocation(region, location);
         }
-        if(!spotList.isEmpty()){
-            for(Spot s : spots){
-                if(spotList.contains(s))
-                    continue;
-                spotList.add(s);
+
+        // 여행지 id -> 여행지 (넣은 순서대로)
+        Map<Long, Spot> spotMap = new LinkedHashMap<>();
+        if (spot != null) {
+            spotMap.put(spot.getId(), spot);
+            for (Spot s : spots) {
+                if (allRegions || region.equals(s.getRegion())) spotMap.putIfAbsent(s.getId(), s);
             }
         }
 
-        if(spotList.size() >10){
-            return spotList;
+        if (spotMap.size() > 10) {
+            return new ArrayList<>(spotMap.values());
         }
-        List<SpotDTO> spotDTOs = searchByLocations(location);
+        List<SpotDTO> spotDTOs;
+        try {
+            spotDTOs = searchByLocations(location);
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.NAVER_API_UNAVAILABLE) throw e;
+            return localFallback(new ArrayList<>(spotMap.values()), spots, e);
+        }
+
+        List<Spot> candidates = new ArrayList<>();
         for (SpotDTO spotDTO : spotDTOs) {
-            if(spotList.size() >10)
-                break;
             if (spotDTO.getImageUrl() == null) {
-                log.error("에러 발생: {}", ErrorCode.NO_LANDMARK);
-                throw new CustomException(ErrorCode.NO_LANDMARK);
-            }
-            Spot newSpot = dtoToEntity(spotDTO);
-            Spot existingSpot = spotRepository.findByLocation(newSpot.getLocation()).orElse(null);
-            if (existingSpot == null) {
-                Spot temp = spotRepository.save(newSpot);
-                spotList.add(temp);
-            } else {
-                if(spotList.contains(existingSpot))
-                    continue;
-                spotList.add(existingSpot);
+                // 이미지가 없거나 이미지 검색이 제한 시간을 넘긴 여행지는 건너뛴다.
+                log.warn("이미지를 찾지 못한 여행지: {}", spotDTO.getLocation());
+                continue;
             }
+            if (!allRegions && !region.equals(spotDTO.getRegion())) continue;
+            candidates.add(dtoToEntity(spotDTO));
         }
-        if (spotList.isEmpty()) {
+        // 이미 있는 여행지는 한 번의 IN 쿼리로 찾고, 없는 여행지는 한 번의 배치로 저장한다.
+        for (Spot savedSpot : spotResolver.resolve(candidates)) {
+            if (spotMap.size() > 10) break;
+            spotMap.putIfAbsent(savedSpot.getId(), savedSpot);
+        }
+
+        if (spotMap.isEmpty()) {
             log.error("에러 발생: {}", ErrorCode.NO_LANDMARK);
             throw new CustomException(ErrorCode.NO_LANDMARK);
         }
-
-        return spotList;
+        return new ArrayList<>(spotMap.values());
     }
 
 
-    public List<Spot> getByRegion(Region region) {
-        if (region == Region.ALL) {
-            List<Spot> allSpots = spotRepository.findAll();
-            return allSpots.stream()
-                    .limit(10)  // 상위 10개만 가져옴
-                    .collect(Collectors.toList());
-            //return spotRepository.findTop5ByOrderByLocationAsc();
-        }
-        //Region validRegion = Region.fromString(region);
-        List<Spot> list = getSpotsByRegion(region, 0, 10);
-        if (list.isEmpty()){
-            log.error("에러 발생: {}", ErrorCode.NO_REGION);
-            throw new CustomException(ErrorCode.NO_REGION);
-        }
-        return list;
+    // 검색어 자동완성 (이름/주소에 검색어가 들어간 저장된 여행지)
+    public List<Spot> suggest(Region region, String query, int limit) {
+        int size = Math.max(1, Math.min(limit, 50));
+        if (spotSearchIndex.isReady()) return spotSearchIndex.search(region, query, size);
+        List<Spot> spots = region == Region.ALL
+                ? spotRepository.findSpotAllRegionAndLocations(query)
+                : spotRepository.findByRegionAndLocation(region, query);
+        return spots.stream().limit(size).collect(Collectors.toList());
     }
 
+    // 좌표 주변 여행지 (가까운 순)
+    public List<NearbySpotDTO> getNearbySpots(double lat, double lng, double radiusMeters, int limit) {
+        if (!GeoUtils.isValid(lat, lng) || radiusMeters <= 0) {
+            throw new CustomException(ErrorCode.INVALID_COORDINATE);
+        }
+        return spotGeoIndex.findNearest(lat, lng, radiusMeters, Math.max(1, Math.min(limit, 50)));
+    }
 
-    private List<Spot> getSpotsByRegion(Region region, int page, int size) { // 변경
-        Pageable pageable = PageRequest.of(page, size);
-
-        if (region == null || region.getName().isEmpty()) { // 변경
-            return spotRepository.findAll(pageable).getContent();
-        } else {
-            return spotRepository.findByRegion(region, pageable).getContent(); // 변경
+    // 좌표의 지역과 주소 (격자 칸 단위로 캐시)
+    public AddressDTO getAddress(double lat, double lng) {
+        if (!GeoUtils.isValid(lat, lng)) {
+            throw new CustomException(ErrorCode.INVALID_COORDINATE);
         }
+        return reverseGeocodeCache.getAddress(lat, lng);
     }
 
-    private SpotDTO convertToDto(Spot spot) {
-        SpotDTO spotDTO = new SpotDTO();
-        spotDTO.setLocation(spot.getLocation());
-        spotDTO.setImageUrl(spot.getImageUrl());
-        spotDTO.setRegion(spot.getRegion());
-        spotDTO.setAddress(spot.getAddress());
-        spotDTO.setLat(spot.getLat());
-        spotDTO.setLng(spot.getLng());
-        return spotDTO;
+    // 지역(ALL이면 전체)의 여행지 10곳을 인기도에 비례하게 무작위로 뽑는다. (테이블 크기와 상관없이 메모리에서 추출)
+    public List<Spot> getByRegion(Region region) {
+        List<Spot> list = spotSampler.samplePopular(region, 10);
+        if (list.isEmpty() && region != Region.ALL){
+            log.error("에러 발생: {}", ErrorCode.NO_REGION);
+            throw new CustomException(ErrorCode.NO_REGION);
+        }
+        return list;
     }
 
-    @Transactional
+    // 여행지 카탈로그에서 찾고, 카탈로그에 없는 id만 한 번의 쿼리로 조회한다.
     public List<Spot> getSpotsByIds(List<Long> spotIDs) {
+        Map<Long, Spot> spots = spotCatalog.getSpots(spotIDs);
         List<Spot> list = new ArrayList<>();
         for(Long id : spotIDs){
-            Spot spot = spotRepository.findById(id).orElse(null);
+            Spot spot = spots.get(id);
             if(spot == null){
                 log.error("에러 발생: {}", ErrorCode.NO_LANDMARK);
                 throw new CustomException(ErrorCode.NO_LANDMARK);
@@ -201,9 +192,8 @@ public class SpotService {
         }
         return list;
     }
-    @Transactional
     public SpotDetailDTO getSpotDetails(Long id) {
-        Spot spot = spotRepository.findById(id).orElse(null);
+        Spot spot = findSpot(id);
         if(spot == null){
             throw new CustomException(ErrorCode.NO_LANDMARK);
         }
@@ -211,49 +201,21 @@ public class SpotService {
 
         return new SpotDetailDTO(spot, nextSpots);
     }
-    @Transactional
     public SpotDTO searchById(Long id) {
-        Spot spot = spotRepository.findById(id).orElseThrow(() -> new CustomException(ErrorCode.NO_LANDMARK));
+        Spot spot = findSpot(id);
+        if (spot == null) throw new CustomException(ErrorCode.NO_LANDMARK);
         SpotDTO spotDTO = EntityToDto(spot);
         return spotDTO;
     }
 
-    @Transactional
-    public Map<SpotDTO, Double> calculateNextSpot(Long id){
-        Map<SpotDTO, Double> map = new HashMap<>();
-        List<RouteSpot> routeSpots = routespotRepository.findBySpotId(id);
-        double total = routeSpots.size()*1.0;
-
-        for(RouteSpot rs : routeSpots){
-            Spot nextSpot = spotRepository.findById(rs.getNextSpotId()).orElse(null);
-            if(nextSpot==null){
-                continue;
-            }
-            SpotDTO nextSpotDTO = convertToDto(nextSpot);
-
-            //다음 여행지가 있을 경우 1증가 없을 경우 0
-            double count = map.getOrDefault(nextSpotDTO, 0.0) + 1.0;
-            map.put(nextSpotDTO, count);
-        }
-        if(map.size()<3){
-            return null;
-        }
-        for(SpotDTO  key : map.keySet()){
-            map.put(key, map.get(key) / total);
-        }
+    private Spot findSpot(Long id) {
+        if (id == null) return null;
+        return spotCatalog.getSpots(List.of(id)).get(id);
+    }
 
-        //확률에 따라 상위 3개의 다음 여행지를 반환
-        Map<SpotDTO , Double> top3Map = map.entrySet()
-                .stream()
-                .sorted(Map.Entry.<SpotDTO, Double>comparingByValue().reversed())
-                .limit(3)
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (e1, e2) -> e1,
-                        LinkedHashMap::new
-                ));
-        return top3Map;
+    // 여행지 다음에 많이 간 여행지 3곳 (spot_transition 집계에서 조회)
+    public Map<SpotDTO, Double> calculateNextSpot(Long id){
+        return spotTransitionService.getNextSpots(id);
     }
 
     @Transactional
@@ -261,7 +223,7 @@ public class SpotService {
         var searchLocalReq = new SearchLocalReq();
         //searchLocalReq.setQuery(query);
         searchLocalReq.setNewQuery(query);
-        var searchLocalRes = naverClient.searchLocal(searchLocalReq);
+        var searchLocalRes = naverSearchCache.searchLocal(searchLocalReq);
 
         if (searchLocalRes.getTotal() > 0) {
             var localItemOptional = searchLocalRes.getItems().stream()
@@ -275,7 +237,7 @@ public class SpotService {
             var imageQuery = localItem.getTitle().replaceAll("<[^>]*>", "");
             var searchImageReq = new SearchImageReq();
             searchImageReq.setQuery(imageQuery);
-            var searchImageRes = naverClient.searchImage(searchImageReq);
+            var searchImageRes = naverSearchCache.searchImage(searchImageReq);
             if (searchImageRes.getTotal() > 0) {
                 var imageItem = searchImageRes.getItems().stream().findFirst().get();
 
@@ -324,7 +286,7 @@ public class SpotService {
         var searchLocalReq = new SearchLocalReq();
         searchLocalReq.setQuery(query);
         //searchLocalReq.setNewQuery(query);
-        var searchLocalRes = naverClient.searchLocal(searchLocalReq);
+        var searchLocalRes = naverSearchCache.searchLocal(searchLocalReq);
 
         if (searchLocalRes.getTotal() > 0) {
             var filteredItems = searchLocalRes.getItems().stream()
@@ -336,18 +298,15 @@ public class SpotService {
                 throw new CustomException(ErrorCode.NO_LANDMARK);
             }
 
-            return filteredItems.stream()
-                    .map(localItem -> {
-                        var imageQuery = localItem.getTitle().replaceAll("<[^>]*>", "");
-                        var searchImageReq = new SearchImageReq();
-                        searchImageReq.setQuery(imageQuery);
-                        var searchImageRes = naverClient.searchImage(searchImageReq);
-
-                        String imageUrl = null;
-                        if (searchImageRes.getTotal() > 0) {
-                            var imageItem = searchImageRes.getItems().stream().findFirst().get();
-                            imageUrl = imageItem.getLink();
-                        }
+            // 이미지 검색은 동시에 실행하고, 제한 시간 안에 끝나지 않으면 imageUrl이 null
+            List<String> imageUrls = spotImageResolver.findImageUrls(filteredItems.stream()
+                    .map(localItem -> localItem.getTitle().replaceAll("<[^>]*>", ""))
+                    .collect(Collectors.toList()));
+
+            return IntStream.range(0, filteredItems.size())
+                    .mapToObj(i -> {
+                        var localItem = filteredItems.get(i);
+                        String imageUrl = imageUrls.get(i);
                         var location = localItem.getTitle().replaceAll("<b>", "");
                         location = location.replaceAll("</b>", "");
                         location = location.replaceAll("&amp;", "&");
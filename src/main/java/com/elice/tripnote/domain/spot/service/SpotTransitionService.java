@@ -0,0 +1,96 @@
+package com.elice.tripnote.domain.spot.service;
+
+import com.elice.tripnote.domain.spot.dto.NextSpotDTO;
+import com.elice.tripnote.domain.spot.dto.SpotDTO;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.repository.SpotTransitionRepository;
+import com.elice.tripnote.global.util.AfterCommit;
+import com.elice.tripnote.global.util.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여행지 다음에 많이 간 여행지 3곳을 spot_transition 집계 테이블에서 구한다.
+ * 집계는 경로를 저장/삭제할 때 바로 고치고, 여행지별 결과는 메모리에 캐시한다. (캐시는 커밋된 뒤에 지운다)
+ * 여행지 상세 조회는 캐시에 있으면 DB 조회가 없고, 없어도 여행지 id로 두 번만 조회한다.
+ */
+@Service
+@Slf4j
+public class SpotTransitionService {
+    private static final int TOP_SIZE = 3;
+
+    private final SpotTransitionRepository spotTransitionRepository;
+    // 여행지 id -> (다음 여행지, 확률), 다음 여행지가 3곳보다 적으면 빈 맵
+    private final LruCache<Long, Map<SpotDTO, Double>> nextSpots;
+
+    @Value("${tripnote.migration.enabled:true}")
+    private boolean backfillEnabled;
+
+    public SpotTransitionService(SpotTransitionRepository spotTransitionRepository,
+                                 @Value("${tripnote.spot-transition.cache-size:10000}") int cacheSize,
+                                 @Value("${tripnote.spot-transition.ttl-ms:600000}") long ttlMillis) {
+        this.spotTransitionRepository = spotTransitionRepository;
+        this.nextSpots = new LruCache<>(cacheSize, ttlMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!backfillEnabled) return;
+        int created = spotTransitionRepository.backfill();
+        if (created > 0) log.info("여행지 이동 집계 {}개를 채웠습니다.", created);
+    }
+
+    /**
+     * 여행지 다음에 많이 간 여행지 3곳과 그 확률
+     *
+     * @return 확률이 높은 순서의 맵, 다음 여행지가 3곳보다 적으면 null
+     */
+    public Map<SpotDTO, Double> getNextSpots(Long spotId) {
+        Map<SpotDTO, Double> result = nextSpots.get(spotId);
+        if (result == null) {
+            result = load(spotId);
+            nextSpots.put(spotId, result);
+        }
+        return result.isEmpty() ? null : result;
+    }
+
+    // 경로 저장 시 (여행지 순서대로)
+    public void addRoute(List<Long> spotIds) {
+        update(spotIds, 1);
+    }
+
+    // 경로 삭제 시
+    public void removeRoute(List<Long> spotIds) {
+        update(spotIds, -1);
+    }
+
+    private void update(List<Long> spotIds, int delta) {
+        if (spotIds.size() < 2) return;
+        spotTransitionRepository.addCounts(spotIds, delta);
+        // 커밋 전에 지우면 그 사이의 조회가 커밋 전 집계를 다시 캐시할 수 있다.
+        List<Long> fromSpotIds = List.copyOf(spotIds.subList(0, spotIds.size() - 1));
+        AfterCommit.run(() -> fromSpotIds.forEach(nextSpots::remove));
+    }
+
+    private Map<SpotDTO, Double> load(Long spotId) {
+        List<NextSpotDTO> top = spotTransitionRepository.findTopNextSpots(spotId, TOP_SIZE);
+        if (top.size() < TOP_SIZE) return Collections.emptyMap();
+
+        double total = spotTransitionRepository.sumCounts(spotId);
+        Map<SpotDTO, Double> result = new LinkedHashMap<>();
+        for (NextSpotDTO next : top) {
+            Spot spot = next.getSpot();
+            result.put(new SpotDTO(spot.getLocation(), spot.getImageUrl(), spot.getRegion(), spot.getAddress(), spot.getLat(), spot.getLng()),
+                    next.getCount() / total);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
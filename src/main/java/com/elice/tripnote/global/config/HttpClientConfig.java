@@ -0,0 +1,72 @@
+package com.elice.tripnote.global.config;
+
+import com.elice.tripnote.global.interceptor.HttpClientMetricsInterceptor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 API(네이버, 카카오) 호출용 RestTemplate
+ * 커넥션 풀을 공유해서 요청마다 연결/TLS 핸드셰이크를 새로 하지 않는다.
+ */
+@Configuration
+public class HttpClientConfig {
+    @Value("${tripnote.http.max-total:100}")
+    private int maxTotal;
+
+    @Value("${tripnote.http.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${tripnote.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMillis;
+
+    @Value("${tripnote.http.read-timeout-ms:5000}")
+    private long readTimeoutMillis;
+
+    // 풀에서 커넥션을 기다리는 최대 시간
+    @Value("${tripnote.http.acquire-timeout-ms:1000}")
+    private long acquireTimeoutMillis;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(httpConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient httpClient, HttpClientMetricsInterceptor httpClientMetricsInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(httpClientMetricsInterceptor);
+        return restTemplate;
+    }
+}
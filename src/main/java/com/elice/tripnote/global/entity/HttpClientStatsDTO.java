@@ -0,0 +1,22 @@
+package com.elice.tripnote.global.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+// 외부 호스트별 호출 통계 (서버가 뜬 뒤부터 누적)
+@Getter
+@AllArgsConstructor
+public class HttpClientStatsDTO {
+    private String host;
+    private long requests;
+    private long errors;                       // 4xx/5xx 응답 + 연결/타임아웃 오류
+    private double avgMillis;
+    private long maxMillis;
+    private Map<String, Long> latencyHistogram; // "~50ms" -> 요청 수
+    private int leased;                        // 사용 중인 커넥션 수
+    private int pending;                       // 커넥션을 기다리는 요청 수 (풀 포화)
+    private int available;                     // 쉬고 있는 커넥션 수
+    private int maxConnections;                // 호스트별 최대 커넥션 수
+}
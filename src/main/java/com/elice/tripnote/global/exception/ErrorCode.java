@@ -18,6 +18,9 @@ public enum ErrorCode {
     REDIRECT_URI_MISMATCH(HttpStatus.BAD_REQUEST, "인가 코드 요청시 사용한 redirect uri와 액세스 토큰 요청 시 사용한 redirect uri가 다릅니다."),
     TOO_MANY_ARGUMENT(HttpStatus.BAD_REQUEST, "너무 많은 인자 값을 넣었습니다."),
     SOCIAL_LOGIN_EMAIL(HttpStatus.BAD_REQUEST, "소셜로 로그인 된 이메일입니다."),
+    INVALID_COORDINATE(HttpStatus.BAD_REQUEST, "위도 또는 경도 값이 올바르지 않습니다."),
+    INVALID_IMPORT_FILE(HttpStatus.BAD_REQUEST, "가져올 수 없는 파일입니다. (csv 또는 json)"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "다음 페이지 커서가 올바르지 않습니다."),
 
     // 401
     UNAUTHORIZED_ACCESS(HttpStatus.UNAUTHORIZED, "접근 권한이 없습니다."),
@@ -60,7 +63,10 @@ public enum ErrorCode {
 
     // 500
     SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 응답 오류입니다."),
-    EMAIL_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "이메일 전송에 실패했습니다.");
+    EMAIL_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "이메일 전송에 실패했습니다."),
+
+    // 503
+    NAVER_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "네이버 검색을 잠시 사용할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,100 @@
+package com.elice.tripnote.global.interceptor;
+
+import com.elice.tripnote.global.entity.HttpClientStatsDTO;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 API 호출의 호스트별 응답 시간 분포, 오류 수를 모으고 커넥션 풀 상태와 같이 보여준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpClientMetricsInterceptor implements ClientHttpRequestInterceptor {
+    // 응답 시간 구간 (ms), 마지막 구간은 그보다 오래 걸린 요청
+    private static final long[] BUCKETS = {50, 100, 250, 500, 1000, 2500, 5000};
+
+    private final PoolingHttpClientConnectionManager httpConnectionManager;
+    private final Map<String, Target> targets = new ConcurrentHashMap<>();
+
+    private static class Target {
+        final LongAdder requests = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        final LongAdder[] buckets = new LongAdder[BUCKETS.length + 1];
+
+        Target() {
+            for (int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+        }
+
+        void record(long nanos, boolean error) {
+            requests.increment();
+            if (error) errors.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            long millis = nanos / 1_000_000;
+            int bucket = 0;
+            while (bucket < BUCKETS.length && millis > BUCKETS[bucket]) bucket++;
+            buckets[bucket].increment();
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Target target = targets.computeIfAbsent(request.getURI().getHost(), host -> new Target());
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            error = response.getStatusCode().isError();
+            return response;
+        } finally {
+            target.record(System.nanoTime() - start, error);
+        }
+    }
+
+    public List<HttpClientStatsDTO> getStats() {
+        // 호스트별 커넥션 풀 상태 (http/https 경로를 합친다)
+        Map<String, int[]> pools = new HashMap<>();
+        for (HttpRoute route : httpConnectionManager.getRoutes()) {
+            PoolStats stats = httpConnectionManager.getStats(route);
+            int[] pool = pools.computeIfAbsent(route.getTargetHost().getHostName(), host -> new int[4]);
+            pool[0] += stats.getLeased();
+            pool[1] += stats.getPending();
+            pool[2] += stats.getAvailable();
+            pool[3] = Math.max(pool[3], stats.getMax());
+        }
+
+        List<HttpClientStatsDTO> result = new ArrayList<>();
+        targets.forEach((host, target) -> {
+            long requests = target.requests.sum();
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKETS.length; i++) histogram.put("~" + BUCKETS[i] + "ms", target.buckets[i].sum());
+            histogram.put(BUCKETS[BUCKETS.length - 1] + "ms~", target.buckets[BUCKETS.length].sum());
+            int[] pool = pools.getOrDefault(host, new int[]{0, 0, 0, httpConnectionManager.getDefaultMaxPerRoute()});
+            result.add(new HttpClientStatsDTO(
+                    host,
+                    requests,
+                    target.errors.sum(),
+                    requests == 0 ? 0 : target.totalNanos.sum() / 1e6 / requests,
+                    target.maxNanos.get() / 1_000_000,
+                    histogram,
+                    pool[0], pool[1], pool[2], pool[3]));
+        });
+        result.sort(Comparator.comparing(HttpClientStatsDTO::getHost));
+        return result;
+    }
+}
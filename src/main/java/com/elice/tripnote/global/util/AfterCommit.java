@@ -0,0 +1,28 @@
+package com.elice.tripnote.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행
+ * 메모리 캐시/집계는 DB가 실제로 바뀐 뒤에 바꿔야 롤백된 변경이 반영되거나,
+ * 커밋 전에 다른 요청이 이전 값을 다시 캐시하는 일이 없다.
+ */
+public final class AfterCommit {
+    private AfterCommit() {
+    }
+
+    // 진행 중인 트랜잭션이 있으면 커밋된 뒤에, 없으면 바로 실행한다. (롤백되면 실행하지 않음)
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
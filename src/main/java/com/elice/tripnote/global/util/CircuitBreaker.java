@@ -0,0 +1,133 @@
+package com.elice.tripnote.global.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 호출 결과로 외부 호출을 막는 서킷 브레이커
+ * - CLOSED: 최근 windowSize번의 호출 중 실패 또는 느린 호출 비율이 기준을 넘으면 OPEN
+ * - OPEN: openMillis 동안 호출을 막고, 그 뒤 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls번만 시험 호출을 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowRateThreshold;
+    private final long slowCallMillis;
+    private final long openMillis;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    // 최근 호출 결과 (원형 버퍼)
+    private final byte[] window;
+    private int position;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                          double slowRateThreshold, long slowCallMillis, long openMillis, int halfOpenCalls) {
+        this(windowSize, minimumCalls, failureRateThreshold, slowRateThreshold, slowCallMillis, openMillis, halfOpenCalls,
+                System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                          double slowRateThreshold, long slowCallMillis, long openMillis, int halfOpenCalls,
+                          LongSupplier clock) {
+        this.window = new byte[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowRateThreshold = slowRateThreshold;
+        this.slowCallMillis = slowCallMillis;
+        this.openMillis = openMillis;
+        this.halfOpenCalls = halfOpenCalls;
+        this.clock = clock;
+    }
+
+    // 호출해도 되면 true, 허용된 호출은 onSuccess/onError/release 중 하나로 끝내야 한다.
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openMillis) return false;
+            state = State.HALF_OPEN;
+            halfOpenPermitted = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= halfOpenCalls) return false;
+            halfOpenPermitted++;
+        }
+        return true;
+    }
+
+    // 허용받았지만 호출하지 않은 경우 (처리율 제한 등)
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermitted > 0) halfOpenPermitted--;
+    }
+
+    public synchronized void onSuccess(long elapsedMillis) {
+        boolean slow = elapsedMillis >= slowCallMillis;
+        if (state == State.HALF_OPEN) {
+            if (slow) open();
+            else if (++halfOpenSucceeded >= halfOpenCalls) close();
+            return;
+        }
+        record(slow ? SLOW : SUCCESS);
+    }
+
+    public synchronized void onError(long elapsedMillis) {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(FAILURE);
+    }
+
+    public synchronized State getState() {
+        // OPEN 시간이 지났으면 다음 호출은 시험 호출이 된다.
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openMillis) return State.HALF_OPEN;
+        return state;
+    }
+
+    private void record(byte outcome) {
+        if (state != State.CLOSED) return;
+        if (recorded == window.length) {
+            byte evicted = window[position];
+            if (evicted == FAILURE) failures--;
+            else if (evicted == SLOW) slowCalls--;
+        } else {
+            recorded++;
+        }
+        window[position] = outcome;
+        position = (position + 1) % window.length;
+        if (outcome == FAILURE) failures++;
+        else if (outcome == SLOW) slowCalls++;
+
+        if (recorded >= minimumCalls
+                && ((double) failures / recorded >= failureRateThreshold || (double) slowCalls / recorded >= slowRateThreshold)) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
@@ -0,0 +1,118 @@
+package com.elice.tripnote.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지 목록의 전체 개수 캐시
+ * 전체 개수를 (종류, 조건)별로 유효 시간 동안 캐시해서, 캐시가 있으면 페이지 조회는 목록 쿼리 한 번으로 끝난다.
+ * 게시글/댓글/경로가 바뀌면 그 종류(namespace)의 개수를 한 번에 무효로 한다. (세대 번호를 올려서 이전 키를 안 쓰게 함)
+ * 무효로 하는 것은 트랜잭션이 커밋된 뒤이다. (커밋 전에 올리면 그 사이에 다른 요청이 이전 개수를 새 세대로 캐시할 수 있다.)
+ * 좋아요/북마크한 게시글 수는 따로 종류를 둬서, 좋아요를 누를 때 게시글 목록의 개수까지 무효로 하지 않는다.
+ * 조건 없이 테이블 전체를 세는 큰 테이블만 DB 통계의 예상 행 수를 쓸 수 있다. (estimated)
+ */
+@Component
+@Slf4j
+public class CountCache {
+    public static final String POST = "post";
+    public static final String LIKED_POST = "likedPost";
+    public static final String MARKED_POST = "markedPost";
+    public static final String COMMENT = "comment";
+    public static final String ROUTE = "route";
+    public static final String MEMBER = "member";
+    public static final String HASHTAG = "hashtag";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long estimateThreshold;
+    // 종류:세대:조건 -> 개수
+    private final LruCache<String, Long> counts;
+    // 종류 -> 세대 번호
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final SingleFlight<String, Long> loads = new SingleFlight<>();
+
+    /**
+     * @param estimateThreshold 테이블 예상 행 수가 이 값 이상이면 estimated 조회는 예상 행 수를 그대로 쓴다.
+     */
+    public CountCache(JdbcTemplate jdbcTemplate,
+                      @Value("${tripnote.count.cache-size:10000}") int cacheSize,
+                      @Value("${tripnote.count.ttl-ms:30000}") long ttlMillis,
+                      @Value("${tripnote.count.estimate-threshold:100000}") long estimateThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.counts = new LruCache<>(cacheSize, ttlMillis);
+        this.estimateThreshold = estimateThreshold;
+    }
+
+    /**
+     * 전체 개수 (캐시에 없을 때만 counter 실행, 같은 키를 동시에 세면 한 번만 센다)
+     *
+     * @param namespace 무효로 할 때 쓰는 종류 (POST, COMMENT ...)
+     * @param filter    조건 (회원 id 등), 조건이 없으면 빈 문자열
+     */
+    public long get(String namespace, String filter, LongSupplier counter) {
+        String key = namespace + ":" + generation(namespace).get() + ":" + filter;
+        Long count = counts.get(key);
+        if (count != null) return count;
+        return loads.execute(key, () -> {
+            long loaded = counter.getAsLong();
+            counts.put(key, loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * 조건 없이 센 큰 테이블의 전체 행 수
+     * 테이블 예상 행 수가 estimateThreshold 이상이면 그 값을 쓰고 (근사값), 작으면 get과 같다.
+     * 예상 행 수는 테이블 전체의 행 수이므로 WHERE 조건이 있는 개수에는 쓰지 않는다. (get 사용)
+     * 예상 행 수를 알 수 없는 DB(H2 등)에서는 항상 정확히 센다.
+     *
+     * @param counter 조건 없이 table의 모든 행을 세는 쿼리
+     */
+    public long getEstimated(String namespace, String table, LongSupplier counter) {
+        long estimate = get("estimate", table, () -> estimateRows(table));
+        if (estimate >= estimateThreshold) return estimate;
+        return get(namespace, "all", counter);
+    }
+
+    // PageableExecutionUtils로 페이지를 만든다. (첫 페이지가 다 차지 않았거나 마지막 페이지면 개수를 세지 않음)
+    public <T> Page<T> page(List<T> content, Pageable pageable, String namespace, String filter, LongSupplier counter) {
+        return PageableExecutionUtils.getPage(content, pageable, () -> get(namespace, filter, counter));
+    }
+
+    public <T> Page<T> estimatedPage(List<T> content, Pageable pageable, String namespace, String table, LongSupplier counter) {
+        return PageableExecutionUtils.getPage(content, pageable, () -> getEstimated(namespace, table, counter));
+    }
+
+    // 종류의 캐시된 개수를 모두 무효로 한다. (트랜잭션 안이면 커밋된 뒤에)
+    public void invalidate(String namespace) {
+        AfterCommit.run(() -> generation(namespace).incrementAndGet());
+    }
+
+    private AtomicLong generation(String namespace) {
+        return generations.computeIfAbsent(namespace, key -> new AtomicLong());
+    }
+
+    // MySQL 테이블 통계의 예상 행 수, 알 수 없으면 -1
+    private long estimateRows(String table) {
+        try {
+            Long rows = jdbcTemplate.queryForObject(
+                    "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?",
+                    Long.class, table);
+            return rows != null ? rows : -1;
+        } catch (DataAccessException e) {
+            log.debug("{} 테이블 예상 행 수를 알 수 없어 정확히 셉니다.", table);
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.elice.tripnote.global.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 행씩 읽는 CSV 파서 (RFC 4180)
+ * 큰따옴표로 감싼 값 안의 쉼표, 줄바꿈, 두 번 쓴 큰따옴표("")를 처리한다.
+ * 파일 전체를 메모리에 올리지 않으므로 파일 크기와 상관없이 한 행만큼의 메모리만 쓴다.
+ */
+public class CsvReader {
+    private final Reader reader;
+    private int pending = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // 다음 행, 더 없으면 null
+    public List<String> readRow() throws IOException {
+        int c = read();
+        if (c == -1) return null;
+
+        List<String> row = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) break;
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') value.append('"');
+                    else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    value.append((char) c);
+                }
+            } else if (c == '"' && value.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                row.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') pending = next;
+                }
+                break;
+            } else {
+                value.append((char) c);
+            }
+            c = read();
+        }
+        row.add(value.toString());
+        return row;
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
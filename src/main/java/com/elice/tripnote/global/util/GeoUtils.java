@@ -0,0 +1,26 @@
+package com.elice.tripnote.global.util;
+
+/**
+ * 위도/경도 계산
+ */
+public final class GeoUtils {
+    public static final double EARTH_RADIUS_METERS = 6_371_000;
+    // 위도 1도의 거리 (m)
+    public static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+    private GeoUtils() {
+    }
+
+    // 두 좌표 사이의 거리 (m, 하버사인 공식)
+    public static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public static boolean isValid(double lat, double lng) {
+        return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+    }
+}
@@ -0,0 +1,23 @@
+package com.elice.tripnote.global.util;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없이 long 값을 모으는 가변 배열
+ * 색인을 한 번에 만들 때 값을 모두 모은 뒤 한 번만 정렬하는 용도로 쓴다.
+ */
+public class LongArrayBuilder {
+    private long[] values = new long[4];
+    private int size = 0;
+
+    public void add(long value) {
+        if (size == values.length) values = Arrays.copyOf(values, size * 2);
+        values[size++] = value;
+    }
+
+    public long[] toSortedArray() {
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
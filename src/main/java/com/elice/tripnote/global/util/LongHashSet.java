@@ -0,0 +1,131 @@
+package com.elice.tripnote.global.util;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없이 long 값을 저장하는 해시 집합 (open addressing, linear probing)
+ * HashSet&lt;Long&gt;은 원소마다 Long 객체와 노드를 만들지만, 이 집합은 long 배열 하나만 쓴다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 밖에서 잠가야 한다.
+ */
+public class LongHashSet {
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] table;
+    private int size;
+    // 0은 빈 칸 표시로 쓰기 때문에 따로 저장
+    private boolean hasZero;
+
+    public LongHashSet() {
+        this(8);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        table = new long[capacity];
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) return hasZero;
+        int mask = table.length - 1;
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            long current = table[i];
+            if (current == EMPTY) return false;
+            if (current == value) return true;
+        }
+    }
+
+    // 새로 추가됐으면 true
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (hasZero) return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+        if (size + 1 > table.length * LOAD_FACTOR) resize(table.length << 1);
+
+        int mask = table.length - 1;
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            long current = table[i];
+            if (current == value) return false;
+            if (current == EMPTY) {
+                table[i] = value;
+                size++;
+                return true;
+            }
+        }
+    }
+
+    // 있었으면 true
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            if (!hasZero) return false;
+            hasZero = false;
+            size--;
+            return true;
+        }
+
+        int mask = table.length - 1;
+        int i = hash(value) & mask;
+        while (table[i] != value) {
+            if (table[i] == EMPTY) return false;
+            i = (i + 1) & mask;
+        }
+
+        // 지운 칸 뒤에 이어진 값들 중 원래 자리로 당길 수 있는 값을 당겨서 탐색이 끊기지 않게 한다.
+        int gap = i;
+        for (int j = (gap + 1) & mask; table[j] != EMPTY; j = (j + 1) & mask) {
+            int home = hash(table[j]) & mask;
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                table[gap] = table[j];
+                gap = j;
+            }
+        }
+        table[gap] = EMPTY;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        long[] result = new long[size];
+        int index = 0;
+        if (hasZero) result[index++] = 0L;
+        for (long value : table) {
+            if (value != EMPTY) result[index++] = value;
+        }
+        return result;
+    }
+
+    private void resize(int capacity) {
+        long[] old = table;
+        table = new long[capacity];
+        int mask = capacity - 1;
+        for (long value : old) {
+            if (value == EMPTY) continue;
+            int i = hash(value) & mask;
+            while (table[i] != EMPTY) i = (i + 1) & mask;
+            table[i] = value;
+        }
+    }
+
+    private static int hash(long value) {
+        // 연속된 id가 몰리지 않도록 섞는다 (피보나치 해싱)
+        long h = value * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) h;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,79 @@
+package com.elice.tripnote.global.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 최대 개수와 유효 시간이 있는 LRU 캐시
+ * 가장 오래 사용되지 않은 항목부터 지우고, 유효 시간이 지난 항목은 조회할 때 지운다.
+ *
+ * @param <K> 키
+ * @param <V> 값
+ */
+public class LruCache<K, V> {
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Node<V>> map;
+
+    private record Node<V>(V value, long expiresAt) {
+    }
+
+    /**
+     * @param maxSize   최대 항목 수
+     * @param ttlMillis 유효 시간(ms), 0 이하면 만료되지 않음
+     */
+    public LruCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Node<V>> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    // 없거나 만료됐으면 null
+    public synchronized V get(K key) {
+        Node<V> node = map.get(key);
+        if (node == null) return null;
+        if (isExpired(node)) {
+            map.remove(key);
+            return null;
+        }
+        return node.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        put(key, value, ttlMillis);
+    }
+
+    // 항목별로 유효 시간을 다르게 줄 때 (빈 결과를 짧게 캐시하는 경우 등)
+    public synchronized void put(K key, V value, long ttlMillis) {
+        map.put(key, new Node<>(value, ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE));
+    }
+
+    // 값이 있을 때만 바꾸고, 유효 시간은 그대로 둔다.
+    public synchronized void computeIfPresent(K key, UnaryOperator<V> function) {
+        Node<V> node = map.get(key);
+        if (node == null || isExpired(node)) return;
+        map.put(key, new Node<>(function.apply(node.value()), node.expiresAt()));
+    }
+
+    public synchronized void remove(K key) {
+        map.remove(key);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    private static boolean isExpired(Node<?> node) {
+        return node.expiresAt() < System.currentTimeMillis();
+    }
+}
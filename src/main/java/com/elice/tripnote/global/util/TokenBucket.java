@@ -0,0 +1,38 @@
+package com.elice.tripnote.global.util;
+
+/**
+ * 토큰 버킷 방식의 처리율 제한
+ * 초당 refillPerSecond개씩 토큰이 차고(최대 capacity개), 요청마다 토큰 하나를 쓴다.
+ */
+public class TokenBucket {
+    private final long capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1e9;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    // 토큰이 있으면 하나 쓰고 true, 없으면 기다리지 않고 false
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) return false;
+        tokens--;
+        return true;
+    }
+
+    public synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+}
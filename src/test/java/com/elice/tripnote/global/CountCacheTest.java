@@ -0,0 +1,113 @@
+package com.elice.tripnote.global;
+
+import com.elice.tripnote.global.util.CountCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class CountCacheTest {
+
+    @Test
+    void cachesUntilInvalidated() {
+        CountCache countCache = new CountCache(mock(JdbcTemplate.class), 100, 60_000, 100_000);
+        AtomicInteger queries = new AtomicInteger();
+
+        Assertions.assertEquals(7, countCache.get(CountCache.POST, "member:1", () -> count(queries, 7)));
+        Assertions.assertEquals(7, countCache.get(CountCache.POST, "member:1", () -> count(queries, 8)));
+        Assertions.assertEquals(1, queries.get());
+        // 다른 조건이나 다른 종류는 따로 센다.
+        Assertions.assertEquals(3, countCache.get(CountCache.POST, "member:2", () -> count(queries, 3)));
+        Assertions.assertEquals(5, countCache.get(CountCache.COMMENT, "member:1", () -> count(queries, 5)));
+
+        countCache.invalidate(CountCache.POST);
+        Assertions.assertEquals(8, countCache.get(CountCache.POST, "member:1", () -> count(queries, 8)));
+        Assertions.assertEquals(5, countCache.get(CountCache.COMMENT, "member:1", () -> count(queries, 6)));
+        Assertions.assertEquals(4, queries.get());
+    }
+
+    @Test
+    void pageSkipsCountWhenContentTellsTotal() {
+        CountCache countCache = new CountCache(mock(JdbcTemplate.class), 100, 60_000, 100_000);
+        AtomicInteger queries = new AtomicInteger();
+
+        // 첫 페이지가 다 차지 않으면 전체 개수는 목록 크기
+        Page<String> first = countCache.page(List.of("a", "b"), PageRequest.of(0, 10), CountCache.POST, "all", () -> count(queries, 99));
+        Assertions.assertEquals(2, first.getTotalElements());
+        Assertions.assertEquals(0, queries.get());
+
+        // 가득 찬 페이지는 센다.
+        Page<String> full = countCache.page(List.of("a", "b"), PageRequest.of(0, 2), CountCache.POST, "all", () -> count(queries, 99));
+        Assertions.assertEquals(99, full.getTotalElements());
+        Assertions.assertEquals(1, queries.get());
+    }
+
+    @Test
+    void estimatedUsesTableStatisticsForLargeTables() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("post"))).thenReturn(2_000_000L);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("member"))).thenReturn(50L);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("hashtag")))
+                .thenThrow(new DataAccessResourceFailureException("통계 없음"));
+        CountCache countCache = new CountCache(jdbcTemplate, 100, 60_000, 100_000);
+        AtomicInteger queries = new AtomicInteger();
+
+        Assertions.assertEquals(2_000_000, countCache.getEstimated(CountCache.POST, "post", () -> count(queries, 1_999_000)));
+        Assertions.assertEquals(0, queries.get());
+        // 작은 테이블이나 통계를 모르는 DB는 정확히 센다.
+        Assertions.assertEquals(48, countCache.getEstimated(CountCache.MEMBER, "member", () -> count(queries, 48)));
+        Assertions.assertEquals(12, countCache.getEstimated(CountCache.HASHTAG, "hashtag", () -> count(queries, 12)));
+        Assertions.assertEquals(2, queries.get());
+    }
+
+    @Test
+    void invalidatesOnlyAfterCommit() {
+        CountCache countCache = new CountCache(mock(JdbcTemplate.class), 100, 60_000, 100_000);
+        AtomicInteger queries = new AtomicInteger();
+        countCache.get(CountCache.POST, "all", () -> count(queries, 7));
+
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            countCache.invalidate(CountCache.POST);
+            // 커밋 전에는 이전 개수를 그대로 쓴다.
+            Assertions.assertEquals(7, countCache.get(CountCache.POST, "all", () -> count(queries, 8)));
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        Assertions.assertEquals(8, countCache.get(CountCache.POST, "all", () -> count(queries, 8)));
+        Assertions.assertEquals(2, queries.get());
+    }
+
+    @Test
+    void likedAndMarkedCountsHaveTheirOwnNamespace() {
+        CountCache countCache = new CountCache(mock(JdbcTemplate.class), 100, 60_000, 100_000);
+        AtomicInteger queries = new AtomicInteger();
+        countCache.get(CountCache.POST, "notDeleted", () -> count(queries, 100));
+        countCache.get(CountCache.LIKED_POST, "member:1", () -> count(queries, 3));
+
+        // 좋아요를 눌러도 게시글 목록의 개수는 다시 세지 않는다.
+        countCache.invalidate(CountCache.LIKED_POST);
+        Assertions.assertEquals(100, countCache.get(CountCache.POST, "notDeleted", () -> count(queries, 101)));
+        Assertions.assertEquals(4, countCache.get(CountCache.LIKED_POST, "member:1", () -> count(queries, 4)));
+        Assertions.assertEquals(3, queries.get());
+    }
+
+    private static long count(AtomicInteger queries, long value) {
+        queries.incrementAndGet();
+        return value;
+    }
+}
@@ -0,0 +1,112 @@
+package com.elice.tripnote.global;
+
+import com.elice.tripnote.global.util.LongHashSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class LongHashSetTest {
+    // new LongHashSet(8)의 칸 수
+    private static final int CAPACITY = 16;
+
+    @Test
+    void removalKeepsWrappedCollisionChainReachable() {
+        // 마지막 칸이 원래 자리인 값 4개는 끝에서 앞으로 넘어가며 이어지고, 0번 칸이 원래 자리인 값이 그 뒤에 붙는다.
+        List<Long> wrapped = valuesWithHome(CAPACITY - 1, 4);
+        long first = valuesWithHome(0, 1).get(0);
+        LongHashSet set = new LongHashSet(8);
+        wrapped.forEach(set::add);
+        set.add(first);
+
+        Assertions.assertTrue(set.remove(wrapped.get(0)));
+        assertContainsExactly(set, wrapped.get(1), wrapped.get(2), wrapped.get(3), first);
+
+        Assertions.assertTrue(set.remove(wrapped.get(2)));
+        assertContainsExactly(set, wrapped.get(1), wrapped.get(3), first);
+
+        Assertions.assertFalse(set.remove(wrapped.get(2)));
+        Assertions.assertTrue(set.add(wrapped.get(0)));
+        assertContainsExactly(set, wrapped.get(0), wrapped.get(1), wrapped.get(3), first);
+    }
+
+    @Test
+    void removalInMiddleOfChainPullsBackFollowingValues() {
+        List<Long> chain = valuesWithHome(3, 5);
+        LongHashSet set = new LongHashSet(8);
+        chain.forEach(set::add);
+
+        for (Long value : chain) {
+            Assertions.assertTrue(set.remove(value));
+            Assertions.assertFalse(set.contains(value));
+        }
+        Assertions.assertTrue(set.isEmpty());
+        Assertions.assertEquals(0, set.toArray().length);
+    }
+
+    @Test
+    void resizeKeepsAllValues() {
+        LongHashSet set = new LongHashSet(2);
+        for (long id = 1; id <= 10_000; id++) Assertions.assertTrue(set.add(id));
+        Assertions.assertFalse(set.add(5_000L));
+        Assertions.assertEquals(10_000, set.size());
+
+        for (long id = 2; id <= 10_000; id += 2) Assertions.assertTrue(set.remove(id));
+        Assertions.assertEquals(5_000, set.size());
+        for (long id = 1; id <= 10_000; id++) Assertions.assertEquals(id % 2 == 1, set.contains(id));
+    }
+
+    @Test
+    void zeroIsStoredSeparately() {
+        LongHashSet set = new LongHashSet();
+        Assertions.assertFalse(set.contains(0L));
+        Assertions.assertTrue(set.add(0L));
+        Assertions.assertFalse(set.add(0L));
+        Assertions.assertEquals(1, set.size());
+        Assertions.assertArrayEquals(new long[]{0L}, set.toArray());
+        Assertions.assertTrue(set.remove(0L));
+        Assertions.assertFalse(set.remove(0L));
+        Assertions.assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void behavesLikeHashSetUnderRandomOperations() {
+        Random random = new Random(42);
+        LongHashSet set = new LongHashSet(4);
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 200_000; i++) {
+            // 값의 범위를 좁혀서 충돌, 삭제, 재추가가 자주 일어나게 한다.
+            long value = random.nextInt(512) - 64;
+            if (random.nextInt(3) == 0) Assertions.assertEquals(expected.remove(value), set.remove(value));
+            else Assertions.assertEquals(expected.add(value), set.add(value));
+        }
+        Assertions.assertEquals(expected.size(), set.size());
+        for (long value = -64; value < 448; value++) Assertions.assertEquals(expected.contains(value), set.contains(value));
+    }
+
+    private static void assertContainsExactly(LongHashSet set, long... values) {
+        Assertions.assertEquals(values.length, set.size());
+        for (long value : values) Assertions.assertTrue(set.contains(value), "없는 값: " + value);
+        long[] actual = set.toArray();
+        long[] sorted = values.clone();
+        Arrays.sort(actual);
+        Arrays.sort(sorted);
+        Assertions.assertArrayEquals(sorted, actual);
+    }
+
+    // 칸이 CAPACITY개일 때 원래 자리가 home인 값 (LongHashSet의 해시와 같은 식)
+    private static List<Long> valuesWithHome(int home, int count) {
+        List<Long> values = new ArrayList<>();
+        for (long value = 1; values.size() < count; value++) {
+            long h = value * 0x9E3779B97F4A7C15L;
+            h ^= h >>> 32;
+            if (((int) h & (CAPACITY - 1)) == home) values.add(value);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,57 @@
+package com.elice.tripnote.global;
+
+import com.elice.tripnote.global.util.SingleFlight;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+    private static final int THREADS = 8;
+
+    @Test
+    void concurrentCallsShareOneComputation() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("SEOUL:경복궁", () -> {
+                computations.incrementAndGet();
+                await(release);
+                return 42;
+            })));
+        }
+        // 모든 요청이 진행 중인 계산에 합류할 때까지 기다린다.
+        while (computations.get() == 0) Thread.sleep(10);
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<Integer> result : results) Assertions.assertEquals(42, result.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, computations.get());
+        Assertions.assertEquals(0, singleFlight.inFlight());
+        executor.shutdownNow();
+    }
+
+    @Test
+    void exceptionIsSharedAndKeyIsReleased() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute("key", () -> { throw new IllegalStateException(); }));
+        Assertions.assertEquals(1, singleFlight.execute("key", () -> 1));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.elice.tripnote.integratedroute;
+
+import com.elice.tripnote.domain.integratedroute.service.IntegratedRouteMigrationRunner;
+import com.elice.tripnote.domain.integratedroute.service.RouteFingerprint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예전 지문(구분자 없는 SHA-1)으로 [1, 23]과 [12, 3] 경로가 통합 경로 101에 섞여 있는 상태에서 마이그레이션 확인
+ * 통합 경로 101: 경로 1(대표, [1, 23]), 2([12, 3]), 3([12, 3]) / 통합 경로 102: 경로 4([1, 23])
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:integrated-route-migration;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+public class IntegratedRouteMigrationRunnerTest {
+    private static final List<Long> FIRST = List.of(1L, 23L);
+    private static final List<Long> SECOND = List.of(12L, 3L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private IntegratedRouteMigrationRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO member (id, email, nickname, status) VALUES (?, ?, ?, 'ACTIVE')",
+                    id, "member" + id + "@tripnote.com", "member" + id);
+        }
+        for (long id : new long[]{1, 3, 12, 23}) {
+            jdbcTemplate.update("INSERT INTO spot (id, location, region, address, lat, lng) VALUES (?, ?, 'SEOUL', '서울특별시', 37.5, 127.0)",
+                    id, "여행지" + id);
+        }
+        jdbcTemplate.update("INSERT INTO integrated_route (id, integrated_routes, region, route_status, representative_route_id) VALUES (101, 'legacy', 'SEOUL', 'PUBLIC', 1)");
+        jdbcTemplate.update("INSERT INTO integrated_route (id, integrated_routes, region, route_status, representative_route_id) VALUES (102, 'legacy2', 'SEOUL', 'PUBLIC', 4)");
+
+        long[] integratedRouteOfRoute = {101, 101, 101, 102};
+        List<List<Long>> spotsOfRoute = List.of(FIRST, SECOND, SECOND, FIRST);
+        for (int i = 0; i < 4; i++) {
+            long routeId = i + 1;
+            jdbcTemplate.update("INSERT INTO route (id, member_id, integrated_route_id, route_status, expense, name) VALUES (?, 1, ?, 'PUBLIC', 0, '경로')",
+                    routeId, integratedRouteOfRoute[i]);
+            List<Long> spots = spotsOfRoute.get(i);
+            for (int sequence = 0; sequence < spots.size(); sequence++) {
+                jdbcTemplate.update("INSERT INTO route_spot (route_id, spot_id, sequence, next_spot_id) VALUES (?, ?, ?, NULL)",
+                        routeId, spots.get(sequence), sequence + 1);
+            }
+        }
+
+        // 경로 3에 남아 있던 예전 좋아요/북마크 (회원 2는 경로 2에도 좋아요를 눌렀다)
+        jdbcTemplate.update("INSERT INTO like_post (member_id, route_id, liked_at) VALUES (1, 1, ?)", now);
+        jdbcTemplate.update("INSERT INTO like_post (member_id, route_id, liked_at) VALUES (2, 2, ?)", now);
+        jdbcTemplate.update("INSERT INTO like_post (member_id, route_id, liked_at) VALUES (2, 3, ?)", now);
+        jdbcTemplate.update("INSERT INTO like_post (member_id, route_id, liked_at) VALUES (3, 3, ?)", now);
+        jdbcTemplate.update("INSERT INTO bookmark (member_id, route_id, marked_at) VALUES (3, 3, ?)", now);
+        jdbcTemplate.update("INSERT INTO like_post (member_id, route_id, liked_at) VALUES (1, 4, ?)", now);
+        jdbcTemplate.update("INSERT INTO hashtag (id, name, is_city, is_delete) VALUES (1, '서울', true, false)");
+        jdbcTemplate.update("INSERT INTO uuid_hashtag (integerated_route_id, hashtag_id) VALUES (101, 1)");
+
+        runner = new IntegratedRouteMigrationRunner(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate), new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(runner, "enabled", true);
+        ReflectionTestUtils.setField(runner, "batchSize", 500);
+    }
+
+    @Test
+    void splitsRoutesWithDifferentSpotOrderAndMergesSameOrder() {
+        runner.run(null);
+
+        // [1, 23]: 같은 순서였던 통합 경로 101, 102는 하나로 합쳐지고, 좋아요는 대표 경로에 한 번만 남는다.
+        Long first = integratedRouteOf(FIRST);
+        Assertions.assertNotNull(first);
+        Assertions.assertEquals(List.of(1L, 4L), routesOf(first));
+        Long merged = first == 101L ? 102L : 101L;
+        Assertions.assertEquals("DELETE", jdbcTemplate.queryForObject("SELECT route_status FROM integrated_route WHERE id = ?", String.class, merged));
+        Assertions.assertEquals(List.of(), routesOf(merged));
+        Long firstRouteId = jdbcTemplate.queryForObject("SELECT representative_route_id FROM integrated_route WHERE id = ?", Long.class, first);
+        Assertions.assertEquals(List.of(1L), likersOf(firstRouteId));
+        Assertions.assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM like_post WHERE route_id IN (1, 4)", Integer.class));
+
+        // [12, 3]: 새 통합 경로로 나뉘고, 대표 경로는 경로 2, 좋아요/북마크/해시태그가 같이 옮겨 간다.
+        Long second = integratedRouteOf(SECOND);
+        Assertions.assertNotNull(second);
+        Assertions.assertNotEquals(first, second);
+        Assertions.assertEquals(List.of(2L, 3L), routesOf(second));
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT representative_route_id, route_status, region FROM integrated_route WHERE id = ?", second);
+        Assertions.assertEquals(2L, ((Number) row.get("representative_route_id")).longValue());
+        Assertions.assertEquals("PUBLIC", row.get("route_status"));
+        Assertions.assertEquals("SEOUL", row.get("region"));
+        Assertions.assertEquals(List.of(2L, 3L), likersOf(2L));
+        Assertions.assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM like_post WHERE route_id = 3", Integer.class));
+        Assertions.assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookmark WHERE route_id = 2 AND member_id = 3", Integer.class));
+        Assertions.assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM uuid_hashtag WHERE integerated_route_id = ?", Integer.class, second));
+
+        // 다시 실행해도 바뀌지 않는다.
+        int integratedRoutes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM integrated_route", Integer.class);
+        runner.run(null);
+        Assertions.assertEquals(integratedRoutes, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM integrated_route", Integer.class));
+        Assertions.assertEquals(List.of(2L, 3L), routesOf(second));
+    }
+
+    private Long integratedRouteOf(List<Long> spotIds) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM integrated_route WHERE fingerprint = ?", Long.class, RouteFingerprint.of(spotIds));
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private List<Long> routesOf(Long integratedRouteId) {
+        return jdbcTemplate.queryForList("SELECT id FROM route WHERE integrated_route_id = ? ORDER BY id", Long.class, integratedRouteId);
+    }
+
+    private List<Long> likersOf(Long routeId) {
+        return jdbcTemplate.queryForList("SELECT member_id FROM like_post WHERE route_id = ? ORDER BY member_id", Long.class, routeId);
+    }
+}
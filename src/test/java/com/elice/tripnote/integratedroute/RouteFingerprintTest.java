@@ -0,0 +1,24 @@
+package com.elice.tripnote.integratedroute;
+
+import com.elice.tripnote.domain.integratedroute.service.RouteFingerprint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class RouteFingerprintTest {
+
+    @Test
+    void distinguishesSequencesThatConcatenateToTheSameString() {
+        Assertions.assertFalse(Arrays.equals(RouteFingerprint.of(List.of(1L, 23L)), RouteFingerprint.of(List.of(12L, 3L))));
+        Assertions.assertFalse(Arrays.equals(RouteFingerprint.of(List.of(1L, 2L)), RouteFingerprint.of(List.of(2L, 1L))));
+    }
+
+    @Test
+    void isStableAndSixteenBytes() {
+        byte[] fingerprint = RouteFingerprint.of(List.of(3L, 300L, 70000L));
+        Assertions.assertEquals(RouteFingerprint.LENGTH, fingerprint.length);
+        Assertions.assertArrayEquals(fingerprint, RouteFingerprint.of(List.of(3L, 300L, 70000L)));
+    }
+}
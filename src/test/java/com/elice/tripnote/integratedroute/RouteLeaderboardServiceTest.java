@@ -0,0 +1,147 @@
+package com.elice.tripnote.integratedroute;
+
+import com.elice.tripnote.domain.integratedroute.service.RouteLeaderboardService;
+import com.elice.tripnote.domain.likebookmarkperiod.service.LikeBookPeriodService;
+import com.elice.tripnote.domain.spot.constant.Region;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.*;
+
+public class RouteLeaderboardServiceTest {
+    private LikeBookPeriodService likeBookPeriodService;
+    private RouteLeaderboardService leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        likeBookPeriodService = mock(LikeBookPeriodService.class);
+        leaderboard = new RouteLeaderboardService(likeBookPeriodService);
+        ReflectionTestUtils.setField(leaderboard, "topSize", 20);
+        when(likeBookPeriodService.getTrendingScoresByRegion())
+                .thenReturn(Map.of(Region.SEOUL, Map.of(1L, 1.0, 2L, 3.0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void scoresChangeOnlyAfterCommit() {
+        leaderboard.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        leaderboard.addScore(1L, 5);
+        Assertions.assertEquals(List.of(2L, 1L), leaderboard.getTop(Region.SEOUL, 2));
+        // 롤백
+        TransactionSynchronizationManager.clearSynchronization();
+        Assertions.assertEquals(List.of(2L, 1L), leaderboard.getTop(Region.SEOUL, 2));
+
+        TransactionSynchronizationManager.initSynchronization();
+        leaderboard.addScore(1L, 5);
+        commit();
+        Assertions.assertEquals(List.of(1L, 2L), leaderboard.getTop(Region.SEOUL, 2));
+    }
+
+    @Test
+    void rankKeepsCandidatesWithoutRecentActivity() {
+        leaderboard.rebuild();
+
+        // 5번은 최근 기간에 좋아요가 없어서 순위에 없지만 후보이므로 점수 0으로 뒤에 온다.
+        Assertions.assertEquals(List.of(2L, 1L, 5L), leaderboard.rank(new long[]{1L, 2L, 5L}, 3));
+        Assertions.assertEquals(List.of(2L), leaderboard.rank(new long[]{1L, 2L, 5L}, 1));
+    }
+
+    @Test
+    void updatesDuringRebuildAreReplayed() {
+        leaderboard.rebuild();
+        // DB에서 점수를 읽는 동안 좋아요와 새 통합 경로가 들어온다.
+        when(likeBookPeriodService.getTrendingScoresByRegion()).thenAnswer(invocation -> {
+            leaderboard.addScore(1L, 5);
+            leaderboard.register(3L, Region.BUSAN);
+            return Map.of(Region.SEOUL, Map.of(1L, 1.0, 2L, 3.0));
+        });
+
+        leaderboard.rebuild();
+
+        Assertions.assertEquals(List.of(1L, 2L), leaderboard.getTop(Region.SEOUL, 2));
+        Assertions.assertEquals(List.of(3L), leaderboard.getTop(Region.BUSAN, 5));
+
+        // 다시 만드는 중이 아닐 때의 변경은 한 번만 반영된다.
+        leaderboard.addScore(2L, 3.5);
+        Assertions.assertEquals(List.of(2L, 1L), leaderboard.getTop(Region.SEOUL, 2));
+    }
+
+    @Test
+    void likesDuringRebuildAreCountedOnce() throws Exception {
+        // 기록된 증감량은 flush 때 DB 점수로 옮겨 간다.
+        AtomicLong recorded = new AtomicLong();
+        AtomicLong flushed = new AtomicLong();
+        doAnswer(invocation -> recorded.addAndGet(invocation.<Integer>getArgument(1))).when(likeBookPeriodService).recordLike(eq(1L), anyInt());
+        doAnswer(invocation -> flushed.addAndGet(recorded.getAndSet(0))).when(likeBookPeriodService).flush();
+        int likes = 2_000;
+        when(likeBookPeriodService.getTrendingScoresByRegion()).thenAnswer(invocation -> Map.of(Region.SEOUL,
+                Map.of(1L, 1.0 + flushed.get(), 2L, likes + 0.5, 3L, likes + 1.5)));
+        leaderboard.rebuild();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<?> liking = executor.submit(() -> {
+            for (int i = 0; i < likes; i++) leaderboard.addLike(1L, 1);
+        });
+        Future<?> rebuilding = executor.submit(() -> {
+            while (!liking.isDone()) leaderboard.rebuild();
+        });
+        liking.get(30, TimeUnit.SECONDS);
+        rebuilding.get(30, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        // 좋아요가 한 번씩만 반영되면 1번 경로의 점수는 1 + likes로 2번과 3번 사이에 온다.
+        Assertions.assertEquals(List.of(3L, 1L, 2L), leaderboard.getTop(Region.SEOUL, 3));
+        leaderboard.rebuild();
+        Assertions.assertEquals(List.of(3L, 1L, 2L), leaderboard.getTop(Region.SEOUL, 3));
+    }
+
+    @Test
+    void readsDoNotFailWhileBoardsChange() throws Exception {
+        leaderboard.rebuild();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        Region[] regions = Region.values();
+        for (int t = 0; t < 2; t++) {
+            futures.add(executor.submit(() -> {
+                for (long id = 10; id < 5_000; id++) {
+                    leaderboard.register(id, regions[(int) (id % regions.length)]);
+                    leaderboard.addScore(id, id % 7);
+                }
+            }));
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    List<Long> top = leaderboard.getTop(regions[i % regions.length], 5);
+                    Assertions.assertTrue(top.size() <= 5);
+                }
+            }));
+        }
+        for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        executor.shutdownNow();
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
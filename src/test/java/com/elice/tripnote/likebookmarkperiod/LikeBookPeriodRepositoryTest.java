@@ -0,0 +1,92 @@
+package com.elice.tripnote.likebookmarkperiod;
+
+import com.elice.tripnote.domain.likebookmarkperiod.entity.PeriodLikesDTO;
+import com.elice.tripnote.domain.likebookmarkperiod.repository.LikeBookPeriodRepository;
+import com.elice.tripnote.global.config.QueryDSLConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@DataJpaTest
+@Import(QueryDSLConfig.class)
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:like-book-period;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+public class LikeBookPeriodRepositoryTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private LikeBookPeriodRepository likeBookPeriodRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 1, 2: 좋아요가 있는 통합 경로, 3: 활동 없는 통합 경로
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO integrated_route (id, integrated_routes, region, route_status, representative_route_id) VALUES (?, ?, 'SEOUL', 'PUBLIC', ?)",
+                    id, "route" + id, id);
+        }
+        // 4: 경로 저장이 롤백되어 대표 경로 없이 남은 통합 경로
+        jdbcTemplate.update("INSERT INTO integrated_route (id, integrated_routes, region, route_status) VALUES (4, 'route4', 'SEOUL', 'PUBLIC')");
+    }
+
+    @Test
+    void deltasCreateOneOpenPeriodPerActiveRoute() {
+        likeBookPeriodRepository.batchAddCounts(List.of(new long[]{1, 2, 0}, new long[]{2, 1, 1}, new long[]{4, 5, 0}));
+        likeBookPeriodRepository.batchAddCounts(List.of(new long[]{1, 1, 0}));
+
+        Assertions.assertEquals(3, rows());
+        Map<Long, Integer> likes = likesOf(likeBookPeriodRepository.findRecentPeriodLikes(null, null, START));
+        // 활동 없는 통합 경로(기간 행 없음)와 대표 경로 없는 통합 경로는 조회되지 않는다.
+        Assertions.assertEquals(Map.of(1L, 3, 2L, 1), likes);
+    }
+
+    @Test
+    void secondOpenPeriodIsRejected() {
+        likeBookPeriodRepository.batchAddCounts(List.<long[]>of(new long[]{1, 1, 0}));
+
+        Assertions.assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO like_bookmark_period (integerated_route_id, open_route_id, likes, bookmark, start_at) VALUES (1, 1, 0, 0, ?)",
+                START));
+    }
+
+    @Test
+    void rolloverClosesOpenPeriodsAndPrunesOldOnes() {
+        likeBookPeriodRepository.batchAddCounts(List.of(new long[]{1, 1, 0}, new long[]{2, 1, 0}));
+        likeBookPeriodRepository.rollover(START, START.minusDays(7));
+        Assertions.assertEquals(2, rows());
+        Assertions.assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM like_bookmark_period WHERE end_at IS NULL OR open_route_id IS NOT NULL", Integer.class));
+
+        // 다음 기간에는 활동한 통합 경로만 새 기간이 생긴다.
+        likeBookPeriodRepository.batchAddCounts(List.<long[]>of(new long[]{1, 1, 0}));
+        Assertions.assertEquals(3, rows());
+
+        // 첫 기간이 보관 기간을 지나면 지워진다.
+        likeBookPeriodRepository.rollover(START.plusDays(8), START.plusDays(1));
+        Assertions.assertEquals(1, rows());
+    }
+
+    private int rows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM like_bookmark_period", Integer.class);
+    }
+
+    private static Map<Long, Integer> likesOf(List<PeriodLikesDTO> periods) {
+        return periods.stream().collect(Collectors.toMap(PeriodLikesDTO::getIntegratedRouteId, PeriodLikesDTO::getLikes, Integer::sum));
+    }
+}
@@ -0,0 +1,107 @@
+package com.elice.tripnote.likebookmarkperiod;
+
+import com.elice.tripnote.domain.likebookmarkperiod.repository.LikeBookPeriodRepository;
+import com.elice.tripnote.domain.likebookmarkperiod.service.LikeBookPeriodService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class LikeBookPeriodServiceTest {
+    private LikeBookPeriodRepository likeBookPeriodRepository;
+    private PlatformTransactionManager transactionManager;
+    private LikeBookPeriodService likeBookPeriodService;
+
+    @BeforeEach
+    void setUp() {
+        likeBookPeriodRepository = mock(LikeBookPeriodRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        likeBookPeriodService = new LikeBookPeriodService(likeBookPeriodRepository, mock(ApplicationEventPublisher.class),
+                new TransactionTemplate(transactionManager));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void rolledBackToggleIsNotFlushed() {
+        TransactionSynchronizationManager.initSynchronization();
+        likeBookPeriodService.addLike(1L, 1);
+        likeBookPeriodService.addBookmark(1L, 1);
+        // 롤백: afterCommit이 호출되지 않는다.
+        TransactionSynchronizationManager.clearSynchronization();
+
+        likeBookPeriodService.flush();
+        verify(likeBookPeriodRepository, never()).batchAddCounts(anyList());
+        Assertions.assertEquals(0, likeBookPeriodService.pendingCount());
+    }
+
+    @Test
+    void committedToggleIsFlushedOnce() {
+        TransactionSynchronizationManager.initSynchronization();
+        likeBookPeriodService.addLike(1L, 1);
+        Assertions.assertEquals(0, likeBookPeriodService.pendingCount());
+        commit();
+
+        likeBookPeriodService.addLike(2L, -1);
+        likeBookPeriodService.flush();
+        likeBookPeriodService.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<long[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(likeBookPeriodRepository, times(1)).batchAddCounts(captor.capture());
+        Assertions.assertEquals(2, captor.getValue().size());
+        for (long[] delta : captor.getValue()) {
+            Assertions.assertEquals(delta[0] == 1L ? 1 : -1, delta[1]);
+            Assertions.assertEquals(0, delta[2]);
+        }
+    }
+
+    @Test
+    void cancelledDeltasRemoveTheirKeys() {
+        for (long id = 1; id <= 1000; id++) {
+            likeBookPeriodService.addLike(id, 1);
+            likeBookPeriodService.addLike(id, -1);
+        }
+        Assertions.assertEquals(0, likeBookPeriodService.pendingCount());
+
+        likeBookPeriodService.addBookmark(7L, 1);
+        likeBookPeriodService.flush();
+        Assertions.assertEquals(0, likeBookPeriodService.pendingCount());
+        verify(likeBookPeriodRepository, times(1)).batchAddCounts(anyList());
+    }
+
+    @Test
+    void failedFlushIsRetried() {
+        doThrow(new IllegalStateException()).doNothing().when(likeBookPeriodRepository).batchAddCounts(anyList());
+        likeBookPeriodService.addLike(1L, 1);
+
+        // 실패한 배치는 트랜잭션째 롤백되므로 증감량을 그대로 다시 시도해도 두 번 반영되지 않는다.
+        likeBookPeriodService.flush();
+        Assertions.assertEquals(1, likeBookPeriodService.pendingCount());
+        verify(transactionManager).rollback(any());
+        likeBookPeriodService.flush();
+        Assertions.assertEquals(0, likeBookPeriodService.pendingCount());
+        verify(transactionManager).commit(any());
+        verify(likeBookPeriodRepository, times(2)).batchAddCounts(anyList());
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
@@ -0,0 +1,32 @@
+package com.elice.tripnote.post;
+
+import com.elice.tripnote.domain.post.entity.PostCursor;
+import com.elice.tripnote.global.exception.CustomException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PostCursorTest {
+
+    @Test
+    void roundTrip() {
+        PostCursor cursor = new PostCursor("likes", 42, 1_234_567L);
+
+        Assertions.assertEquals(cursor, PostCursor.decode(cursor.encode(), "likes"));
+        Assertions.assertNull(PostCursor.decode(null, "id"));
+        Assertions.assertNull(PostCursor.decode("", "id"));
+        // 모르는 정렬방법은 id 순서로 본다.
+        Assertions.assertEquals("id", PostCursor.normalizeOrder("createdAt"));
+        PostCursor byId = new PostCursor("id", 0, 10L);
+        Assertions.assertEquals(byId, PostCursor.decode(byId.encode(), null));
+    }
+
+    @Test
+    void rejectsInvalidCursor() {
+        String likesCursor = new PostCursor("likes", 1, 2L).encode();
+
+        Assertions.assertThrows(CustomException.class, () -> PostCursor.decode("%%%", "id"));
+        Assertions.assertThrows(CustomException.class, () -> PostCursor.decode("aWQ6eDp5", "id"));
+        // 다른 정렬방법으로 만든 커서
+        Assertions.assertThrows(CustomException.class, () -> PostCursor.decode(likesCursor, "id"));
+    }
+}
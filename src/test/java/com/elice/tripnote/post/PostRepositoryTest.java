@@ -0,0 +1,113 @@
+package com.elice.tripnote.post;
+
+import com.elice.tripnote.domain.post.entity.PostFeedResponseDTO;
+import com.elice.tripnote.domain.post.entity.PostResponseDTO;
+import com.elice.tripnote.domain.post.repository.PostRepository;
+import com.elice.tripnote.global.config.QueryDSLConfig;
+import com.elice.tripnote.global.util.CountCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 게시글 피드 커서 페이지 확인
+ * 게시글 1~10의 좋아요: 5, 5, 5, 3, 3, 3, 3, 1, 1, 0 (같은 좋아요 수가 페이지 경계에 걸친다), 게시글 11은 삭제됨
+ */
+@DataJpaTest
+@Import({QueryDSLConfig.class, CountCache.class})
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:post-cursor;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+public class PostRepositoryTest {
+    private static final int[] LIKES = {5, 5, 5, 3, 3, 3, 3, 1, 1, 0, 9};
+    // 좋아요 많은 순, 같으면 최신(id 큰) 순
+    private static final List<Long> BY_LIKES = List.of(3L, 2L, 1L, 7L, 6L, 5L, 4L, 9L, 8L, 10L);
+    private static final List<Long> BY_ID = List.of(10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PostRepository postRepository;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO member (id, email, nickname, status) VALUES (1, 'member1@tripnote.com', 'member1', 'ACTIVE')");
+        jdbcTemplate.update("INSERT INTO integrated_route (id, integrated_routes, region, route_status, representative_route_id) VALUES (1, 'route1', 'SEOUL', 'PUBLIC', 1)");
+        jdbcTemplate.update("INSERT INTO route (id, member_id, integrated_route_id, route_status, expense, name) VALUES (1, 1, 1, 'PUBLIC', 0, '경로')");
+        jdbcTemplate.update("INSERT INTO hashtag (id, name, is_city, is_delete) VALUES (1, '서울', true, false)");
+        jdbcTemplate.update("INSERT INTO uuid_hashtag (integerated_route_id, hashtag_id) VALUES (1, 1)");
+        for (int i = 0; i < LIKES.length; i++) {
+            jdbcTemplate.update("INSERT INTO post (id, title, content, likes, report, is_deleted, member_id, route_id, created_at) VALUES (?, '제목', '내용', ?, 0, ?, 1, 1, ?)",
+                    i + 1, LIKES[i], i + 1 == LIKES.length, now);
+        }
+    }
+
+    @Test
+    void pagesThroughTiesOnLikesWithoutSkipsOrDuplicates() {
+        Assertions.assertEquals(BY_LIKES, readAll("likes", 3));
+        Assertions.assertEquals(BY_LIKES, readAll("likes", 4));
+        Assertions.assertEquals(BY_LIKES, readAll("likes", 1));
+    }
+
+    @Test
+    void pagesThroughLatestPosts() {
+        Assertions.assertEquals(BY_ID, readAll("id", 3));
+        Assertions.assertEquals(BY_ID, readAll("id", 1));
+    }
+
+    @Test
+    void hasNextAtPageBoundaries() {
+        // 남은 게시글 수가 페이지 크기와 같으면 다음 페이지가 없다.
+        PostFeedResponseDTO all = postRepository.customFindNotDeletedPostsByCursor("likes", null, 10, true);
+        Assertions.assertEquals(BY_LIKES, ids(all));
+        Assertions.assertFalse(all.isHasNext());
+        Assertions.assertNull(all.getNextCursor());
+        Assertions.assertEquals(10L, all.getTotalCount());
+
+        // 하나 적으면 다음 페이지에 마지막 하나만 온다.
+        PostFeedResponseDTO first = postRepository.customFindNotDeletedPostsByCursor("likes", null, 9, false);
+        Assertions.assertTrue(first.isHasNext());
+        Assertions.assertNull(first.getTotalCount());
+        PostFeedResponseDTO last = postRepository.customFindNotDeletedPostsByCursor("likes", first.getNextCursor(), 9, false);
+        Assertions.assertEquals(List.of(10L), ids(last));
+        Assertions.assertFalse(last.isHasNext());
+        Assertions.assertNull(last.getNextCursor());
+    }
+
+    // 첫 페이지부터 nextCursor를 따라가며 모두 읽는다. (마지막 페이지 외에는 꽉 차 있어야 한다)
+    private List<Long> readAll(String order, int size) {
+        List<Long> result = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page <= BY_ID.size(); page++) {
+            PostFeedResponseDTO feed = postRepository.customFindNotDeletedPostsByCursor(order, cursor, size, false);
+            result.addAll(ids(feed));
+            if (!feed.isHasNext()) {
+                Assertions.assertNull(feed.getNextCursor());
+                Assertions.assertEquals(result.size(), new HashSet<>(result).size(), "중복된 게시글: " + result);
+                return result;
+            }
+            Assertions.assertEquals(size, feed.getPosts().size());
+            cursor = feed.getNextCursor();
+        }
+        throw new AssertionError("페이지가 끝나지 않습니다: " + result);
+    }
+
+    private static List<Long> ids(PostFeedResponseDTO feed) {
+        return feed.getPosts().stream().map(PostResponseDTO::getId).toList();
+    }
+}
@@ -0,0 +1,71 @@
+package com.elice.tripnote.route;
+
+import com.elice.tripnote.domain.route.repository.RouteRepository;
+import com.elice.tripnote.domain.route.service.MemberRouteMarkService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+public class MemberRouteMarkServiceTest {
+    private RouteRepository routeRepository;
+    private MemberRouteMarkService memberRouteMarkService;
+
+    @BeforeEach
+    void setUp() {
+        routeRepository = mock(RouteRepository.class);
+        when(routeRepository.findLikedIntegratedRouteIds(1L)).thenReturn(List.of(1L, 2L));
+        when(routeRepository.findBookmarkedIntegratedRouteIds(1L)).thenReturn(List.of(3L));
+        memberRouteMarkService = new MemberRouteMarkService(routeRepository, 100, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void togglesAreAppliedToCachedMarksAfterCommit() {
+        MemberRouteMarkService.Marks before = memberRouteMarkService.getMarks(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        memberRouteMarkService.updateLike(1L, 2L, false);
+        memberRouteMarkService.updateLike(1L, 5L, true);
+        memberRouteMarkService.updateMark(1L, 3L, false);
+        Assertions.assertSame(before, memberRouteMarkService.getMarks(1L));
+        commit();
+
+        MemberRouteMarkService.Marks after = memberRouteMarkService.getMarks(1L);
+        Assertions.assertTrue(after.isLiked(1L));
+        Assertions.assertFalse(after.isLiked(2L));
+        Assertions.assertTrue(after.isLiked(5L));
+        Assertions.assertFalse(after.isMarked(3L));
+        // 이미 읽고 있던 집합은 바뀌지 않고, DB에서 다시 불러오지 않는다.
+        Assertions.assertTrue(before.isLiked(2L));
+        verify(routeRepository, times(1)).findLikedIntegratedRouteIds(1L);
+    }
+
+    @Test
+    void rolledBackToggleIsNotApplied() {
+        memberRouteMarkService.getMarks(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        memberRouteMarkService.updateMark(1L, 4L, true);
+        // 롤백: afterCommit이 호출되지 않는다.
+        TransactionSynchronizationManager.clearSynchronization();
+
+        Assertions.assertFalse(memberRouteMarkService.getMarks(1L).isMarked(4L));
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
@@ -0,0 +1,153 @@
+package com.elice.tripnote.route;
+
+import com.elice.tripnote.domain.route.entity.RecommendedRouteResponseDTO;
+import com.elice.tripnote.domain.route.repository.RouteRepository;
+import com.elice.tripnote.domain.route.service.MemberRouteMarkService;
+import com.elice.tripnote.domain.route.service.RouteCardService;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.service.SpotCatalog;
+import com.elice.tripnote.global.config.QueryDSLConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 경로 조회 방식 비교 (경로 10만 개)
+ * 기존 getRecommendedRoutes 한 방 쿼리와 라우트 카드 + 회원별 여부 조회를 비교한다.
+ * 오래 걸리기 때문에 기본 test에서는 제외되고, ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({QueryDSLConfig.class, SpotCatalog.class})
+@TestPropertySource(properties = "spring.sql.init.mode=never")
+public class RouteCardBenchmarkTest {
+    private static final int MEMBERS = 1_000;
+    private static final int SPOTS = 5_000;
+    private static final int ROUTES_PER_INTEGRATED_ROUTE = 5;
+    private static final int INTEGRATED_ROUTES = 20_000;
+    private static final int SPOTS_PER_ROUTE = 5;
+    private static final int REQUESTS = 300;
+    private static final int ROUTES_PER_REQUEST = 5;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RouteRepository routeRepository;
+    @Autowired
+    private SpotCatalog spotCatalog;
+
+    @Test
+    void compareRecommendedRouteReads() {
+        Random random = new Random(42);
+        insertDataset(random);
+        // 서버가 뜰 때처럼 여행지 카탈로그를 미리 채운다.
+        spotCatalog.rebuild();
+
+        List<List<Long>> requests = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            List<Long> ids = new ArrayList<>();
+            for (int j = 0; j < ROUTES_PER_REQUEST; j++) ids.add((long) random.nextInt(INTEGRATED_ROUTES) + 1);
+            requests.add(ids.stream().distinct().toList());
+        }
+        long memberId = 1L;
+
+        long start = System.nanoTime();
+        List<List<RecommendedRouteResponseDTO>> legacy = new ArrayList<>();
+        for (List<Long> ids : requests) legacy.add(routeRepository.getRecommendedRoutes(ids, memberId, true));
+        long legacyNanos = System.nanoTime() - start;
+
+        RouteCardService routeCardService = new RouteCardService(routeRepository,
+                new MemberRouteMarkService(routeRepository, 10_000, 0), spotCatalog, 10_000, 0);
+        start = System.nanoTime();
+        List<List<RecommendedRouteResponseDTO>> cold = new ArrayList<>();
+        for (List<Long> ids : requests) cold.add(routeCardService.getRecommendedRoutes(ids, memberId));
+        long coldNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (List<Long> ids : requests) routeCardService.getRecommendedRoutes(ids, memberId);
+        long warmNanos = System.nanoTime() - start;
+
+        System.out.printf("[route-card benchmark] %d requests over %d routes: legacy %d ms, card (cold) %d ms, card (warm) %d ms%n",
+                REQUESTS, INTEGRATED_ROUTES * ROUTES_PER_INTEGRATED_ROUTE,
+                legacyNanos / 1_000_000, coldNanos / 1_000_000, warmNanos / 1_000_000);
+
+        // 두 방식이 같은 경로와 같은 여행지를 돌려주는지 확인
+        for (int i = 0; i < REQUESTS; i++) {
+            Assertions.assertEquals(ids(legacy.get(i)), ids(cold.get(i)));
+            for (int j = 0; j < cold.get(i).size(); j++) {
+                Assertions.assertEquals(spotIds(legacy.get(i).get(j)), spotIds(cold.get(i).get(j)));
+            }
+        }
+    }
+
+    private void insertDataset(Random random) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        batch("INSERT INTO member (id, email, nickname, status) VALUES (?, ?, ?, 'ACTIVE')", MEMBERS,
+                (i) -> new Object[]{i + 1, "member" + i + "@tripnote.com", "member" + i});
+        batch("INSERT INTO spot (id, location, region, address, lat, lng) VALUES (?, ?, 'SEOUL', '서울특별시', 37.5, 127.0)", SPOTS,
+                (i) -> new Object[]{i + 1, "여행지" + i});
+        batch("INSERT INTO integrated_route (id, integrated_routes, region, route_status, representative_route_id) VALUES (?, ?, 'SEOUL', 'PUBLIC', ?)", INTEGRATED_ROUTES,
+                (i) -> new Object[]{i + 1, UUID.randomUUID().toString(), i * ROUTES_PER_INTEGRATED_ROUTE + 1});
+
+        int routes = INTEGRATED_ROUTES * ROUTES_PER_INTEGRATED_ROUTE;
+        batch("INSERT INTO route (id, member_id, integrated_route_id, route_status, expense, name) VALUES (?, ?, ?, 'PUBLIC', 0, '경로')", routes,
+                (i) -> new Object[]{i + 1, random.nextInt(MEMBERS) + 1, i / ROUTES_PER_INTEGRATED_ROUTE + 1});
+
+        // 같은 통합 경로의 경로들은 같은 여행지를 같은 순서로 지난다.
+        long[][] spotsOfIntegratedRoute = new long[INTEGRATED_ROUTES][SPOTS_PER_ROUTE];
+        for (long[] spots : spotsOfIntegratedRoute) {
+            for (int k = 0; k < SPOTS_PER_ROUTE; k++) spots[k] = random.nextInt(SPOTS) + 1;
+        }
+        batch("INSERT INTO route_spot (route_id, spot_id, sequence, next_spot_id) VALUES (?, ?, ?, NULL)", routes * SPOTS_PER_ROUTE,
+                (i) -> {
+                    int route = i / SPOTS_PER_ROUTE;
+                    int sequence = i % SPOTS_PER_ROUTE;
+                    return new Object[]{route + 1, spotsOfIntegratedRoute[route / ROUTES_PER_INTEGRATED_ROUTE][sequence], sequence + 1};
+                });
+
+        batch("INSERT INTO post (id, title, content, likes, report, is_deleted, member_id, route_id, created_at) VALUES (?, '제목', '내용', ?, 0, false, ?, ?, ?)",
+                routes / 10, (i) -> new Object[]{i + 1, random.nextInt(50), random.nextInt(MEMBERS) + 1, (i + 1) * 10, now});
+
+        // 대표 경로(통합 경로의 첫 경로)에 좋아요/북마크
+        List<Object[]> likes = new ArrayList<>();
+        List<Object[]> bookmarks = new ArrayList<>();
+        for (int ir = 0; ir < INTEGRATED_ROUTES; ir++) {
+            long routeId = (long) ir * ROUTES_PER_INTEGRATED_ROUTE + 1;
+            int count = random.nextInt(10);
+            for (int k = 0; k < count; k++) likes.add(new Object[]{random.nextInt(MEMBERS) + 1, routeId, now});
+            if (random.nextInt(5) == 0) bookmarks.add(new Object[]{1, routeId, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO like_post (member_id, route_id, liked_at) VALUES (?, ?, ?)", likes);
+        jdbcTemplate.batchUpdate("INSERT INTO bookmark (member_id, route_id, marked_at) VALUES (?, ?, ?)", bookmarks);
+    }
+
+    private void batch(String sql, int count, IntFunction<Object[]> row) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) rows.add(row.apply(i));
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    private static List<Long> ids(List<RecommendedRouteResponseDTO> routes) {
+        return routes.stream().map(RecommendedRouteResponseDTO::getIntegratedRouteId).toList();
+    }
+
+    private static Set<Long> spotIds(RecommendedRouteResponseDTO route) {
+        return route.getSpots().stream().map(Spot::getId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,136 @@
+package com.elice.tripnote.route;
+
+import com.elice.tripnote.domain.route.entity.RecommendedRouteResponseDTO;
+import com.elice.tripnote.domain.route.repository.RouteRepository;
+import com.elice.tripnote.domain.route.service.MemberRouteMarkService;
+import com.elice.tripnote.domain.route.service.RouteCardService;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.service.SpotCatalog;
+import com.elice.tripnote.global.config.QueryDSLConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 라우트 카드 + 회원별 좋아요/북마크 여부로 만든 추천 경로 응답 확인
+ * 통합 경로 1: 경로 1(대표), 2 / 통합 경로 2: 경로 3(대표), 4 / 통합 경로 3: 경로 5(대표)
+ */
+@DataJpaTest
+@Import({QueryDSLConfig.class, SpotCatalog.class})
+@TestPropertySource(properties = "spring.sql.init.mode=never")
+public class RouteCardServiceTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RouteRepository routeRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private SpotCatalog spotCatalog;
+
+    private RouteCardService routeCardService;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO member (id, email, nickname, status) VALUES (?, ?, ?, 'ACTIVE')",
+                    id, "member" + id + "@tripnote.com", "member" + id);
+        }
+        for (long id = 1; id <= 6; id++) {
+            jdbcTemplate.update("INSERT INTO spot (id, location, region, address, lat, lng) VALUES (?, ?, 'SEOUL', '서울특별시', 37.5, 127.0)",
+                    id, "여행지" + id);
+        }
+        long[] representativeRouteIds = {1, 3, 5};
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("INSERT INTO integrated_route (id, integrated_routes, region, route_status, representative_route_id) VALUES (?, ?, 'SEOUL', 'PUBLIC', ?)",
+                    i + 1, "route" + (i + 1), representativeRouteIds[i]);
+        }
+        long[] integratedRouteOfRoute = {1, 1, 2, 2, 3};
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO route (id, member_id, integrated_route_id, route_status, expense, name) VALUES (?, 1, ?, 'PUBLIC', 0, '경로')",
+                    i + 1, integratedRouteOfRoute[i]);
+        }
+        // 경로 1: 3 -> 1 -> 2, 경로 3: 4 -> 5, 경로 5: 6
+        long[][] routeSpots = {{1, 3, 1}, {1, 1, 2}, {1, 2, 3}, {3, 4, 1}, {3, 5, 2}, {5, 6, 1}};
+        for (long[] routeSpot : routeSpots) {
+            jdbcTemplate.update("INSERT INTO route_spot (route_id, spot_id, sequence, next_spot_id) VALUES (?, ?, ?, NULL)",
+                    routeSpot[0], routeSpot[1], routeSpot[2]);
+        }
+        // 통합 경로 1의 대표 게시글은 좋아요가 더 많은 2번, 통합 경로 2의 게시글은 삭제됨
+        jdbcTemplate.update("INSERT INTO post (id, title, content, likes, report, is_deleted, member_id, route_id, created_at) VALUES (1, '제목', '내용', 5, 0, false, 2, 2, ?)", now);
+        jdbcTemplate.update("INSERT INTO post (id, title, content, likes, report, is_deleted, member_id, route_id, created_at) VALUES (2, '제목', '내용', 9, 0, false, 1, 1, ?)", now);
+        jdbcTemplate.update("INSERT INTO post (id, title, content, likes, report, is_deleted, member_id, route_id, created_at) VALUES (3, '제목', '내용', 1, 0, true, 1, 3, ?)", now);
+
+        jdbcTemplate.update("INSERT INTO like_post (member_id, route_id, liked_at) VALUES (1, 1, ?)", now);
+        jdbcTemplate.update("INSERT INTO like_post (member_id, route_id, liked_at) VALUES (2, 1, ?)", now);
+        jdbcTemplate.update("INSERT INTO like_post (member_id, route_id, liked_at) VALUES (1, 3, ?)", now);
+        jdbcTemplate.update("INSERT INTO bookmark (member_id, route_id, marked_at) VALUES (1, 5, ?)", now);
+
+        routeCardService = new RouteCardService(routeRepository, new MemberRouteMarkService(routeRepository, 100, 60_000), spotCatalog, 100, 60_000);
+    }
+
+    @Test
+    void buildsRecommendedRoutesInRequestOrder() {
+        List<RecommendedRouteResponseDTO> routes = routeCardService.getRecommendedRoutes(List.of(3L, 1L, 2L, 99L), 1L);
+
+        Assertions.assertEquals(List.of(3L, 1L, 2L), routes.stream().map(RecommendedRouteResponseDTO::getIntegratedRouteId).toList());
+        assertRoute(routes.get(0), null, List.of(6L), 0, false, true);
+        assertRoute(routes.get(1), 2L, List.of(3L, 1L, 2L), 2, true, false);
+        assertRoute(routes.get(2), null, List.of(4L, 5L), 1, true, false);
+
+        // 비회원은 좋아요/북마크 여부가 모두 false
+        for (RecommendedRouteResponseDTO route : routeCardService.getRecommendedRoutes(List.of(1L, 2L, 3L), null)) {
+            Assertions.assertFalse(route.isLikedAt());
+            Assertions.assertFalse(route.isMarkedAt());
+        }
+    }
+
+    @Test
+    void cachedCardIsReloadedOnlyAfterCommittedEviction() {
+        routeCardService.getRecommendedRoutes(List.of(1L), null);
+        jdbcTemplate.update("INSERT INTO like_post (member_id, route_id, liked_at) VALUES (3, 1, ?)", Timestamp.valueOf(LocalDateTime.now()));
+
+        Assertions.assertEquals(2, routeCardService.getRecommendedRoutes(List.of(1L), null).get(0).getLikes());
+        // 테스트 트랜잭션은 커밋되지 않으므로 캐시에서 지워지지 않는다.
+        routeCardService.evict(1L);
+        Assertions.assertEquals(2, routeCardService.getRecommendedRoutes(List.of(1L), null).get(0).getLikes());
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> routeCardService.evict(1L));
+        Assertions.assertEquals(3, routeCardService.getRecommendedRoutes(List.of(1L), null).get(0).getLikes());
+    }
+
+    @Test
+    void deletedIntegratedRouteHasNoCardOrRepresentativeRoute() {
+        // 통합 경로 3의 유일한 공개 경로가 삭제됨 (대표 경로 id는 남아 있다)
+        jdbcTemplate.update("UPDATE route SET route_status = 'DELETE' WHERE id = 5");
+        jdbcTemplate.update("UPDATE integrated_route SET route_status = 'DELETE' WHERE id = 3");
+
+        Assertions.assertEquals(List.of(1L), routeCardService.getRecommendedRoutes(List.of(3L, 1L), 1L).stream()
+                .map(RecommendedRouteResponseDTO::getIntegratedRouteId).toList());
+        Assertions.assertNull(routeRepository.getRepresentativeRoute(3L));
+        Assertions.assertEquals(1L, routeRepository.getRepresentativeRoute(1L).getId());
+    }
+
+    private static void assertRoute(RecommendedRouteResponseDTO route, Long postId, List<Long> spotIds, int likes, boolean liked, boolean marked) {
+        Assertions.assertEquals(postId, route.getPostId());
+        Assertions.assertEquals(spotIds, route.getSpots().stream().map(Spot::getId).toList());
+        Assertions.assertEquals(likes, route.getLikes());
+        Assertions.assertEquals(liked, route.isLikedAt());
+        Assertions.assertEquals(marked, route.isMarkedAt());
+    }
+}
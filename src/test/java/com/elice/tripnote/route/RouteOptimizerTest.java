@@ -0,0 +1,143 @@
+package com.elice.tripnote.route;
+
+import com.elice.tripnote.domain.route.entity.OptimizeRouteRequestDTO;
+import com.elice.tripnote.domain.route.entity.OptimizedRouteResponseDTO;
+import com.elice.tripnote.domain.route.service.RouteOptimizer;
+import com.elice.tripnote.domain.route.service.RouteOptimizerService;
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.service.SpotCatalog;
+import com.elice.tripnote.global.exception.CustomException;
+import com.elice.tripnote.global.exception.ErrorCode;
+import com.elice.tripnote.global.util.GeoUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class RouteOptimizerTest {
+
+    @Test
+    void closeToOptimalOnSmallRoutes() {
+        Random random = new Random(3);
+        for (int round = 0; round < 20; round++) {
+            int n = 8;
+            double[] dist = randomMatrix(random, n);
+            int[] order = RouteOptimizer.optimize(dist, n, true, false, 50_000_000L);
+
+            Assertions.assertEquals(0, order[0]);
+            assertPermutation(order, n);
+            double optimal = bruteForce(dist, n);
+            Assertions.assertTrue(RouteOptimizer.length(dist, n, order) <= optimal * 1.1);
+        }
+    }
+
+    @Test
+    void keepsFixedEndpoints() {
+        double[] dist = randomMatrix(new Random(5), 12);
+        int[] order = RouteOptimizer.optimize(dist, 12, true, true, 50_000_000L);
+        Assertions.assertEquals(0, order[0]);
+        Assertions.assertEquals(11, order[11]);
+        assertPermutation(order, 12);
+
+        int[] free = RouteOptimizer.optimize(dist, 12, false, false, 50_000_000L);
+        assertPermutation(free, 12);
+        Assertions.assertTrue(RouteOptimizer.length(dist, 12, free) <= RouteOptimizer.length(dist, 12, order) + 1e-6);
+    }
+
+    @Test
+    void optimizesThirtySpotRouteQuickly() {
+        Random random = new Random(11);
+        List<Spot> spots = new ArrayList<>();
+        List<Long> spotIds = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            spots.add(new Spot(id, "여행지" + id, null, Region.SEOUL, "서울특별시", 37.4 + random.nextDouble() * 0.3, 126.8 + random.nextDouble() * 0.3));
+            spotIds.add(id);
+        }
+        Collections.shuffle(spotIds, random);
+        SpotCatalog spotCatalog = mock(SpotCatalog.class);
+        Map<Long, Spot> spotById = new HashMap<>();
+        spots.forEach(spot -> spotById.put(spot.getId(), spot));
+        when(spotCatalog.getSpots(anyCollection())).thenReturn(spotById);
+        RouteOptimizerService service = new RouteOptimizerService(spotCatalog, 50, 100, 60_000);
+        // 처음 호출은 JIT 전이라 느리므로 한 번 실행한 뒤 잰다. (거리 행렬은 캐시에서 가져온다)
+        service.optimize(new OptimizeRouteRequestDTO(spotIds, true, false));
+
+        long start = System.nanoTime();
+        OptimizedRouteResponseDTO result = service.optimize(new OptimizeRouteRequestDTO(spotIds, true, false));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assertions.assertEquals(spotIds.get(0), result.getSpots().get(0).getId());
+        Assertions.assertEquals(30, new HashSet<>(result.getSpots()).size());
+        Assertions.assertTrue(result.getOptimizedDistance() < result.getOriginalDistance());
+        double length = 0;
+        for (int i = 0; i + 1 < 30; i++) {
+            Spot a = result.getSpots().get(i);
+            Spot b = result.getSpots().get(i + 1);
+            length += GeoUtils.haversine(a.getLat(), a.getLng(), b.getLat(), b.getLng());
+        }
+        Assertions.assertEquals(result.getOptimizedDistance(), length, 1e-6);
+        Assertions.assertTrue(elapsedMillis < 60, "30개 여행지 최적화: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void rejectsUnknownSpot() {
+        SpotCatalog spotCatalog = mock(SpotCatalog.class);
+        when(spotCatalog.getSpots(anyCollection())).thenReturn(Map.of());
+        RouteOptimizerService service = new RouteOptimizerService(spotCatalog, 50, 100, 60_000);
+
+        CustomException e = Assertions.assertThrows(CustomException.class,
+                () -> service.optimize(new OptimizeRouteRequestDTO(List.of(1L, 2L), true, false)));
+        Assertions.assertEquals(ErrorCode.NO_SPOT, e.getErrorCode());
+    }
+
+    private static double[] randomMatrix(Random random, int n) {
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextDouble();
+            y[i] = random.nextDouble();
+        }
+        double[] dist = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) dist[i * n + j] = Math.hypot(x[i] - x[j], y[i] - y[j]);
+        }
+        return dist;
+    }
+
+    // 0번에서 출발하는 모든 순서 중 가장 짧은 거리
+    private static double bruteForce(double[] dist, int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        double best = Double.MAX_VALUE;
+        do {
+            best = Math.min(best, RouteOptimizer.length(dist, n, order));
+        } while (nextPermutation(order, 1));
+        return best;
+    }
+
+    private static boolean nextPermutation(int[] a, int from) {
+        int i = a.length - 2;
+        while (i >= from && a[i] >= a[i + 1]) i--;
+        if (i < from) return false;
+        int j = a.length - 1;
+        while (a[j] <= a[i]) j--;
+        int tmp = a[i];
+        a[i] = a[j];
+        a[j] = tmp;
+        for (int l = i + 1, r = a.length - 1; l < r; l++, r--) {
+            tmp = a[l];
+            a[l] = a[r];
+            a[r] = tmp;
+        }
+        return true;
+    }
+
+    private static void assertPermutation(int[] order, int n) {
+        Assertions.assertEquals(n, order.length);
+        Assertions.assertEquals(n, Arrays.stream(order).distinct().filter(i -> i >= 0 && i < n).count());
+    }
+}
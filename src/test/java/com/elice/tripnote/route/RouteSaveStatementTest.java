@@ -0,0 +1,197 @@
+package com.elice.tripnote.route;
+
+import com.elice.tripnote.domain.hashtag.repository.HashtagRepository;
+import com.elice.tripnote.domain.integratedroute.repository.IntegratedRouteRepository;
+import com.elice.tripnote.domain.integratedroute.service.IntegratedRouteService;
+import com.elice.tripnote.domain.integratedroute.service.RouteLeaderboardService;
+import com.elice.tripnote.domain.likebookmarkperiod.service.LikeBookPeriodService;
+import com.elice.tripnote.domain.link.bookmark.repository.BookmarkRepository;
+import com.elice.tripnote.domain.link.likePost.repository.LikePostRepository;
+import com.elice.tripnote.domain.link.routespot.repository.RouteSpotRepository;
+import com.elice.tripnote.domain.link.uuidhashtag.repository.UUIDHashtagRepository;
+import com.elice.tripnote.domain.member.repository.MemberRepository;
+import com.elice.tripnote.domain.post.repository.PostRepository;
+import com.elice.tripnote.domain.route.entity.SaveRequestDTO;
+import com.elice.tripnote.domain.route.repository.RouteRepository;
+import com.elice.tripnote.domain.route.service.MemberRouteMarkService;
+import com.elice.tripnote.domain.route.service.RouteCardService;
+import com.elice.tripnote.domain.route.service.RouteService;
+import com.elice.tripnote.domain.route.service.SpotRouteIndexService;
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.domain.spot.service.SpotCatalog;
+import com.elice.tripnote.domain.spot.service.SpotTransitionService;
+import com.elice.tripnote.global.config.QueryDSLConfig;
+import com.elice.tripnote.global.util.CountCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 경로 저장 한 번에 DB로 나가는 SQL 수 확인 (JPA와 JdbcTemplate이 같이 쓰는 DataSource에서 센다)
+ * 여행지 카탈로그, 순위/색인 같은 메모리 서비스는 mock이고, repository는 H2에 실제로 쿼리한다.
+ */
+@DataJpaTest
+@Import({QueryDSLConfig.class, CountCache.class, RouteSaveStatementTest.StatementCounter.class})
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:route-save-statements;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+public class RouteSaveStatementTest {
+    // 여행지 수와 상관없이 경로 저장 한 번에 나갈 수 있는 최대 SQL 수
+    // (회원, 지문 조회, 통합 경로 저장/잠금 조회, 해시태그 조회, uuid_hashtag/route_spot 배치, 경로 저장, 통합 경로 공개)
+    private static final int MAX_STATEMENTS_PER_SAVE = 10;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private StatementCounter statementCounter;
+
+    @Autowired private RouteRepository routeRepository;
+    @Autowired private IntegratedRouteRepository integratedRouteRepository;
+    @Autowired private UUIDHashtagRepository uuidHashtagRepository;
+    @Autowired private RouteSpotRepository routeSpotRepository;
+    @Autowired private HashtagRepository hashtagRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private SpotRepository spotRepository;
+    @Autowired private BookmarkRepository bookmarkRepository;
+    @Autowired private LikePostRepository likePostRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private CountCache countCache;
+
+    private final SpotCatalog spotCatalog = mock(SpotCatalog.class);
+    private RouteService routeService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO member (id, email, nickname, status) VALUES (1, 'member@tripnote.com', 'member', 'ACTIVE')");
+        List<Spot> spots = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            jdbcTemplate.update("INSERT INTO spot (id, location, region, address, lat, lng) VALUES (?, ?, 'SEOUL', '서울특별시', 37.5, 127.0)",
+                    id, "여행지" + id);
+            spots.add(new Spot(id, "여행지" + id, null, Region.SEOUL, "서울특별시", 37.5, 127.0));
+        }
+        Long regionHashtagId = (long) Region.SEOUL.getIndex() + 1;
+        jdbcTemplate.update("INSERT INTO hashtag (id, name, is_city, is_delete) VALUES (?, '서울', true, false)", regionHashtagId);
+        for (long id = 20; id <= 22; id++) {
+            jdbcTemplate.update("INSERT INTO hashtag (id, name, is_city, is_delete) VALUES (?, ?, false, false)", id, "해시태그" + id);
+        }
+
+        // 카탈로그에 모든 여행지가 올라와 있는 상태
+        when(spotCatalog.getSpots(anyCollection())).thenAnswer(invocation -> spots.stream()
+                .filter(spot -> invocation.<Collection<Long>>getArgument(0).contains(spot.getId()))
+                .collect(Collectors.toMap(Spot::getId, Function.identity())));
+
+        // 통합 경로 생성은 프록시 없이 같은 트랜잭션에서 실행된다. (실제로는 새 트랜잭션이지만 나가는 SQL은 같다)
+        routeService = new RouteService(routeRepository, integratedRouteRepository,
+                new IntegratedRouteService(integratedRouteRepository, 100),
+                uuidHashtagRepository, routeSpotRepository, hashtagRepository, memberRepository, spotRepository, spotCatalog,
+                bookmarkRepository, likePostRepository, postRepository,
+                mock(LikeBookPeriodService.class), mock(RouteLeaderboardService.class), mock(SpotRouteIndexService.class),
+                mock(RouteCardService.class), mock(MemberRouteMarkService.class), mock(SpotTransitionService.class), countCache);
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("member@tripnote.com", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void saveUsesBoundedStatements() {
+        List<String> longRoute = statementsOfSave(LongStream.rangeClosed(1, 20).boxed().toList(), List.of(20L, 21L, 22L));
+        Assertions.assertTrue(longRoute.size() <= MAX_STATEMENTS_PER_SAVE, "경로 저장 시 SQL 수: " + longRoute.size() + "\n" + String.join("\n", longRoute));
+
+        // 여행지 수가 달라도 같은 수의 SQL로 저장한다.
+        List<String> shortRoute = statementsOfSave(List.of(3L, 2L, 1L), List.of(20L, 21L, 22L));
+        Assertions.assertEquals(longRoute.size(), shortRoute.size(), String.join("\n", shortRoute));
+
+        Assertions.assertEquals(23, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM route_spot", Integer.class));
+        Assertions.assertEquals(8, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM uuid_hashtag", Integer.class));
+        Assertions.assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM integrated_route WHERE route_status = 'PUBLIC' AND representative_route_id IS NOT NULL", Integer.class));
+    }
+
+    // 새 통합 경로가 만들어지는 경로 저장 (커밋 때 나가는 통합 경로 UPDATE까지 센다)
+    private List<String> statementsOfSave(List<Long> spotIds, List<Long> hashtagIds) {
+        SaveRequestDTO requestDto = new SaveRequestDTO();
+        ReflectionTestUtils.setField(requestDto, "name", "테스트 경로");
+        ReflectionTestUtils.setField(requestDto, "spotIds", spotIds);
+        ReflectionTestUtils.setField(requestDto, "hashtagIds", new ArrayList<>(hashtagIds));
+
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+        routeService.save(requestDto);
+        entityManager.flush();
+        return statementCounter.statements();
+    }
+
+    // DataSource를 감싸 커넥션에서 준비되는 SQL을 기록한다. (배치는 준비 한 번으로 센다)
+    static class StatementCounter implements BeanPostProcessor {
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) return bean;
+            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? counting(connection) : result;
+            });
+        }
+
+        void reset() {
+            statements.clear();
+        }
+
+        List<String> statements() {
+            return List.copyOf(statements);
+        }
+
+        private Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.equals("prepareStatement") || name.equals("prepareCall")) statements.add((String) args[0]);
+                else if (name.equals("createStatement")) statements.add("(statement)");
+                return invoke(connection, method, args);
+            });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
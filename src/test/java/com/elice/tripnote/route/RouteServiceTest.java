@@ -0,0 +1,212 @@
+package com.elice.tripnote.route;
+
+import com.elice.tripnote.domain.hashtag.entity.Hashtag;
+import com.elice.tripnote.domain.hashtag.repository.HashtagRepository;
+import com.elice.tripnote.domain.integratedroute.entity.IntegratedRoute;
+import com.elice.tripnote.domain.integratedroute.repository.IntegratedRouteRepository;
+import com.elice.tripnote.domain.integratedroute.service.IntegratedRouteService;
+import com.elice.tripnote.domain.integratedroute.service.RouteLeaderboardService;
+import com.elice.tripnote.domain.link.routespot.repository.RouteSpotRepository;
+import com.elice.tripnote.domain.link.uuidhashtag.repository.UUIDHashtagRepository;
+import com.elice.tripnote.domain.member.entity.Member;
+import com.elice.tripnote.domain.member.repository.MemberRepository;
+import com.elice.tripnote.domain.route.entity.Route;
+import com.elice.tripnote.domain.route.entity.SaveRequestDTO;
+import com.elice.tripnote.domain.route.repository.RouteRepository;
+import com.elice.tripnote.domain.route.service.RouteCardService;
+import com.elice.tripnote.domain.route.service.RouteService;
+import com.elice.tripnote.domain.route.service.SpotRouteIndexService;
+import com.elice.tripnote.domain.route.status.RouteStatus;
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.domain.spot.service.SpotCatalog;
+import com.elice.tripnote.domain.spot.service.SpotTransitionService;
+import com.elice.tripnote.global.exception.CustomException;
+import com.elice.tripnote.global.exception.ErrorCode;
+import com.elice.tripnote.global.util.CountCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RouteServiceTest {
+    @Mock private RouteRepository routeRepository;
+    @Mock private IntegratedRouteRepository integratedRouteRepository;
+    @Mock private IntegratedRouteService integratedRouteService;
+    @Mock private UUIDHashtagRepository uuidHashtagRepository;
+    @Mock private RouteSpotRepository routeSpotRepository;
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private MemberRepository memberRepository;
+    @Mock private SpotRepository spotRepository;
+    @Mock private SpotCatalog spotCatalog;
+    @Mock private RouteLeaderboardService routeLeaderboardService;
+    @Mock private SpotRouteIndexService spotRouteIndexService;
+    @Mock private RouteCardService routeCardService;
+    @Mock private SpotTransitionService spotTransitionService;
+    @Mock private CountCache countCache;
+
+    @InjectMocks
+    private RouteService routeService;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("member@tripnote.com", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void saveUsesBatchInserts() {
+        List<Long> spotIds = LongStream.rangeClosed(1, 20).boxed().toList();
+        SaveRequestDTO requestDto = saveRequest(spotIds, new ArrayList<>(List.of(20L, 21L, 22L)));
+
+        when(spotCatalog.getSpots(anyCollection())).thenReturn(spotIds.stream()
+                .collect(Collectors.toMap(id -> id, id -> new Spot(id, "여행지" + id, null, Region.SEOUL, "서울특별시", 37.5, 127.0))));
+        when(integratedRouteService.findByFingerprint(any(byte[].class))).thenReturn(Optional.empty());
+        List<IntegratedRoute> created = new ArrayList<>();
+        when(integratedRouteService.create(any(IntegratedRoute.class))).thenAnswer(invocation -> {
+            // 경로가 저장되기 전에 커밋되므로 비공개로 만들어진다.
+            Assertions.assertEquals(RouteStatus.DELETE, invocation.<IntegratedRoute>getArgument(0).getRouteStatus());
+            created.add(withId(invocation.getArgument(0), 1L));
+            return 1L;
+        });
+        when(integratedRouteRepository.findLockedByFingerprint(any(byte[].class))).thenAnswer(invocation -> Optional.of(created.get(0)));
+        when(hashtagRepository.findAllById(anyIterable())).thenReturn(List.of(
+                hashtag(2L, true), hashtag(20L, false), hashtag(21L, false), hashtag(22L, false)));
+        when(memberRepository.findByEmail("member@tripnote.com")).thenReturn(Optional.of(Member.builder().id(1L).build()));
+        when(routeRepository.save(any(Route.class))).thenAnswer(invocation -> withId(invocation.getArgument(0), 10L));
+
+        Long routeId = routeService.save(requestDto);
+
+        Assertions.assertEquals(10L, routeId);
+        verify(spotRepository, never()).findById(anyLong());
+        verify(spotRepository, never()).getRegionByspotId(anyLong());
+        verify(hashtagRepository, never()).findById(anyLong());
+        verify(routeSpotRepository, never()).save(any());
+        verify(uuidHashtagRepository, never()).save(any());
+        verify(routeSpotRepository).batchInsert(10L, spotIds);
+        verify(uuidHashtagRepository).batchInsert(1L, List.of(2L, 20L, 21L, 22L));
+        verify(routeLeaderboardService).register(1L, Region.SEOUL);
+        verify(spotRouteIndexService).add(1L, spotIds);
+        verify(spotTransitionService).addRoute(spotIds);
+        Assertions.assertEquals(RouteStatus.PUBLIC, created.get(0).getRouteStatus());
+        Assertions.assertEquals(10L, created.get(0).getRepresentativeRouteId());
+    }
+
+    @Test
+    void saveChecksMemberBeforeCreatingIntegratedRoute() {
+        List<Long> spotIds = List.of(1L, 2L, 3L);
+        when(memberRepository.findByEmail("member@tripnote.com")).thenReturn(Optional.empty());
+
+        CustomException exception = Assertions.assertThrows(CustomException.class, () -> routeService.save(saveRequest(spotIds, new ArrayList<>())));
+        Assertions.assertEquals(ErrorCode.NO_MEMBER, exception.getErrorCode());
+        verify(integratedRouteService, never()).create(any());
+    }
+
+    @Test
+    void saveReusesIntegratedRouteCreatedConcurrently() {
+        List<Long> spotIds = List.of(1L, 2L, 3L);
+        SaveRequestDTO requestDto = saveRequest(spotIds, new ArrayList<>());
+        IntegratedRoute existing = withId(IntegratedRoute.builder().integratedRoutes("uuid").region(Region.SEOUL).routeStatus(RouteStatus.PUBLIC).build(), 7L);
+        existing.updateRepresentativeRoute(3L);
+
+        when(spotCatalog.getSpots(anyCollection())).thenReturn(spotIds.stream()
+                .collect(Collectors.toMap(id -> id, id -> new Spot(id, "여행지" + id, null, Region.SEOUL, "서울특별시", 37.5, 127.0))));
+        when(integratedRouteService.findByFingerprint(any(byte[].class))).thenReturn(Optional.empty());
+        // 다른 요청이 같은 지문의 통합 경로를 먼저 저장했다.
+        when(integratedRouteService.create(any(IntegratedRoute.class))).thenThrow(new DataIntegrityViolationException("uk_integrated_route_fingerprint"));
+        when(integratedRouteRepository.findLockedByFingerprint(any(byte[].class))).thenReturn(Optional.of(existing));
+        when(memberRepository.findByEmail("member@tripnote.com")).thenReturn(Optional.of(Member.builder().id(1L).build()));
+        when(routeRepository.save(any(Route.class))).thenAnswer(invocation -> withId(invocation.getArgument(0), 10L));
+
+        Assertions.assertEquals(10L, routeService.save(requestDto));
+        verify(uuidHashtagRepository).findHashtagIdsByIntegratedRouteId(7L);
+        verify(routeSpotRepository).batchInsert(10L, spotIds);
+        verify(integratedRouteService).cache(any(byte[].class), eq(7L));
+        Assertions.assertEquals(3L, existing.getRepresentativeRouteId());
+    }
+
+    @Test
+    void deletingLastPublicRouteDeactivatesIntegratedRoute() {
+        Member member = Member.builder().id(1L).build();
+        IntegratedRoute integratedRoute = withId(IntegratedRoute.builder().integratedRoutes("uuid").region(Region.SEOUL).routeStatus(RouteStatus.PUBLIC).build(), 7L);
+        integratedRoute.updateRepresentativeRoute(3L);
+        Route route = withId(Route.builder().member(member).integratedRoute(integratedRoute).routeStatus(RouteStatus.PUBLIC).name("경로").build(), 3L);
+
+        when(memberRepository.findByEmail("member@tripnote.com")).thenReturn(Optional.of(member));
+        when(routeRepository.findById(3L)).thenReturn(Optional.of(route));
+        when(routeRepository.save(route)).thenReturn(route);
+        when(integratedRouteRepository.deleteIntegratedRoute(7L)).thenReturn(true);
+
+        routeService.deleteRoute(3L);
+
+        Assertions.assertEquals(RouteStatus.DELETE, route.getRouteStatus());
+        // 남은 공개 경로가 없으므로 대표 경로를 바꾸지 않고 추천 대상에서만 뺀다.
+        verify(routeRepository, never()).findFirstPublicRoute(anyLong());
+        verify(routeRepository, never()).moveLikesAndBookmarks(anyLong(), any());
+        verify(routeLeaderboardService).remove(7L);
+        verify(spotRouteIndexService).remove(7L);
+        verify(routeCardService).evict(7L);
+    }
+
+    @Test
+    void deletingRepresentativeRouteMovesToNextPublicRoute() {
+        Member member = Member.builder().id(1L).build();
+        IntegratedRoute integratedRoute = withId(IntegratedRoute.builder().integratedRoutes("uuid").region(Region.SEOUL).routeStatus(RouteStatus.PUBLIC).build(), 7L);
+        integratedRoute.updateRepresentativeRoute(3L);
+        Route route = withId(Route.builder().member(member).integratedRoute(integratedRoute).routeStatus(RouteStatus.PUBLIC).name("경로").build(), 3L);
+        Route next = withId(Route.builder().member(member).integratedRoute(integratedRoute).routeStatus(RouteStatus.PUBLIC).name("경로").build(), 5L);
+
+        when(memberRepository.findByEmail("member@tripnote.com")).thenReturn(Optional.of(member));
+        when(routeRepository.findById(3L)).thenReturn(Optional.of(route));
+        when(routeRepository.save(route)).thenReturn(route);
+        when(integratedRouteRepository.deleteIntegratedRoute(7L)).thenReturn(false);
+        when(routeRepository.findFirstPublicRoute(7L)).thenReturn(next);
+
+        routeService.deleteRoute(3L);
+
+        verify(routeRepository).moveLikesAndBookmarks(3L, next);
+        Assertions.assertEquals(5L, integratedRoute.getRepresentativeRouteId());
+        verify(routeLeaderboardService, never()).remove(anyLong());
+        verify(spotRouteIndexService, never()).remove(anyLong());
+    }
+
+    private static SaveRequestDTO saveRequest(List<Long> spotIds, List<Long> hashtagIds) {
+        SaveRequestDTO requestDto = new SaveRequestDTO();
+        ReflectionTestUtils.setField(requestDto, "name", "테스트 경로");
+        ReflectionTestUtils.setField(requestDto, "spotIds", spotIds);
+        ReflectionTestUtils.setField(requestDto, "hashtagIds", hashtagIds);
+        return requestDto;
+    }
+
+    private static Hashtag hashtag(Long id, boolean isCity) {
+        return withId(Hashtag.builder().name("해시태그" + id).isCity(isCity).build(), id);
+    }
+
+    private static <T> T withId(T entity, Long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+}
@@ -0,0 +1,87 @@
+package com.elice.tripnote.route;
+
+import com.elice.tripnote.domain.link.routespot.repository.RouteSpotRepository;
+import com.elice.tripnote.domain.route.service.SpotRouteIndexService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class SpotRouteIndexServiceTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void findsRoutesPassingThroughAllSpots() {
+        RouteSpotRepository routeSpotRepository = mock(RouteSpotRepository.class);
+        doAnswer(invocation -> {
+            BiConsumer<Long, Long> consumer = invocation.getArgument(0);
+            // 1번 여행지는 1~1000번 통합 경로, 2번 여행지는 3의 배수, 3번 여행지는 5의 배수 통합 경로가 지난다.
+            for (long id = 1; id <= 1000; id++) {
+                consumer.accept(id, 1L);
+                if (id % 3 == 0) consumer.accept(id, 2L);
+                if (id % 5 == 0) consumer.accept(id, 3L);
+            }
+            return null;
+        }).when(routeSpotRepository).forEachPublicIntegratedRouteSpot(any());
+
+        SpotRouteIndexService index = new SpotRouteIndexService(routeSpotRepository);
+        index.rebuild();
+
+        long[] result = index.findIntegratedRouteIds(List.of(1L, 2L, 3L));
+        Assertions.assertEquals(66, result.length);
+        for (long id : result) Assertions.assertEquals(0, id % 15);
+
+        index.add(1001L, List.of(2L, 3L));
+        long[] withNewRoute = index.findIntegratedRouteIds(List.of(2L, 3L));
+        Assertions.assertEquals(67, withNewRoute.length);
+        Assertions.assertEquals(1001L, withNewRoute[66]);
+
+        index.remove(15L);
+        Assertions.assertEquals(30L, index.findIntegratedRouteIds(List.of(1L, 2L, 3L))[0]);
+        Assertions.assertEquals(0, index.findIntegratedRouteIds(List.of(1L, 4L)).length);
+    }
+
+    @Test
+    void appliesChangesAfterCommitAndReplaysThemAcrossRebuild() {
+        RouteSpotRepository routeSpotRepository = mock(RouteSpotRepository.class);
+        SpotRouteIndexService index = new SpotRouteIndexService(routeSpotRepository);
+        doAnswer(invocation -> {
+            BiConsumer<Long, Long> consumer = invocation.getArgument(0);
+            consumer.accept(1L, 10L);
+            consumer.accept(2L, 10L);
+            // 색인을 만드는 동안 경로가 저장되고 삭제된다.
+            index.add(3L, List.of(10L));
+            index.remove(1L);
+            return null;
+        }).when(routeSpotRepository).forEachPublicIntegratedRouteSpot(any());
+
+        index.rebuild();
+        Assertions.assertArrayEquals(new long[]{2L, 3L}, index.findIntegratedRouteIds(List.of(10L)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.add(4L, List.of(10L));
+        Assertions.assertEquals(2, index.countRoutes(10L));
+        // 롤백
+        TransactionSynchronizationManager.clearSynchronization();
+        Assertions.assertEquals(2, index.countRoutes(10L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.add(4L, List.of(10L));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        Assertions.assertArrayEquals(new long[]{2L, 3L, 4L}, index.findIntegratedRouteIds(List.of(10L)));
+    }
+}
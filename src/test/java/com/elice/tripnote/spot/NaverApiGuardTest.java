@@ -0,0 +1,214 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.naver.NaverApiGuard;
+import com.elice.tripnote.domain.spot.naver.NaverClient;
+import com.elice.tripnote.domain.spot.naver.NaverSearchCache;
+import com.elice.tripnote.domain.spot.naver.ReverseGeocodeCache;
+import com.elice.tripnote.domain.spot.naver.dto.SearchLocalReq;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.domain.spot.service.SpotCatalog;
+import com.elice.tripnote.domain.spot.service.SpotGeoIndex;
+import com.elice.tripnote.domain.spot.service.SpotImageResolver;
+import com.elice.tripnote.domain.spot.service.SpotResolver;
+import com.elice.tripnote.domain.spot.service.SpotSampler;
+import com.elice.tripnote.domain.spot.service.SpotSearchIndex;
+import com.elice.tripnote.domain.spot.service.SpotService;
+import com.elice.tripnote.domain.spot.service.SpotTransitionService;
+import com.elice.tripnote.global.exception.CustomException;
+import com.elice.tripnote.global.exception.ErrorCode;
+import com.elice.tripnote.global.util.CircuitBreaker;
+import com.elice.tripnote.global.util.TokenBucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 오류/지연을 넣을 수 있는 로컬 HTTP 서버를 네이버 지역 검색 API 대신 사용한다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class NaverApiGuardTest {
+    @Mock private SpotRepository spotRepository;
+    @Mock private NaverSearchCache naverSearchCache;
+    @Mock private ReverseGeocodeCache reverseGeocodeCache;
+    @Mock private SpotImageResolver spotImageResolver;
+    @Mock private SpotTransitionService spotTransitionService;
+    @Mock private SpotSearchIndex spotSearchIndex;
+    @Mock private SpotGeoIndex spotGeoIndex;
+    @Mock private SpotResolver spotResolver;
+    @Mock private SpotCatalog spotCatalog;
+    @Mock private SpotSampler spotSampler;
+
+    @InjectMocks
+    private SpotService spotService;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long latencyMillis;
+    private NaverClient naverClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.createContext("/local", exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"total\":0,\"start\":1,\"display\":0,\"items\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        naverClient = new NaverClient(new RestTemplate());
+        ReflectionTestUtils.setField(naverClient, "naverClientId", "id");
+        ReflectionTestUtils.setField(naverClient, "naverClientSecret", "secret");
+        ReflectionTestUtils.setField(naverClient, "naverSearchLocal", "http://127.0.0.1:" + server.getAddress().getPort() + "/local");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void breakerOpensOnErrorsAndFailsFast() {
+        status = 500;
+        NaverApiGuard guard = guard(new TokenBucket(100, 100), 5_000);
+
+        for (int i = 0; i < 4; i++) assertUnavailable(guard);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, guard.getState());
+
+        // 열린 동안에는 서버를 호출하지 않는다.
+        assertUnavailable(guard);
+        Assertions.assertEquals(4, requests.get());
+        guard.shutdown();
+    }
+
+    @Test
+    void clientErrorsDoNotOpenBreaker() {
+        status = 400;
+        NaverApiGuard guard = guard(new TokenBucket(100, 100), 5_000);
+
+        for (int i = 0; i < 6; i++) assertUnavailable(guard);
+
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, guard.getState());
+        Assertions.assertEquals(6, requests.get());
+        guard.shutdown();
+    }
+
+    @Test
+    void tooManyRequestsOpensBreaker() {
+        status = 429;
+        NaverApiGuard guard = guard(new TokenBucket(100, 100), 5_000);
+
+        for (int i = 0; i < 4; i++) assertUnavailable(guard);
+
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, guard.getState());
+        guard.shutdown();
+    }
+
+    @Test
+    void slowCallsTimeOutWithoutHoldingCaller() {
+        latencyMillis = 1_000;
+        NaverApiGuard guard = guard(new TokenBucket(100, 100), 100);
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 4; i++) assertUnavailable(guard);
+        long elapsed = System.currentTimeMillis() - start;
+
+        Assertions.assertTrue(elapsed < 4 * latencyMillis / 2, "걸린 시간: " + elapsed + "ms");
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, guard.getState());
+        guard.shutdown();
+    }
+
+    @Test
+    void rateLimiterRejectsWithoutCallingApi() {
+        NaverApiGuard guard = guard(new TokenBucket(2, 0.001), 5_000);
+
+        guard.call(() -> naverClient.searchLocal(localReq()));
+        guard.call(() -> naverClient.searchLocal(localReq()));
+        assertUnavailable(guard);
+
+        Assertions.assertEquals(2, requests.get());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, guard.getState());
+        guard.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void spotSearchFallsBackToDbWhenBreakerIsOpen() {
+        status = 500;
+        NaverApiGuard guard = guard(new TokenBucket(100, 100), 5_000);
+        for (int i = 0; i < 4; i++) assertUnavailable(guard);
+
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        NaverSearchCache guardedCache = new NaverSearchCache(naverClient, guard, redisTemplate, new ObjectMapper(), 100, 60_000, 1_000);
+        when(naverSearchCache.searchLocal(any())).thenAnswer(invocation -> guardedCache.searchLocal(invocation.getArgument(0)));
+
+        // 검색 색인이 준비되지 않았으므로 DB에서 찾는다.
+        Spot exact = new Spot(1L, "경복궁", null, Region.SEOUL, "서울특별시 종로구", 37.57, 126.97);
+        Spot similar = new Spot(2L, "경복궁 근정전", null, Region.SEOUL, "서울특별시 종로구", 37.57, 126.97);
+        when(spotRepository.findSpotByRegionAndLocation(Region.SEOUL, "경복궁")).thenReturn(exact);
+        when(spotRepository.findByRegionAndLocation(Region.SEOUL, "경복궁")).thenReturn(List.of(exact, similar));
+
+        List<Spot> spots = spotService.getSpotsByRegionAndLocation(Region.SEOUL, "경복궁");
+
+        Assertions.assertEquals(List.of(exact, similar), spots);
+        Assertions.assertEquals(4, requests.get());
+        guard.shutdown();
+    }
+
+    private static NaverApiGuard guard(TokenBucket rateLimiter, long timeoutMillis) {
+        return new NaverApiGuard(new CircuitBreaker(10, 4, 0.5, 1.0, 10_000, 60_000, 1),
+                rateLimiter, Long.MAX_VALUE, 4, 10, timeoutMillis);
+    }
+
+    private void assertUnavailable(NaverApiGuard guard) {
+        CustomException e = Assertions.assertThrows(CustomException.class,
+                () -> guard.call(() -> naverClient.searchLocal(localReq())));
+        Assertions.assertEquals(ErrorCode.NAVER_API_UNAVAILABLE, e.getErrorCode());
+    }
+
+    private static SearchLocalReq localReq() {
+        SearchLocalReq req = new SearchLocalReq();
+        req.setQuery("경복궁");
+        return req;
+    }
+}
@@ -0,0 +1,85 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.spot.naver.NaverApiGuard;
+import com.elice.tripnote.domain.spot.naver.NaverClient;
+import com.elice.tripnote.domain.spot.naver.NaverSearchCache;
+import com.elice.tripnote.domain.spot.naver.dto.SearchImageReq;
+import com.elice.tripnote.domain.spot.naver.dto.SearchImageRes;
+import com.elice.tripnote.domain.spot.naver.dto.SearchLocalReq;
+import com.elice.tripnote.domain.spot.naver.dto.SearchLocalRes;
+import com.elice.tripnote.global.util.CircuitBreaker;
+import com.elice.tripnote.global.util.TokenBucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class NaverSearchCacheTest {
+    private NaverClient naverClient;
+    private ValueOperations<String, String> valueOperations;
+    private NaverSearchCache naverSearchCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        naverClient = mock(NaverClient.class);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        naverSearchCache = new NaverSearchCache(naverClient, permissiveGuard(), redisTemplate, new ObjectMapper(), 100, 60_000, 1_000);
+    }
+
+    @Test
+    void sameNormalizedQueryCallsApiOnce() {
+        SearchLocalRes res = new SearchLocalRes("", 1, 1, 1, List.of(new SearchLocalRes.SearchLocalItem()));
+        when(naverClient.searchLocal(any())).thenReturn(res);
+
+        naverSearchCache.searchLocal(localReq("경복궁"));
+        naverSearchCache.searchLocal(localReq("  경복궁 "));
+
+        verify(naverClient, times(1)).searchLocal(any());
+        Assertions.assertEquals(1, naverSearchCache.getStats().getLocalHits());
+        Assertions.assertEquals(1, naverSearchCache.getStats().getMisses());
+    }
+
+    @Test
+    void emptyResultIsCached() {
+        when(naverClient.searchImage(any())).thenReturn(new SearchImageRes());
+        SearchImageReq req = new SearchImageReq();
+        req.setQuery("없는 여행지");
+
+        naverSearchCache.searchImage(req);
+        naverSearchCache.searchImage(req);
+
+        verify(naverClient, times(1)).searchImage(any());
+        Assertions.assertEquals(1, naverSearchCache.getStats().getNegativeHits());
+    }
+
+    @Test
+    void redisFailureFallsBackToApi() {
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        when(naverClient.searchLocal(any())).thenReturn(new SearchLocalRes("", 1, 1, 1, List.of(new SearchLocalRes.SearchLocalItem())));
+
+        Assertions.assertNotNull(naverSearchCache.searchLocal(localReq("남산타워")));
+        verify(naverClient).searchLocal(any());
+    }
+
+    private static NaverApiGuard permissiveGuard() {
+        return new NaverApiGuard(new CircuitBreaker(100, 100, 1.0, 1.0, 60_000, 1_000, 1),
+                new TokenBucket(1_000, 1_000), Long.MAX_VALUE, 4, 100, 5_000);
+    }
+
+    private static SearchLocalReq localReq(String query) {
+        SearchLocalReq req = new SearchLocalReq();
+        req.setQuery(query);
+        return req;
+    }
+}
@@ -0,0 +1,122 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.dto.AddressDTO;
+import com.elice.tripnote.domain.spot.naver.NaverClient;
+import com.elice.tripnote.domain.spot.naver.ReverseGeocodeCache;
+import com.elice.tripnote.domain.spot.naver.dto.ReverseGeocodeRes;
+import com.elice.tripnote.global.exception.CustomException;
+import com.elice.tripnote.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ReverseGeocodeCacheTest {
+    private NaverClient naverClient;
+    private ValueOperations<String, String> valueOperations;
+    private ReverseGeocodeCache reverseGeocodeCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        naverClient = mock(NaverClient.class);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        reverseGeocodeCache = new ReverseGeocodeCache(naverClient, redisTemplate, new ObjectMapper(), 0.001, 100, 60_000, true);
+    }
+
+    @Test
+    void coordinatesInSameCellCallApiOnce() {
+        when(naverClient.reverseGeocode(anyDouble(), anyDouble())).thenReturn(res("서울특별시", "종로구", "세종로", "1", "68"));
+
+        AddressDTO first = reverseGeocodeCache.getAddress(37.57591, 126.97681);
+        AddressDTO second = reverseGeocodeCache.getAddress(37.57549, 126.97612);
+
+        Assertions.assertEquals(Region.SEOUL, first.getRegion());
+        Assertions.assertEquals("서울특별시 종로구 세종로 1-68", first.getAddress());
+        Assertions.assertSame(first, second);
+        // 칸 중심 좌표로 한 번만 호출
+        verify(naverClient, times(1)).reverseGeocode(eq(37.5755, 0.000001), eq(126.9765, 0.000001));
+        verify(valueOperations, times(1)).set(startsWith("naver:geocode:"), anyString(), any(Duration.class));
+
+        reverseGeocodeCache.getAddress(37.5770, 126.9768);
+        verify(naverClient, times(2)).reverseGeocode(anyDouble(), anyDouble());
+    }
+
+    @Test
+    void concurrentLookupsForSameCellAreDeduplicated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(naverClient.reverseGeocode(anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return res("경기도", "용인시 처인구", "포곡읍", "310", null);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<AddressDTO>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            double offset = i * 0.0001;
+            results.add(executor.submit(() -> reverseGeocodeCache.getAddress(37.2935 + offset / 10, 127.2025 + offset / 10)));
+        }
+        Thread.sleep(200);
+        release.countDown();
+        for (Future<AddressDTO> result : results) {
+            Assertions.assertEquals("경기도 용인시 처인구 포곡읍 310", result.get(5, TimeUnit.SECONDS).getAddress());
+        }
+        executor.shutdown();
+
+        verify(naverClient, times(1)).reverseGeocode(anyDouble(), anyDouble());
+    }
+
+    @Test
+    void emptyResultIsCachedButFailureIsNot() {
+        when(naverClient.reverseGeocode(anyDouble(), anyDouble()))
+                .thenReturn(new ReverseGeocodeRes())
+                .thenThrow(new ResourceAccessException("timeout"));
+
+        AddressDTO sea = reverseGeocodeCache.getAddress(34.0, 128.0);
+        Assertions.assertNull(sea.getRegion());
+        Assertions.assertNull(sea.getAddress());
+        reverseGeocodeCache.getAddress(34.0, 128.0);
+        verify(naverClient, times(1)).reverseGeocode(anyDouble(), anyDouble());
+
+        CustomException e = Assertions.assertThrows(CustomException.class, () -> reverseGeocodeCache.getAddress(35.0, 128.0));
+        Assertions.assertEquals(ErrorCode.NAVER_API_UNAVAILABLE, e.getErrorCode());
+        Assertions.assertEquals(1, reverseGeocodeCache.size());
+    }
+
+    private static ReverseGeocodeRes res(String area1, String area2, String area3, String number1, String number2) {
+        ReverseGeocodeRes.Result.Region region = new ReverseGeocodeRes.Result.Region();
+        region.setArea1(area(area1));
+        region.setArea2(area(area2));
+        region.setArea3(area(area3));
+        region.setArea4(area(""));
+        ReverseGeocodeRes.Result.Land land = new ReverseGeocodeRes.Result.Land();
+        land.setNumber1(number1);
+        land.setNumber2(number2);
+        ReverseGeocodeRes.Result result = new ReverseGeocodeRes.Result();
+        result.setRegion(region);
+        result.setLand(land);
+        ReverseGeocodeRes res = new ReverseGeocodeRes();
+        res.setResults(List.of(result));
+        return res;
+    }
+
+    private static ReverseGeocodeRes.Result.Region.Area area(String name) {
+        ReverseGeocodeRes.Result.Region.Area area = new ReverseGeocodeRes.Result.Region.Area();
+        area.setName(name);
+        return area;
+    }
+}
@@ -0,0 +1,111 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.event.SpotSavedEvent;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.domain.spot.service.SpotCatalog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+public class SpotCatalogTest {
+
+    @Test
+    void resolvesIdsWithoutQueries() {
+        List<Spot> spots = new ArrayList<>();
+        for (long id = 1_000; id >= 1; id--) spots.add(spot(id, Region.values()[(int) (id % 5)]));
+        SpotRepository spotRepository = mock(SpotRepository.class);
+        when(spotRepository.findAll()).thenReturn(spots);
+        SpotCatalog catalog = new SpotCatalog(spotRepository);
+        catalog.rebuild();
+
+        Map<Long, Spot> found = catalog.getSpots(List.of(3L, 500L, 1_000L));
+
+        Assertions.assertEquals(1_000, catalog.size());
+        Assertions.assertEquals("여행지500", found.get(500L).getLocation());
+        Assertions.assertEquals(Region.values()[3], catalog.getRegion(3L));
+        Assertions.assertEquals(37.5 + 1_000 * 0.001, found.get(1_000L).getLat());
+        // 같은 여행지는 같은 객체를 쓴다.
+        Assertions.assertSame(found.get(3L), catalog.get(3L));
+        verify(spotRepository, never()).findAllById(anyIterable());
+    }
+
+    @Test
+    void loadsMissesOnceAndKeepsIdsSorted() {
+        SpotRepository spotRepository = mock(SpotRepository.class);
+        when(spotRepository.findAll()).thenReturn(List.of(spot(10L, Region.SEOUL), spot(20L, Region.BUSAN)));
+        SpotCatalog catalog = new SpotCatalog(spotRepository);
+        catalog.rebuild();
+
+        // 새로 저장된 여행지는 이벤트로 추가된다.
+        catalog.onSpotSaved(new SpotSavedEvent(spot(30L, Region.JEJU)));
+        // 카탈로그에 없는 여행지는 DB에서 한 번에 읽어서 중간에 끼워 넣는다.
+        when(spotRepository.findAllById(anyIterable())).thenReturn(List.of(spot(15L, Region.SEOUL)));
+        Map<Long, Spot> found = catalog.getSpots(List.of(10L, 15L, 30L, 99L));
+
+        Assertions.assertEquals(3, found.size());
+        Assertions.assertFalse(found.containsKey(99L));
+        Assertions.assertEquals(4, catalog.size());
+        Assertions.assertEquals(Region.JEJU, catalog.getRegion(30L));
+        Assertions.assertEquals(Region.SEOUL, catalog.getRegion(15L));
+        Assertions.assertEquals(Region.BUSAN, catalog.get(20L).getRegion());
+        Assertions.assertNull(catalog.get(99L));
+        verify(spotRepository, times(1)).findAllById(List.of(15L, 99L));
+    }
+
+    @Test
+    void replacesUpdatedSpotOnSavedEvent() {
+        SpotRepository spotRepository = mock(SpotRepository.class);
+        when(spotRepository.findAll()).thenReturn(List.of(spot(10L, Region.SEOUL), spot(20L, Region.BUSAN)));
+        SpotCatalog catalog = new SpotCatalog(spotRepository);
+        catalog.rebuild();
+        Spot before = catalog.get(10L);
+        long version = catalog.version(Region.SEOUL);
+
+        // 값이 같으면 그대로 둔다.
+        catalog.onSpotSaved(new SpotSavedEvent(spot(10L, Region.SEOUL)));
+        Assertions.assertSame(before, catalog.get(10L));
+        Assertions.assertEquals(version, catalog.version(Region.SEOUL));
+
+        // upsert로 주소/좌표/이미지가 바뀐 여행지는 새 값으로 바꾼다.
+        catalog.onSpotSaved(new SpotSavedEvent(new Spot(10L, "여행지10", "image.png", Region.SEOUL, "서울특별시 중구", 37.6, 127.1)));
+        Spot after = catalog.get(10L);
+        Assertions.assertEquals("서울특별시 중구", after.getAddress());
+        Assertions.assertEquals(37.6, after.getLat());
+        Assertions.assertEquals("image.png", after.getImageUrl());
+        Assertions.assertEquals(2, catalog.size());
+        Assertions.assertEquals("여행지20", catalog.get(20L).getLocation());
+        // 이미 꺼내 간 객체는 바뀌지 않는다.
+        Assertions.assertEquals(37.5 + 10 * 0.001, before.getLat());
+        // id 목록은 그대로이므로 버전도 그대로다.
+        Assertions.assertEquals(version, catalog.version(Region.SEOUL));
+    }
+
+    @Test
+    void versionChangesOnlyForRegionOfAddedSpot() {
+        SpotRepository spotRepository = mock(SpotRepository.class);
+        when(spotRepository.findAll()).thenReturn(List.of(spot(10L, Region.SEOUL), spot(20L, Region.BUSAN)));
+        SpotCatalog catalog = new SpotCatalog(spotRepository);
+        catalog.rebuild();
+        long seoul = catalog.version(Region.SEOUL);
+        long busan = catalog.version(Region.BUSAN);
+        long all = catalog.version(Region.ALL);
+
+        catalog.add(spot(30L, Region.BUSAN));
+
+        Assertions.assertEquals(seoul, catalog.version(Region.SEOUL));
+        Assertions.assertNotEquals(busan, catalog.version(Region.BUSAN));
+        Assertions.assertNotEquals(all, catalog.version(Region.ALL));
+    }
+
+    private static Spot spot(long id, Region region) {
+        return new Spot(id, "여행지" + id, null, region, region.getName(), 37.5 + id * 0.001, 127.0);
+    }
+}
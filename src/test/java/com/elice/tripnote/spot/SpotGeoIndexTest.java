@@ -0,0 +1,149 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.dto.NearbySpotDTO;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.event.SpotSavedEvent;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.domain.spot.service.SpotGeoIndex;
+import com.elice.tripnote.global.util.GeoUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.*;
+
+public class SpotGeoIndexTest {
+
+    @Test
+    void haversine() {
+        // 서울역 - 부산역 약 325km
+        double distance = GeoUtils.haversine(37.5547, 126.9707, 35.1151, 129.0422);
+        Assertions.assertEquals(325_000, distance, 5_000);
+        Assertions.assertEquals(0, GeoUtils.haversine(37.5, 127.0, 37.5, 127.0));
+    }
+
+    @Test
+    void matchesBruteForce() {
+        Random random = new Random(7);
+        List<Spot> spots = new ArrayList<>();
+        for (long id = 1; id <= 20_000; id++) {
+            spots.add(spot(id, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5));
+        }
+        SpotGeoIndex index = index(spots);
+
+        for (int i = 0; i < 200; i++) {
+            double lat = 33 + random.nextDouble() * 5;
+            double lng = 125 + random.nextDouble() * 5;
+            double radius = 1_000 + random.nextDouble() * 20_000;
+            int limit = 1 + random.nextInt(20);
+
+            List<Long> expected = spots.stream()
+                    .filter(spot -> GeoUtils.haversine(lat, lng, spot.getLat(), spot.getLng()) <= radius)
+                    .sorted(Comparator.comparingDouble((Spot spot) -> GeoUtils.haversine(lat, lng, spot.getLat(), spot.getLng()))
+                            .thenComparing(Spot::getId))
+                    .limit(limit)
+                    .map(Spot::getId)
+                    .toList();
+            List<Long> actual = index.findNearest(lat, lng, radius, limit).stream()
+                    .map(nearbySpot -> nearbySpot.getSpot().getId())
+                    .toList();
+            Assertions.assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void addsSavedSpotsAndCapsRadius() {
+        SpotGeoIndex index = index(List.of(spot(1L, 37.5665, 126.9780)));
+        index.onSpotSaved(new SpotSavedEvent(spot(2L, 37.5700, 126.9768)));
+        index.onSpotSaved(new SpotSavedEvent(spot(2L, 37.5700, 126.9768)));
+
+        List<NearbySpotDTO> nearby = index.findNearest(37.5665, 126.9780, 1_000, 10);
+        Assertions.assertEquals(List.of(1L, 2L), nearby.stream().map(nearbySpot -> nearbySpot.getSpot().getId()).toList());
+        Assertions.assertEquals(0, nearby.get(0).getDistance(), 0.001);
+
+        // 부산은 최대 반경(50km) 밖
+        Assertions.assertEquals(List.of(), index.findNearest(35.1151, 129.0422, 1_000_000, 10));
+    }
+
+    @Test
+    void movesUpdatedSpotsToTheirNewCell() {
+        SpotGeoIndex index = index(List.of(spot(1L, 37.5665, 126.9780), spot(2L, 37.5700, 126.9768)));
+
+        // 2번이 부산으로 옮겨지면 서울에서는 찾지 않고 부산에서 찾는다.
+        Spot moved = spot(2L, 35.1151, 129.0422);
+        index.onSpotSaved(new SpotSavedEvent(moved));
+        Assertions.assertEquals(List.of(1L), ids(index.findNearest(37.5665, 126.9780, 1_000, 10)));
+        Assertions.assertSame(moved, index.findNearest(35.1151, 129.0422, 1_000, 10).get(0).getSpot());
+
+        // 같은 칸 안에서 좌표만 바뀌면 거리도 새 좌표로 잰다.
+        index.onSpotSaved(new SpotSavedEvent(spot(1L, 37.5666, 126.9780)));
+        List<NearbySpotDTO> nearby = index.findNearest(37.5665, 126.9780, 1_000, 10);
+        Assertions.assertEquals(List.of(1L), ids(nearby));
+        Assertions.assertEquals(11, nearby.get(0).getDistance(), 1);
+    }
+
+    @Test
+    void answersFromDbUntilBuiltInBackground() throws InterruptedException {
+        List<Spot> spots = List.of(spot(1L, 37.5665, 126.9780), spot(2L, 37.5700, 126.9768), spot(3L, 37.6000, 127.0500));
+        SpotRepository spotRepository = mock(SpotRepository.class);
+        CountDownLatch release = new CountDownLatch(1);
+        when(spotRepository.findAll()).thenAnswer(invocation -> {
+            release.await();
+            return spots;
+        });
+        when(spotRepository.findByLatBetweenAndLngBetween(anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenReturn(spots);
+        SpotGeoIndex index = new SpotGeoIndex(spotRepository, 0.01, 50_000);
+
+        // 색인을 만드는 동안 요청 스레드는 기다리지 않고 DB 결과로 응답한다. (범위 모서리의 3번은 반경 밖)
+        Assertions.assertEquals(List.of(1L, 2L), ids(index.findNearest(37.5665, 126.9780, 1_000, 10)));
+        Assertions.assertEquals(List.of(1L), ids(index.findNearest(37.5665, 126.9780, 1_000, 1)));
+        Assertions.assertFalse(index.isReady());
+
+        release.countDown();
+        for (int i = 0; i < 500 && !index.isReady(); i++) Thread.sleep(10);
+        Assertions.assertTrue(index.isReady());
+        Assertions.assertEquals(List.of(1L, 2L), ids(index.findNearest(37.5665, 126.9780, 1_000, 10)));
+        verify(spotRepository, times(1)).findAll();
+        verify(spotRepository, times(2)).findByLatBetweenAndLngBetween(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void keepsServingAndReplaysSavesDuringRebuild() {
+        SpotRepository spotRepository = mock(SpotRepository.class);
+        SpotGeoIndex index = new SpotGeoIndex(spotRepository, 0.01, 50_000);
+        when(spotRepository.findAll()).thenReturn(List.of(spot(1L, 37.5665, 126.9780))).thenAnswer(invocation -> {
+            // 기존 색인이 비워지지 않고 그대로 조회된다.
+            Assertions.assertEquals(List.of(1L), ids(index.findNearest(37.5665, 126.9780, 1_000, 10)));
+            index.add(spot(2L, 37.5700, 126.9768));
+            return List.of(spot(1L, 37.5665, 126.9780));
+        });
+        index.rebuild();
+
+        index.rebuild();
+
+        Assertions.assertEquals(List.of(1L, 2L), ids(index.findNearest(37.5665, 126.9780, 1_000, 10)));
+    }
+
+    private static List<Long> ids(List<NearbySpotDTO> nearby) {
+        return nearby.stream().map(nearbySpot -> nearbySpot.getSpot().getId()).toList();
+    }
+
+    private static SpotGeoIndex index(List<Spot> spots) {
+        SpotRepository spotRepository = mock(SpotRepository.class);
+        when(spotRepository.findAll()).thenReturn(spots);
+        SpotGeoIndex index = new SpotGeoIndex(spotRepository, 0.01, 50_000);
+        index.rebuild();
+        return index;
+    }
+
+    private static Spot spot(Long id, double lat, double lng) {
+        return new Spot(id, "여행지" + id, null, Region.SEOUL, "주소", lat, lng);
+    }
+}
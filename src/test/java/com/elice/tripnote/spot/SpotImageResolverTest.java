@@ -0,0 +1,116 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.spot.naver.NaverApiGuard;
+import com.elice.tripnote.domain.spot.naver.NaverClient;
+import com.elice.tripnote.domain.spot.naver.NaverSearchCache;
+import com.elice.tripnote.domain.spot.service.SpotImageResolver;
+import com.elice.tripnote.global.util.CircuitBreaker;
+import com.elice.tripnote.global.util.TokenBucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * 지연 시간을 넣은 로컬 HTTP 서버를 네이버 이미지 검색 API 대신 사용해서
+ * 이미지 검색이 동시에 실행되는지, 제한 시간을 넘기면 null이 되는지 확인한다.
+ */
+public class SpotImageResolverTest {
+    private static final int QUERIES = 10;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private volatile long latencyMillis;
+    private NaverSearchCache naverSearchCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(QUERIES * 2);
+        server.setExecutor(serverExecutor);
+        server.createContext("/image", exchange -> {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"total\":1,\"start\":1,\"display\":1,\"items\":[{\"link\":\"https://image.tripnote.com/1.jpg\"}]}"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        NaverClient naverClient = new NaverClient(new RestTemplate());
+        ReflectionTestUtils.setField(naverClient, "naverClientId", "id");
+        ReflectionTestUtils.setField(naverClient, "naverClientSecret", "secret");
+        ReflectionTestUtils.setField(naverClient, "naverSearchImage", "http://127.0.0.1:" + server.getAddress().getPort() + "/image");
+
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        naverSearchCache = new NaverSearchCache(naverClient, new NaverApiGuard(new CircuitBreaker(100, 100, 1.0, 1.0, 60_000, 1_000, 1),
+                new TokenBucket(1_000, 1_000), Long.MAX_VALUE, QUERIES, 100, 10_000), redisTemplate, new ObjectMapper(), 100, 60_000, 1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void lookupsRunConcurrently() {
+        latencyMillis = 300;
+        SpotImageResolver resolver = new SpotImageResolver(naverSearchCache, QUERIES, 100, 5_000);
+
+        long start = System.currentTimeMillis();
+        List<String> imageUrls = resolver.findImageUrls(queries("여행지"));
+        long elapsed = System.currentTimeMillis() - start;
+        resolver.shutdown();
+
+        Assertions.assertEquals(QUERIES, imageUrls.size());
+        imageUrls.forEach(Assertions::assertNotNull);
+        // 순서대로 호출하면 3초 이상 걸린다.
+        Assertions.assertTrue(elapsed < QUERIES * latencyMillis / 2, "걸린 시간: " + elapsed + "ms");
+    }
+
+    @Test
+    void lookupsMissingDeadlineReturnNull() {
+        latencyMillis = 2_000;
+        SpotImageResolver resolver = new SpotImageResolver(naverSearchCache, QUERIES, 100, 300);
+
+        long start = System.currentTimeMillis();
+        List<String> imageUrls = resolver.findImageUrls(queries("느린 여행지"));
+        long elapsed = System.currentTimeMillis() - start;
+        resolver.shutdown();
+
+        Assertions.assertEquals(QUERIES, imageUrls.size());
+        imageUrls.forEach(Assertions::assertNull);
+        Assertions.assertTrue(elapsed < latencyMillis, "걸린 시간: " + elapsed + "ms");
+    }
+
+    private static List<String> queries(String prefix) {
+        return IntStream.range(0, QUERIES).mapToObj(i -> prefix + i).toList();
+    }
+}
@@ -0,0 +1,99 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.dto.SpotImportResultDTO;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.domain.spot.service.SpotCatalog;
+import com.elice.tripnote.domain.spot.service.SpotGeoIndex;
+import com.elice.tripnote.domain.spot.service.SpotImportService;
+import com.elice.tripnote.domain.spot.service.SpotSearchIndex;
+import com.elice.tripnote.global.exception.CustomException;
+import com.elice.tripnote.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class SpotImportServiceTest {
+    private final List<List<Spot>> batches = new ArrayList<>();
+    private SpotSearchIndex spotSearchIndex;
+    private SpotImportService spotImportService;
+
+    @BeforeEach
+    void setUp() {
+        SpotRepository spotRepository = mock(SpotRepository.class);
+        // 경복궁은 이미 있는 여행지
+        when(spotRepository.upsertSpots(anyList())).thenAnswer(invocation -> {
+            List<Spot> batch = new ArrayList<>(invocation.getArgument(0));
+            batches.add(batch);
+            return (int) batch.stream().filter(spot -> !spot.getLocation().equals("경복궁")).count();
+        });
+        spotSearchIndex = mock(SpotSearchIndex.class);
+        spotImportService = new SpotImportService(spotRepository, new ObjectMapper(), spotSearchIndex, mock(SpotGeoIndex.class), mock(SpotCatalog.class), 2, 1_000);
+    }
+
+    @Test
+    void importsCsvInBatches() {
+        String csv = "\uFEFFlocation,address,lat,lng,region,imageUrl\r\n" +
+                "경복궁,서울특별시 종로구 사직로 161,37.5796,126.9770,,\r\n" +
+                "경복궁,서울특별시 종로구 사직로 161,37.5796,126.9770,,http://palace\r\n" +
+                "\"카페 \"\"경복궁\"\", 본점\",서울특별시 종로구 자하문로,37.58,126.97,서울특별시,http://image\r\n" +
+                "경복궁,서울특별시 종로구 사직로 161,37.5796,126.9770,,\r\n" +
+                "에버랜드,경기도 용인시 처인구,37.2940,127.2020,,\r\n" +
+                "화성 여행지,화성 어딘가,37.0,127.0,,\r\n" +
+                "좌표 없음,서울특별시 중구,,,,\r\n";
+
+        SpotImportResultDTO result = spotImportService.importSpots(stream(csv), "csv");
+
+        // 같은 배치 안의 중복은 나중 행으로 덮어쓰고, 다른 배치의 중복은 upsert로 수정된다.
+        Assertions.assertEquals(7, result.getRead());
+        Assertions.assertEquals(2, result.getInserted());
+        Assertions.assertEquals(2, result.getUpdated());
+        Assertions.assertEquals(1, result.getDuplicates());
+        Assertions.assertEquals(2, result.getInvalid());
+
+        Assertions.assertEquals(List.of(2, 2), batches.stream().map(List::size).toList());
+        Assertions.assertEquals("http://palace", batches.get(0).get(0).getImageUrl());
+        Spot cafe = batches.get(0).get(1);
+        Assertions.assertEquals("카페 \"경복궁\", 본점", cafe.getLocation());
+        Assertions.assertEquals(Region.SEOUL, cafe.getRegion());
+        Assertions.assertEquals("http://image", cafe.getImageUrl());
+        Assertions.assertEquals("경복궁", batches.get(1).get(0).getLocation());
+        Assertions.assertEquals(Region.GYEONGGI, batches.get(1).get(1).getRegion());
+        verify(spotSearchIndex).rebuild();
+    }
+
+    @Test
+    void importsJsonArray() {
+        String json = "[{\"location\":\"에버랜드\",\"address\":\"경기도 용인시 처인구\",\"lat\":37.294,\"lng\":127.202}," +
+                "{\"location\":\"해운대\",\"region\":\"부산광역시\",\"address\":\"부산 해운대구\",\"lat\":35.158,\"lng\":129.160}]";
+
+        SpotImportResultDTO result = spotImportService.importSpots(stream(json), "json");
+
+        Assertions.assertEquals(2, result.getRead());
+        Assertions.assertEquals(2, result.getInserted());
+        Assertions.assertEquals(Region.BUSAN, batches.get(0).get(1).getRegion());
+    }
+
+    @Test
+    void rejectsUnknownFormat() {
+        CustomException e = Assertions.assertThrows(CustomException.class,
+                () -> spotImportService.importSpots(stream("location"), "xlsx"));
+        Assertions.assertEquals(ErrorCode.INVALID_IMPORT_FILE, e.getErrorCode());
+        verifyNoInteractions(spotSearchIndex);
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
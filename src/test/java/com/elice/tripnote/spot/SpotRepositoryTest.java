@@ -0,0 +1,56 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.global.config.QueryDSLConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+@DataJpaTest
+@Import(QueryDSLConfig.class)
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:spot-upsert;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+public class SpotRepositoryTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SpotRepository spotRepository;
+
+    @Test
+    void upsertUpdatesExistingSpotsAndCountsOnlyInserts() {
+        jdbcTemplate.update("INSERT INTO spot (location, image_url, region, address, lat, lng) VALUES ('경복궁', 'http://old', 'SEOUL', '옛 주소', 37.0, 126.0)");
+
+        int inserted = spotRepository.upsertSpots(List.of(
+                spot("경복궁", Region.SEOUL, "서울특별시 종로구 사직로 161", null),
+                spot("경복궁", Region.GYEONGGI, "경기도 어딘가", "http://new"),
+                spot("에버랜드", Region.GYEONGGI, "경기도 용인시 처인구", "http://everland")));
+
+        Assertions.assertEquals(2, inserted);
+        Map<String, Object> gyeongbokgung = jdbcTemplate.queryForMap("SELECT address, lat, image_url FROM spot WHERE region = 'SEOUL' AND location = '경복궁'");
+        Assertions.assertEquals("서울특별시 종로구 사직로 161", gyeongbokgung.get("address"));
+        Assertions.assertEquals(37.5796, ((Number) gyeongbokgung.get("lat")).doubleValue());
+        // 이미지가 없는 행은 기존 이미지를 그대로 둔다.
+        Assertions.assertEquals("http://old", gyeongbokgung.get("image_url"));
+        Assertions.assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM spot", Integer.class));
+
+        Assertions.assertEquals(0, spotRepository.upsertSpots(List.of(spot("에버랜드", Region.GYEONGGI, "경기도 용인시", null))));
+        Assertions.assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM spot", Integer.class));
+    }
+
+    private static Spot spot(String location, Region region, String address, String imageUrl) {
+        return Spot.builder().location(location).region(region).address(address).lat(37.5796).lng(126.9770).imageUrl(imageUrl).build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.event.SpotSavedEvent;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.domain.spot.service.SpotResolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class SpotResolverTest {
+
+    @Test
+    void resolvesExistingWithOneQueryAndSavesMissingInOneBatch() {
+        Spot gyeongbokgung = saved(1L, "경복궁");
+        Spot museum = saved(2L, "국립고궁박물관");
+        Spot cafe = saved(3L, "카페 경복궁점");
+
+        SpotRepository spotRepository = mock(SpotRepository.class);
+        when(spotRepository.findByRegionsAndLocations(anyCollection(), anyCollection()))
+                .thenReturn(List.of(gyeongbokgung))
+                .thenReturn(List.of(cafe, museum));
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        SpotResolver spotResolver = new SpotResolver(spotRepository, eventPublisher);
+
+        List<Spot> result = spotResolver.resolve(List.of(
+                candidate("국립고궁박물관"), candidate("경복궁 "), candidate("카페 경복궁점"), candidate("국립고궁박물관")));
+
+        Assertions.assertEquals(List.of(museum, gyeongbokgung, cafe), result);
+        verify(spotRepository, times(2)).findByRegionsAndLocations(anyCollection(), anyCollection());
+        verify(spotRepository).upsertSpots(argThat(spots -> spots.size() == 2
+                && spots.get(0).getLocation().equals("국립고궁박물관")
+                && spots.get(1).getLocation().equals("카페 경복궁점")));
+        verify(eventPublisher, times(2)).publishEvent(any(SpotSavedEvent.class));
+    }
+
+    @Test
+    void noSaveWhenAllExist() {
+        Spot gyeongbokgung = saved(1L, "경복궁");
+        SpotRepository spotRepository = mock(SpotRepository.class);
+        when(spotRepository.findByRegionsAndLocations(anyCollection(), anyCollection())).thenReturn(List.of(gyeongbokgung));
+        SpotResolver spotResolver = new SpotResolver(spotRepository, mock(ApplicationEventPublisher.class));
+
+        Assertions.assertEquals(List.of(gyeongbokgung), spotResolver.resolve(List.of(candidate("경복궁"))));
+        Assertions.assertEquals(List.of(), spotResolver.resolve(List.of()));
+        verify(spotRepository, never()).upsertSpots(anyList());
+    }
+
+    private static Spot candidate(String location) {
+        return Spot.builder().location(location).region(Region.SEOUL).address("서울특별시 종로구").lat(37.57).lng(126.97).build();
+    }
+
+    private static Spot saved(Long id, String location) {
+        return new Spot(id, location, null, Region.SEOUL, "서울특별시 종로구", 37.57, 126.97);
+    }
+}
@@ -0,0 +1,91 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.route.service.SpotRouteIndexService;
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.domain.spot.service.SpotCatalog;
+import com.elice.tripnote.domain.spot.service.SpotSampler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class SpotSamplerTest {
+    private SpotRepository spotRepository;
+    private SpotRouteIndexService spotRouteIndexService;
+    private SpotCatalog spotCatalog;
+    private SpotSampler spotSampler;
+
+    @BeforeEach
+    void setUp() {
+        // 1~500번은 서울, 501~1000번은 부산
+        List<Spot> spots = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            Region region = id <= 500 ? Region.SEOUL : Region.BUSAN;
+            spots.add(new Spot(id, "여행지" + id, null, region, region.getName(), 37.5, 127.0));
+        }
+        spotRepository = mock(SpotRepository.class);
+        when(spotRepository.findAll()).thenReturn(spots);
+        spotCatalog = new SpotCatalog(spotRepository);
+        spotCatalog.rebuild();
+
+        spotRouteIndexService = mock(SpotRouteIndexService.class);
+        when(spotRouteIndexService.countRoutes(anyLong())).thenReturn(0);
+        spotSampler = new SpotSampler(spotCatalog, spotRouteIndexService, 60_000);
+    }
+
+    @Test
+    void sampleIsDistinctAndInRegion() {
+        for (int i = 0; i < 100; i++) {
+            List<Spot> seoul = spotSampler.sample(Region.SEOUL, 10);
+            Assertions.assertEquals(10, seoul.size());
+            Assertions.assertEquals(10, seoul.stream().map(Spot::getId).distinct().count());
+            Assertions.assertTrue(seoul.stream().allMatch(spot -> spot.getRegion() == Region.SEOUL));
+
+            List<Spot> popular = spotSampler.samplePopular(Region.BUSAN, 10);
+            Assertions.assertEquals(10, popular.stream().map(Spot::getId).distinct().count());
+            Assertions.assertTrue(popular.stream().allMatch(spot -> spot.getRegion() == Region.BUSAN));
+        }
+        Assertions.assertEquals(10, spotSampler.sample(Region.ALL, 10).size());
+        Assertions.assertTrue(spotSampler.sample(Region.JEJU, 10).isEmpty());
+        // 여행지 수보다 많이 뽑으면 전부 돌려준다.
+        Assertions.assertEquals(500, spotSampler.samplePopular(Region.SEOUL, 600).stream().map(Spot::getId).distinct().count());
+        verify(spotRepository, times(1)).findAll();
+    }
+
+    @Test
+    void addingSpotRebuildsOnlyItsRegionTable() {
+        spotSampler.samplePopular(Region.SEOUL, 10);
+        spotSampler.samplePopular(Region.BUSAN, 10);
+        clearInvocations(spotRouteIndexService);
+
+        spotCatalog.add(new Spot(1_001L, "여행지1001", null, Region.BUSAN, Region.BUSAN.getName(), 37.5, 127.0));
+        spotSampler.samplePopular(Region.SEOUL, 10);
+        // 서울 테이블은 그대로 쓴다.
+        verify(spotRouteIndexService, never()).countRoutes(anyLong());
+
+        List<Spot> busan = spotSampler.samplePopular(Region.BUSAN, 501);
+        Assertions.assertEquals(501, busan.size());
+        verify(spotRouteIndexService, times(501)).countRoutes(anyLong());
+    }
+
+    @Test
+    void popularSpotsAreDrawnMoreOften() {
+        // 7번 여행지만 경로 999개가 지난다. (가중치 1000, 나머지 499곳은 1)
+        when(spotRouteIndexService.countRoutes(7L)).thenReturn(999);
+
+        int hits = 0;
+        for (int i = 0; i < 1_000; i++) {
+            List<Spot> spots = spotSampler.samplePopular(Region.SEOUL, 1);
+            if (spots.get(0).getId() == 7L) hits++;
+        }
+        // 기대 확률 1000 / 1499 = 약 67%
+        Assertions.assertTrue(hits > 600 && hits < 730, "7번 여행지가 뽑힌 횟수: " + hits);
+    }
+}
@@ -0,0 +1,120 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.event.SpotSavedEvent;
+import com.elice.tripnote.domain.spot.repository.SpotRepository;
+import com.elice.tripnote.domain.spot.service.SpotSearchIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SpotSearchIndexTest {
+    private final Spot gyeongbokgung = spot(1L, "경복궁", Region.SEOUL, "서울특별시 종로구 사직로 161");
+    private final Spot geunjeongjeon = spot(2L, "경복궁 근정전", Region.SEOUL, "서울특별시 종로구 세종로");
+    private final Spot museum = spot(3L, "국립고궁박물관", Region.SEOUL, "서울특별시 종로구 효자로 12 경복궁 내");
+    private final Spot gyeongbokCafe = spot(4L, "카페 경복궁점", Region.SEOUL, "서울특별시 종로구 자하문로");
+    private final Spot everland = spot(5L, "에버랜드", Region.GYEONGGI, "경기도 용인시 처인구 포곡읍");
+
+    private SpotSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        SpotRepository spotRepository = mock(SpotRepository.class);
+        when(spotRepository.findAll()).thenReturn(List.of(museum, gyeongbokCafe, geunjeongjeon, gyeongbokgung, everland));
+        index = new SpotSearchIndex(spotRepository);
+        index.rebuild();
+    }
+
+    @Test
+    void ranksExactThenPrefixThenContainsThenAddress() {
+        Assertions.assertTrue(index.isReady());
+        Assertions.assertEquals(List.of(gyeongbokgung, geunjeongjeon, gyeongbokCafe, museum),
+                index.search(Region.SEOUL, "경복궁", 10));
+        Assertions.assertEquals(List.of(gyeongbokgung, geunjeongjeon), index.search(Region.SEOUL, "경복궁", 2));
+    }
+
+    @Test
+    void ignoresWhitespaceAndCase() {
+        Assertions.assertEquals(List.of(geunjeongjeon), index.search(Region.SEOUL, "경복궁근정전", 10));
+        Assertions.assertEquals(gyeongbokgung, index.findExact(Region.SEOUL, " 경복 궁 "));
+        Assertions.assertNull(index.findExact(Region.SEOUL, "근정전"));
+    }
+
+    @Test
+    void searchesOnlyTheGivenRegion() {
+        Assertions.assertEquals(List.of(), index.search(Region.SEOUL, "에버랜드", 10));
+        Assertions.assertEquals(List.of(everland), index.search(Region.GYEONGGI, "에버랜드", 10));
+        Assertions.assertEquals(List.of(everland), index.search(Region.ALL, "에버", 10));
+        Assertions.assertEquals(List.of(everland), index.search(Region.ALL, "용인시", 10));
+    }
+
+    @Test
+    void singleCharacterQuery() {
+        Assertions.assertEquals(List.of(everland), index.search(Region.ALL, "랜", 10));
+        Assertions.assertEquals(List.of(), index.search(Region.ALL, " ", 10));
+    }
+
+    @Test
+    void addsSavedSpots() {
+        Spot gwanghwamun = spot(6L, "광화문", Region.SEOUL, "서울특별시 종로구 세종로");
+        Assertions.assertEquals(List.of(), index.search(Region.SEOUL, "광화문", 10));
+
+        index.onSpotSaved(new SpotSavedEvent(gwanghwamun));
+        index.onSpotSaved(new SpotSavedEvent(gwanghwamun));
+
+        Assertions.assertEquals(List.of(gwanghwamun), index.search(Region.SEOUL, "광화문", 10));
+        Assertions.assertEquals(List.of(gwanghwamun, geunjeongjeon), index.search(Region.SEOUL, "세종로", 10));
+    }
+
+    @Test
+    void reindexesUpdatedSpots() {
+        Spot renamed = spot(4L, "카페 광화문점", Region.SEOUL, "서울특별시 종로구 세종대로");
+        index.onSpotSaved(new SpotSavedEvent(renamed));
+
+        Assertions.assertEquals(List.of(gyeongbokgung, geunjeongjeon, museum), index.search(Region.SEOUL, "경복궁", 10));
+        Assertions.assertEquals(List.of(), index.search(Region.SEOUL, "자하문로", 10));
+        Assertions.assertSame(renamed, index.search(Region.SEOUL, "광화문", 10).get(0));
+        Assertions.assertEquals(List.of(renamed), index.search(Region.SEOUL, "세종대로", 10));
+
+        // 이름/주소는 그대로이고 다른 값만 바뀐 여행지도 새 Spot으로 돌려준다.
+        Spot withImage = new Spot(1L, "경복궁", "https://image", Region.SEOUL, "서울특별시 종로구 사직로 161", 37.5, 127.0);
+        index.onSpotSaved(new SpotSavedEvent(withImage));
+        Assertions.assertSame(withImage, index.findExact(Region.SEOUL, "경복궁"));
+
+        // 다른 지역으로 옮겨지면 예전 지역에서는 검색되지 않는다.
+        Spot moved = spot(5L, "에버랜드", Region.SEOUL, "서울특별시");
+        index.onSpotSaved(new SpotSavedEvent(moved));
+        Assertions.assertEquals(List.of(), index.search(Region.GYEONGGI, "에버랜드", 10));
+        Assertions.assertEquals(List.of(moved), index.search(Region.ALL, "에버랜드", 10));
+    }
+
+    @Test
+    void keepsServingAndReplaysSavesDuringRebuild() {
+        Spot gwanghwamun = spot(6L, "광화문", Region.SEOUL, "서울특별시 종로구 세종로");
+        SpotRepository spotRepository = mock(SpotRepository.class);
+        SpotSearchIndex rebuilding = new SpotSearchIndex(spotRepository);
+        when(spotRepository.findAll()).thenReturn(List.of(gyeongbokgung)).thenAnswer(invocation -> {
+            // 새 색인을 만드는 동안에도 기존 색인으로 검색하고, 저장된 여행지는 바로 검색된다.
+            Assertions.assertEquals(List.of(gyeongbokgung), rebuilding.search(Region.SEOUL, "경복궁", 10));
+            rebuilding.add(gwanghwamun);
+            Assertions.assertEquals(List.of(gwanghwamun), rebuilding.search(Region.SEOUL, "광화문", 10));
+            return List.of(gyeongbokgung, everland);
+        });
+        rebuilding.rebuild();
+
+        rebuilding.rebuild();
+
+        Assertions.assertEquals(List.of(gwanghwamun), rebuilding.search(Region.SEOUL, "광화문", 10));
+        Assertions.assertEquals(List.of(everland), rebuilding.search(Region.GYEONGGI, "에버랜드", 10));
+    }
+
+    private static Spot spot(Long id, String location, Region region, String address) {
+        return new Spot(id, location, null, region, address, 37.5, 127.0);
+    }
+}
@@ -0,0 +1,62 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.spot.repository.SpotTransitionRepository;
+import com.elice.tripnote.global.config.QueryDSLConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+@DataJpaTest
+@Import(QueryDSLConfig.class)
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:spot-transition;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+public class SpotTransitionRepositoryTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SpotTransitionRepository spotTransitionRepository;
+
+    @Test
+    void addsEachPairExactlyOnce() {
+        // 다른 요청이 먼저 만든 행
+        jdbcTemplate.update("INSERT INTO spot_transition (from_spot_id, to_spot_id, count) VALUES (1, 2, 3)");
+
+        spotTransitionRepository.addCounts(List.of(1L, 2L, 3L, 2L, 3L), 1);
+        Assertions.assertEquals(4, count(1, 2));
+        Assertions.assertEquals(2, count(2, 3));
+        Assertions.assertEquals(1, count(3, 2));
+
+        spotTransitionRepository.addCounts(List.of(2L, 3L), 1);
+        Assertions.assertEquals(3, count(2, 3));
+
+        spotTransitionRepository.addCounts(List.of(1L, 2L, 3L), -1);
+        Assertions.assertEquals(3, count(1, 2));
+        Assertions.assertEquals(2, count(2, 3));
+        Assertions.assertEquals(3, rows());
+    }
+
+    @Test
+    void removingUnknownPairCreatesNoRow() {
+        spotTransitionRepository.addCounts(List.of(5L, 6L), -1);
+        Assertions.assertEquals(0, rows());
+    }
+
+    private int count(long from, long to) {
+        return jdbcTemplate.queryForObject("SELECT count FROM spot_transition WHERE from_spot_id = ? AND to_spot_id = ?",
+                Integer.class, from, to);
+    }
+
+    private int rows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM spot_transition", Integer.class);
+    }
+}
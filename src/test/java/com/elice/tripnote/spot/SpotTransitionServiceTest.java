@@ -0,0 +1,58 @@
+package com.elice.tripnote.spot;
+
+import com.elice.tripnote.domain.spot.constant.Region;
+import com.elice.tripnote.domain.spot.dto.NextSpotDTO;
+import com.elice.tripnote.domain.spot.entity.Spot;
+import com.elice.tripnote.domain.spot.repository.SpotTransitionRepository;
+import com.elice.tripnote.domain.spot.service.SpotTransitionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+public class SpotTransitionServiceTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void cachedNextSpotsAreEvictedOnlyAfterCommit() {
+        SpotTransitionRepository spotTransitionRepository = mock(SpotTransitionRepository.class);
+        when(spotTransitionRepository.findTopNextSpots(1L, 3)).thenReturn(List.of(next(2L, 2), next(3L, 1), next(4L, 1)));
+        when(spotTransitionRepository.sumCounts(1L)).thenReturn(4L);
+        SpotTransitionService service = new SpotTransitionService(spotTransitionRepository, 100, 60_000);
+
+        Assertions.assertEquals(0.5, service.getNextSpots(1L).values().iterator().next());
+
+        // 롤백되면 캐시가 그대로 남는다.
+        TransactionSynchronizationManager.initSynchronization();
+        service.addRoute(List.of(1L, 2L));
+        TransactionSynchronizationManager.clearSynchronization();
+        service.getNextSpots(1L);
+        verify(spotTransitionRepository, times(1)).findTopNextSpots(1L, 3);
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.addRoute(List.of(1L, 2L));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        // 커밋 전에는 지우지 않는다.
+        service.getNextSpots(1L);
+        verify(spotTransitionRepository, times(1)).findTopNextSpots(1L, 3);
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        service.getNextSpots(1L);
+        verify(spotTransitionRepository, times(2)).findTopNextSpots(1L, 3);
+        verify(spotTransitionRepository, times(2)).addCounts(List.of(1L, 2L), 1);
+    }
+
+    private static NextSpotDTO next(Long id, int count) {
+        return new NextSpotDTO(new Spot(id, "여행지" + id, null, Region.SEOUL, "서울특별시", 37.5, 127.0), count);
+    }
+}